@@ -1,27 +1,169 @@
 -- Initialize database schema
+-- Order ids are time-ordered UUIDv7 strings: fixed-width ASCII with binary collation keeps
+-- primary-key and foreign-key entries at 36 bytes and compares them bytewise.
+-- Compact row format: status holds OrderStatus codes, amounts are BIGINT counts of the currency's
+-- minor unit (cents for USD, yen for JPY, fils for BHD; ten-thousandths for currencies without one)
+-- and currencies are ISO 4217 numeric codes (840 = USD). item_count and final_amount are
+-- denormalized from the lines and discount so order lists never touch order_items.
 CREATE TABLE IF NOT EXISTS orders (
-    id VARCHAR(36) PRIMARY KEY,
+    id CHAR(36) CHARACTER SET ascii COLLATE ascii_bin PRIMARY KEY,
     customer_id VARCHAR(36) NOT NULL,
     customer_email VARCHAR(255) NOT NULL,
-    status VARCHAR(20) NOT NULL,
-    total_amount DECIMAL(19, 4) NOT NULL,
-    discount_amount DECIMAL(19, 4),
-    currency VARCHAR(3) NOT NULL,
+    status SMALLINT NOT NULL,
+    total_amount BIGINT NOT NULL,
+    discount_amount BIGINT,
+    currency SMALLINT NOT NULL,
+    discount_currency SMALLINT,
+    item_count INT NOT NULL,
+    final_amount BIGINT NOT NULL,
+    version BIGINT NOT NULL DEFAULT 0,
     created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
     updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP
 );
 
+-- MySQL has no sequences; Hibernate emulates order_items_seq with this single-row table
+CREATE TABLE IF NOT EXISTS order_items_seq (
+    next_val BIGINT NOT NULL
+);
+INSERT INTO order_items_seq (next_val) SELECT 1 FROM DUAL WHERE NOT EXISTS (SELECT * FROM order_items_seq);
+
 CREATE TABLE IF NOT EXISTS order_items (
-    id VARCHAR(36) PRIMARY KEY,
-    order_id VARCHAR(36) NOT NULL,
+    id BIGINT PRIMARY KEY,
+    order_id CHAR(36) CHARACTER SET ascii COLLATE ascii_bin NOT NULL,
     product_id VARCHAR(36) NOT NULL,
     product_name VARCHAR(255) NOT NULL,
     quantity INT NOT NULL,
-    unit_price DECIMAL(19, 4) NOT NULL,
-    currency VARCHAR(3) NOT NULL,
+    unit_price BIGINT NOT NULL,
+    currency SMALLINT NOT NULL,
     FOREIGN KEY (order_id) REFERENCES orders(id) ON DELETE CASCADE
 );
 
-CREATE INDEX idx_orders_customer ON orders(customer_id);
-CREATE INDEX idx_orders_status ON orders(status);
+CREATE TABLE IF NOT EXISTS idempotency_keys (
+    idempotency_key VARCHAR(100) PRIMARY KEY,
+    request_fingerprint VARCHAR(255) NOT NULL,
+    response_status INT NOT NULL,
+    content_type VARCHAR(100),
+    response_body LONGBLOB,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE TABLE IF NOT EXISTS command_statuses (
+    command_id CHAR(36) CHARACTER SET ascii COLLATE ascii_bin PRIMARY KEY,
+    status VARCHAR(16) NOT NULL,
+    order_id CHAR(36) CHARACTER SET ascii COLLATE ascii_bin,
+    error VARCHAR(1000),
+    recorded_at TIMESTAMP NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS order_snapshots (
+    order_id CHAR(36) CHARACTER SET ascii COLLATE ascii_bin NOT NULL,
+    version BIGINT NOT NULL,
+    payload LONGTEXT NOT NULL,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY (order_id, version)
+);
+
+-- How far EventStoreOutboxRelay has copied the event store into the outbox
+CREATE TABLE IF NOT EXISTS event_store_checkpoints (
+    name VARCHAR(100) PRIMARY KEY,
+    next_offset BIGINT NOT NULL,
+    updated_at TIMESTAMP NOT NULL
+);
+
+-- Transactional outbox: processed tracks delivery to the broker, projected the in-database read models
+CREATE TABLE IF NOT EXISTS outbox (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    aggregate_type VARCHAR(255) NOT NULL,
+    aggregate_id VARCHAR(255) NOT NULL,
+    event_type VARCHAR(255) NOT NULL,
+    payload LONGTEXT NOT NULL,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    processed BOOLEAN NOT NULL DEFAULT FALSE,
+    projected BOOLEAN NOT NULL DEFAULT FALSE
+);
+
+-- Cold storage for DELIVERED/CANCELLED orders moved out by OrderArchiver; same columns, no foreign keys
+CREATE TABLE IF NOT EXISTS orders_archive (
+    id CHAR(36) CHARACTER SET ascii COLLATE ascii_bin PRIMARY KEY,
+    customer_id VARCHAR(36) NOT NULL,
+    customer_email VARCHAR(255) NOT NULL,
+    status SMALLINT NOT NULL,
+    total_amount BIGINT NOT NULL,
+    discount_amount BIGINT,
+    currency SMALLINT NOT NULL,
+    discount_currency SMALLINT,
+    item_count INT NOT NULL,
+    final_amount BIGINT NOT NULL,
+    created_at TIMESTAMP NOT NULL,
+    updated_at TIMESTAMP NOT NULL,
+    archived_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE TABLE IF NOT EXISTS order_items_archive (
+    id BIGINT PRIMARY KEY,
+    order_id CHAR(36) CHARACTER SET ascii COLLATE ascii_bin NOT NULL,
+    product_id VARCHAR(36) NOT NULL,
+    product_name VARCHAR(255) NOT NULL,
+    quantity INT NOT NULL,
+    unit_price BIGINT NOT NULL,
+    currency SMALLINT NOT NULL
+);
+
+-- Read-model projections maintained by OrderProjector from the outbox; amounts in minor units as above
+CREATE TABLE IF NOT EXISTS order_summary_view (
+    order_id CHAR(36) CHARACTER SET ascii COLLATE ascii_bin PRIMARY KEY,
+    customer_id VARCHAR(36) NOT NULL,
+    status SMALLINT NOT NULL,
+    final_amount BIGINT NOT NULL,
+    currency SMALLINT NOT NULL,
+    item_count INT NOT NULL,
+    created_at TIMESTAMP NOT NULL,
+    updated_at TIMESTAMP NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS customer_order_stats (
+    customer_id VARCHAR(36) PRIMARY KEY,
+    pending_orders BIGINT NOT NULL DEFAULT 0,
+    confirmed_orders BIGINT NOT NULL DEFAULT 0,
+    paid_orders BIGINT NOT NULL DEFAULT 0,
+    shipped_orders BIGINT NOT NULL DEFAULT 0,
+    delivered_orders BIGINT NOT NULL DEFAULT 0,
+    cancelled_orders BIGINT NOT NULL DEFAULT 0,
+    total_spent BIGINT NOT NULL DEFAULT 0,
+    total_items BIGINT NOT NULL DEFAULT 0,
+    currency SMALLINT,
+    mixed_currencies BOOLEAN NOT NULL DEFAULT FALSE,
+    updated_at TIMESTAMP NULL
+);
+
+-- Striped live order counts per status; a status's count is the sum of its rows
+CREATE TABLE IF NOT EXISTS order_counters (
+    status SMALLINT NOT NULL,
+    stripe SMALLINT NOT NULL,
+    order_count BIGINT NOT NULL,
+    PRIMARY KEY (status, stripe)
+);
+
+-- Single row written on the primary and read back from the replica to measure replication lag
+CREATE TABLE IF NOT EXISTS replication_heartbeat (
+    id INT PRIMARY KEY,
+    beat_millis BIGINT NOT NULL
+);
+
+INSERT IGNORE INTO replication_heartbeat (id, beat_millis) VALUES (1, 0);
+
+-- Covering indexes for the grouped customer statistics query
+CREATE INDEX idx_orders_customer_status ON orders(customer_id, status, final_amount, item_count, currency);
+CREATE INDEX idx_orders_status_updated ON orders(status, updated_at);
+CREATE INDEX idx_orders_created_id ON orders(created_at, id);
 CREATE INDEX idx_order_items_order ON order_items(order_id);
+CREATE INDEX idx_orders_archive_customer_status ON orders_archive(customer_id, status, final_amount, item_count, currency);
+CREATE INDEX idx_orders_archive_status ON orders_archive(status);
+CREATE INDEX idx_orders_archive_created_id ON orders_archive(created_at, id);
+CREATE INDEX idx_order_items_archive_order ON order_items_archive(order_id);
+CREATE INDEX idx_outbox_processed ON outbox(processed);
+CREATE INDEX idx_outbox_created_at ON outbox(created_at);
+CREATE INDEX idx_outbox_projected ON outbox(aggregate_type, projected, id);
+CREATE INDEX idx_idempotency_keys_created_at ON idempotency_keys(created_at);
+CREATE INDEX idx_command_statuses_recorded_at ON command_statuses(recorded_at);
+CREATE INDEX idx_order_summary_view_customer ON order_summary_view(customer_id);
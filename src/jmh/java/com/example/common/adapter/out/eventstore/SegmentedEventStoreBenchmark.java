@@ -0,0 +1,74 @@
+package com.example.common.adapter.out.eventstore;
+
+import com.example.order.domain.event.OrderConfirmedEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class SegmentedEventStoreBenchmark {
+
+    private static final int AGGREGATES = 10_000;
+
+    private Path directory;
+    private SegmentedEventStore store;
+    private long appended;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("event-store-bench");
+        store = new SegmentedEventStore(new ObjectMapper().findAndRegisterModules(), directory.toString(), 256 * 1024 * 1024);
+        for (int i = 0; i < 100_000; i++) {
+            store.append(new OrderConfirmedEvent("order-" + (i % AGGREGATES), Instant.now()));
+        }
+        appended = 100_000;
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        store.close();
+        try (Stream<Path> files = Files.walk(directory)) {
+            files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    @Benchmark
+    public long append() {
+        return store.append(new OrderConfirmedEvent("order-" + ThreadLocalRandom.current().nextInt(AGGREGATES), Instant.now()));
+    }
+
+    @Benchmark
+    @Threads(4)
+    public long appendContended() {
+        return store.append(new OrderConfirmedEvent("order-" + ThreadLocalRandom.current().nextInt(AGGREGATES), Instant.now()));
+    }
+
+    @Benchmark
+    public Object loadAggregate() {
+        return store.loadEvents("order-" + ThreadLocalRandom.current().nextInt(AGGREGATES)).collectList().block();
+    }
+
+    @Benchmark
+    public Object loadRange() {
+        return store.loadRange(ThreadLocalRandom.current().nextLong(appended - 100), 100).collectList().block();
+    }
+}
@@ -0,0 +1,119 @@
+package com.example.order.adapter.out.persistence;
+
+import com.example.common.adapter.out.persistence.ReplicaRouter;
+import com.example.order.domain.model.OrderStatus;
+import io.smallrye.mutiny.Uni;
+import jakarta.persistence.Persistence;
+import org.hibernate.reactive.mutiny.Mutiny;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Customer statistics for one customer with many orders: the grouped aggregate over the order tables against
+ * the primary-key read of {@code customer_order_stats}. Needs the MySQL from {@code docker-compose.yml} with
+ * {@code init.sql} applied; override the connection with {@code -Dbench.db.url}, {@code -Dbench.db.user} and
+ * {@code -Dbench.db.password}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CustomerStatsQueryBenchmark {
+
+    private static final String CUSTOMER = "bench-customer";
+    private static final long FIRST_ITEM_ID = 4_000_000_000L;
+    private static final int INSERT_CHUNK = 1_000;
+
+    @Param({"1000", "100000"})
+    private int orders;
+
+    private Mutiny.SessionFactory sessionFactory;
+    private OrderPersistenceQueryAdapter aggregate;
+    private OrderPersistenceQueryAdapter projection;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        sessionFactory = Persistence.createEntityManagerFactory("order-service", Map.of(
+                "jakarta.persistence.jdbc.url", System.getProperty("bench.db.url", "jdbc:mysql://localhost:3307/orderdb"),
+                "jakarta.persistence.jdbc.user", System.getProperty("bench.db.user", "orderuser"),
+                "jakarta.persistence.jdbc.password", System.getProperty("bench.db.password", "orderpass"),
+                "hibernate.hbm2ddl.auto", "none",
+                "hibernate.show_sql", "false"
+        )).unwrap(Mutiny.SessionFactory.class);
+        ReplicaRouter router = ReplicaRouter.primaryOnly(sessionFactory);
+        OrderCounters counters = new OrderCounters(sessionFactory, router, "approximate", 1, Duration.ofMinutes(1));
+        aggregate = new OrderPersistenceQueryAdapter(router, counters, false, 500);
+        projection = new OrderPersistenceQueryAdapter(router, counters, true, 500);
+
+        deleteSeededRows();
+        for (int from = 0; from < orders; from += INSERT_CHUNK) {
+            seedChunk(from, Math.min(from + INSERT_CHUNK, orders));
+        }
+        sessionFactory.withTransaction(session -> execute(session, "insert into customer_order_stats (customer_id,"
+                        + " delivered_orders, total_spent, total_items, currency) values (?, ?, ?, ?, 840)",
+                        CUSTOMER, orders, orders * 1_000L, orders * 2L))
+                .await().indefinitely();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        deleteSeededRows();
+        sessionFactory.close();
+    }
+
+    @Benchmark
+    public Object groupedAggregate() {
+        return aggregate.findCustomerStats(CUSTOMER).block();
+    }
+
+    @Benchmark
+    public Object projectionLookup() {
+        return projection.findCustomerStats(CUSTOMER).block();
+    }
+
+    private void seedChunk(int from, int to) {
+        StringBuilder orderRows = new StringBuilder("insert into orders (id, customer_id, customer_email, status,"
+                + " total_amount, currency, item_count, final_amount, created_at, updated_at) values ");
+        StringBuilder itemRows = new StringBuilder("insert into order_items (id, order_id, product_id, product_name,"
+                + " quantity, unit_price, currency) values ");
+        OrderStatus[] statuses = OrderStatus.values();
+        for (int i = from; i < to; i++) {
+            String separator = i == from ? "" : ", ";
+            String orderId = String.format("bench-%030d", i);
+            orderRows.append(separator).append("('").append(orderId).append("', '").append(CUSTOMER)
+                    .append("', 'bench@example.com', ").append(statuses[i % statuses.length].code())
+                    .append(", 1000, 840, 2, 1000, current_timestamp, current_timestamp)");
+            itemRows.append(separator).append('(').append(FIRST_ITEM_ID + i).append(", '").append(orderId)
+                    .append("', 'prod-001', 'Product', 2, 500, 840)");
+        }
+        sessionFactory.withTransaction(session -> execute(session, orderRows.toString())
+                        .chain(() -> execute(session, itemRows.toString())))
+                .await().indefinitely();
+    }
+
+    private void deleteSeededRows() {
+        sessionFactory.withTransaction(session -> execute(session, "delete from order_items where id >= ?", FIRST_ITEM_ID)
+                        .chain(() -> execute(session, "delete from orders where customer_id = ?", CUSTOMER))
+                        .chain(() -> execute(session, "delete from customer_order_stats where customer_id = ?", CUSTOMER)))
+                .await().indefinitely();
+    }
+
+    private static Uni<Integer> execute(Mutiny.Session session, String sql, Object... parameters) {
+        Mutiny.MutationQuery query = session.createNativeQuery(sql);
+        for (int i = 0; i < parameters.length; i++) {
+            query.setParameter(i + 1, parameters[i]);
+        }
+        return query.executeUpdate();
+    }
+}
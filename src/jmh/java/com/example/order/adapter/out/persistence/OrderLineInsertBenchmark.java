@@ -0,0 +1,95 @@
+package com.example.order.adapter.out.persistence;
+
+import com.example.common.domain.valueobject.Email;
+import com.example.common.domain.valueobject.Money;
+import com.example.order.domain.model.Order;
+import com.example.order.domain.model.OrderItem;
+import jakarta.persistence.Persistence;
+import org.hibernate.reactive.mutiny.Mutiny;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Time to persist one order as its line count grows, with the order_items inserts batched as configured in
+ * {@code HibernateReactiveConfig} against one statement per line ({@code batchSize} 1). Batched, a 50-line
+ * order should cost far less than 50 single-line ones. Needs the MySQL from {@code docker-compose.yml} with
+ * {@code init.sql} applied; override the connection with {@code -Dbench.db.url}, {@code -Dbench.db.user} and
+ * {@code -Dbench.db.password}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class OrderLineInsertBenchmark {
+
+    private static final String CUSTOMER = "bench-lines";
+
+    @Param({"1", "10", "50"})
+    private int lineCount;
+
+    @Param({"1", "50"})
+    private int batchSize;
+
+    private Mutiny.SessionFactory sessionFactory;
+    private Email email;
+    private List<OrderItem> lines;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        sessionFactory = Persistence.createEntityManagerFactory("order-service", Map.of(
+                "jakarta.persistence.jdbc.url", System.getProperty("bench.db.url", "jdbc:mysql://localhost:3307/orderdb"),
+                "jakarta.persistence.jdbc.user", System.getProperty("bench.db.user", "orderuser"),
+                "jakarta.persistence.jdbc.password", System.getProperty("bench.db.password", "orderpass"),
+                "hibernate.hbm2ddl.auto", "none",
+                "hibernate.show_sql", "false",
+                "hibernate.jdbc.batch_size", String.valueOf(batchSize),
+                "hibernate.order_inserts", "true"
+        )).unwrap(Mutiny.SessionFactory.class);
+        email = Email.of("bench@example.com");
+        lines = new ArrayList<>(lineCount);
+        for (int i = 0; i < lineCount; i++) {
+            lines.add(OrderItem.of("prod-" + i, "Product " + i, 1, Money.of(1, "USD")));
+        }
+        deleteSeededRows();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        deleteSeededRows();
+        sessionFactory.close();
+    }
+
+    @Benchmark
+    public Order persistOrder() {
+        // Items belong to one order, so each order gets its own copies
+        List<OrderItem> items = lines.stream()
+                .map(line -> OrderItem.of(line.getProductId(), line.getProductName(), line.getQuantity(), line.getUnitPrice()))
+                .toList();
+        Order order = Order.create(CUSTOMER, email, items);
+        return sessionFactory.withTransaction(session -> session.persist(order).replaceWith(order))
+                .await().indefinitely();
+    }
+
+    private void deleteSeededRows() {
+        sessionFactory.withTransaction(session -> session.createNativeQuery(
+                                "delete from order_items where order_id in (select id from orders where customer_id = ?)")
+                        .setParameter(1, CUSTOMER)
+                        .executeUpdate()
+                        .chain(() -> session.createNativeQuery("delete from orders where customer_id = ?")
+                                .setParameter(1, CUSTOMER)
+                                .executeUpdate()))
+                .await().indefinitely();
+    }
+}
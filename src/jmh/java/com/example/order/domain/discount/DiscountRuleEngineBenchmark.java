@@ -0,0 +1,61 @@
+package com.example.order.domain.discount;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of one discount evaluation as the rule count grows. Orders cycle through a precomputed set of totals
+ * and item counts so branch prediction does not see a single input.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class DiscountRuleEngineBenchmark {
+
+    private static final int ORDERS = 1024;
+
+    @Param({"2", "16", "64", "256", "1024"})
+    private int ruleCount;
+
+    private DiscountRuleEngine engine;
+    private long[] totals;
+    private int[] itemCounts;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        List<DiscountRule> rules = new ArrayList<>(ruleCount);
+        for (int i = 0; i < ruleCount; i++) {
+            String criterion = i % 2 == 0 ? "min-total" : "min-items";
+            String threshold = i % 2 == 0 ? (i * 25) + ".00" : String.valueOf(i);
+            rules.add(DiscountRule.parse("rule-" + i + ":" + criterion + ":" + threshold + ":0.01"));
+        }
+        engine = new DiscountRuleEngine(rules, new BigDecimal("15"));
+
+        SplittableRandom random = new SplittableRandom(42);
+        totals = new long[ORDERS];
+        itemCounts = new int[ORDERS];
+        for (int i = 0; i < ORDERS; i++) {
+            totals[i] = random.nextLong(1, 1_000_001);
+            itemCounts[i] = random.nextInt(1, 2 * ruleCount + 2);
+        }
+    }
+
+    @Benchmark
+    public int evaluate() {
+        int i = next++ & (ORDERS - 1);
+        return engine.discountBasisPoints(totals[i], itemCounts[i]);
+    }
+}
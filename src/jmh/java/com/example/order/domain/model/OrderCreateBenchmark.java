@@ -0,0 +1,64 @@
+package com.example.order.domain.model;
+
+import com.example.common.domain.valueobject.Email;
+import com.example.common.domain.valueobject.Money;
+import com.example.order.domain.discount.DiscountRule;
+import com.example.order.domain.discount.DiscountRuleEngine;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of {@link Order#create} for growing carts, up to B2B sizes that take the parallel pricing path.
+ * Run with the gc profiler (enabled in build.gradle) to see allocated bytes per operation. Line prices are
+ * kept in cents so the largest cart still passes the order price cap.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class OrderCreateBenchmark {
+
+    @Param({"1", "10", "100", "1000", "20000"})
+    private int lineCount;
+
+    private Email email;
+    private List<OrderItem> items;
+    private DiscountRuleEngine discountRules;
+
+    @Setup
+    public void setUp() {
+        email = Email.of("bench@example.com");
+        discountRules = new DiscountRuleEngine(List.of(
+                DiscountRule.parse("vip:min-total:1000.00:10"),
+                DiscountRule.parse("bulk:min-items:10:5")
+        ), new BigDecimal("15"));
+        items = new ArrayList<>(lineCount);
+        for (int i = 0; i < lineCount; i++) {
+            items.add(OrderItem.of("prod-" + i, "Product " + i, 1 + i % 3, Money.ofMinor(1 + i % 10, "USD")));
+        }
+    }
+
+    @Benchmark
+    public Order create() {
+        return Order.create("customer-bench", email, items, discountRules);
+    }
+
+    @Benchmark
+    public Money sumLineTotals() {
+        Money total = Money.zero("USD");
+        for (OrderItem item : items) {
+            total = total.add(item.calculateSubtotal());
+        }
+        return total;
+    }
+}
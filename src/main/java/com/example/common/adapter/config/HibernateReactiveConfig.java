@@ -2,26 +2,59 @@ package com.example.common.adapter.config;
 
 import jakarta.persistence.Persistence;
 import org.hibernate.reactive.mutiny.Mutiny;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
 
+import java.util.HashMap;
 import java.util.Map;
 
 @Configuration
 public class HibernateReactiveConfig {
 
     @Bean
-    public Mutiny.SessionFactory sessionFactory() {
+    @Primary
+    public Mutiny.SessionFactory sessionFactory(
+            @Value("${persistence.statement-inspector:}") String statementInspector) {
         // In a real app, these would come from application.yml
-        Map<String, Object> props = Map.of(
-            "jakarta.persistence.jdbc.url", "jdbc:postgresql://localhost:5432/orders",
-            "jakarta.persistence.jdbc.user", "user",
-            "jakarta.persistence.jdbc.password", "password",
-            "hibernate.connection.pool_size", "10",
-            "hibernate.show_sql", "true",
-            "hibernate.format_sql", "true",
-            "hibernate.hbm2ddl.auto", "update"
-        );
+        return createSessionFactory("jdbc:postgresql://localhost:5432/orders", "update", statementInspector);
+    }
+
+    /**
+     * Session factory on a read replica of the primary database, used by the query side when
+     * {@code persistence.replica.url} is set. It never touches the schema, which replicates from the primary.
+     */
+    @Bean
+    @ConditionalOnProperty(name = "persistence.replica.url")
+    public Mutiny.SessionFactory replicaSessionFactory(
+            @Value("${persistence.replica.url}") String url,
+            @Value("${persistence.statement-inspector:}") String statementInspector) {
+        return createSessionFactory(url, "none", statementInspector);
+    }
+
+    /**
+     * {@code statementInspector}, when not blank, names a Hibernate {@code StatementInspector} class that is shown
+     * every SQL statement before it is sent, e.g. for tests that count the statements an operation issues.
+     */
+    private static Mutiny.SessionFactory createSessionFactory(String url, String schemaAction, String statementInspector) {
+        Map<String, Object> props = new HashMap<>(Map.ofEntries(
+            Map.entry("jakarta.persistence.jdbc.url", url),
+            Map.entry("jakarta.persistence.jdbc.user", "user"),
+            Map.entry("jakarta.persistence.jdbc.password", "password"),
+            Map.entry("hibernate.connection.pool_size", "10"),
+            Map.entry("hibernate.show_sql", "true"),
+            Map.entry("hibernate.format_sql", "true"),
+            Map.entry("hibernate.hbm2ddl.auto", schemaAction),
+            // Batch inserts/updates per table (needs non-IDENTITY ids, see OrderItem)
+            Map.entry("hibernate.jdbc.batch_size", "50"),
+            Map.entry("hibernate.order_inserts", "true"),
+            Map.entry("hibernate.order_updates", "true")
+        ));
+        if (!statementInspector.isBlank()) {
+            props.put("hibernate.session_factory.statement_inspector", statementInspector);
+        }
 
         return Persistence.createEntityManagerFactory("order-service", props)
                 .unwrap(Mutiny.SessionFactory.class);
@@ -0,0 +1,54 @@
+package com.example.common.adapter.in.web;
+
+import com.example.common.adapter.out.persistence.ReplicaRouter;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+/**
+ * Read-your-writes across the primary and its replica through the {@code Consistency-Token} header.
+ * Responses to synchronous writes carry a token no older than the write's commit; a request that sends a token
+ * back has it put in the Reactor context, where {@link ReplicaRouter} keeps its reads off a replica that is
+ * further behind. Malformed tokens are ignored.
+ */
+@Component
+public class ConsistencyTokenWebFilter implements WebFilter {
+
+    public static final String CONSISTENCY_TOKEN_HEADER = "Consistency-Token";
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        ServerHttpRequest request = exchange.getRequest();
+        if (request.getMethod() != HttpMethod.GET && request.getMethod() != HttpMethod.HEAD) {
+            ServerHttpResponse response = exchange.getResponse();
+            response.beforeCommit(() -> Mono.fromRunnable(() -> {
+                // A synchronous write has committed by the time its response is written; an accepted one may not have
+                if (response.getStatusCode() != HttpStatus.ACCEPTED) {
+                    response.getHeaders().set(CONSISTENCY_TOKEN_HEADER, Long.toString(System.currentTimeMillis()));
+                }
+            }));
+        }
+
+        Long token = parse(request.getHeaders().getFirst(CONSISTENCY_TOKEN_HEADER));
+        return token == null
+                ? chain.filter(exchange)
+                : chain.filter(exchange).contextWrite(context -> context.put(ReplicaRouter.CONSISTENCY_TOKEN, token));
+    }
+
+    private static Long parse(String header) {
+        if (header == null) {
+            return null;
+        }
+        try {
+            return Long.parseLong(header.trim());
+        } catch (NumberFormatException malformed) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,533 @@
+package com.example.common.adapter.out.eventstore;
+
+import com.example.common.domain.event.DomainEvent;
+import com.example.common.domain.event.StoredEvent;
+import com.example.common.domain.port.DomainEventStore;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+/**
+ * Append-only event store on memory-mapped segment files.
+ * <p>
+ * Each segment is a fixed-size file named after the offset of its first event and holds records of
+ * {@code [int length][int crc32][long offset][long version][short idLength][id][short typeLength][type][json]},
+ * terminated by a zero length. The checksum covers everything after itself. When a record does not fit,
+ * the active segment is forced to disk and a new one is started. Appends are flushed on
+ * {@code event-store.flush-interval-ms} and on segment roll, not one by one.
+ * <p>
+ * Offsets are global and strictly increasing; versions count events per aggregate. The offset and
+ * per-aggregate indexes live in memory and are rebuilt by scanning the segments on startup; the scan
+ * stops at the first record with a bad checksum or a non-increasing offset. {@link #compact(Predicate)}
+ * rewrites sealed segments without the dropped events and keeps the offsets of the remaining ones.
+ */
+@Component
+@ConditionalOnProperty(name = "event-store.enabled", havingValue = "true")
+public class SegmentedEventStore implements DomainEventStore {
+
+    private static final Logger log = LoggerFactory.getLogger(SegmentedEventStore.class);
+
+    private static final String SEGMENT_SUFFIX = ".segment";
+    private static final int RECORD_HEADER_SIZE = 24;
+    private static final int END_MARKER_SIZE = Integer.BYTES;
+
+    private final ObjectMapper objectMapper;
+    private final Path directory;
+    private final int segmentSize;
+    private final Object lock = new Object();
+    private final Object compactionLock = new Object();
+    private final List<Segment> segments = new ArrayList<>();
+    private final Map<String, AggregateIndex> aggregateIndexes = new HashMap<>();
+    private final Map<String, Class<? extends DomainEvent>> eventTypes = new ConcurrentHashMap<>();
+    private long nextOffset;
+
+    public SegmentedEventStore(ObjectMapper objectMapper,
+                               @Value("${event-store.directory:./data/events}") String directory,
+                               @Value("${event-store.segment-size-bytes:67108864}") int segmentSize) {
+        this.objectMapper = objectMapper;
+        this.directory = Path.of(directory);
+        this.segmentSize = segmentSize;
+        try {
+            Files.createDirectories(this.directory);
+            recover();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to open event store in " + directory, e);
+        }
+    }
+
+    @Override
+    public Mono<Void> save(DomainEvent event) {
+        return Mono.fromRunnable(() -> append(event));
+    }
+
+    @Override
+    public Mono<Long> append(String aggregateId, long expectedVersion, List<? extends DomainEvent> events) {
+        return Mono.fromCallable(() -> {
+            List<EncodedEvent> encoded = events.stream().map(this::encode).toList();
+            byte[] id = aggregateId.getBytes(StandardCharsets.UTF_8);
+            synchronized (lock) {
+                AggregateIndex index = aggregateIndexes.computeIfAbsent(aggregateId, key -> new AggregateIndex());
+                if (index.lastVersion != expectedVersion) {
+                    throw new IllegalStateException("Expected version " + expectedVersion + " of " + aggregateId
+                            + " but found " + index.lastVersion);
+                }
+                // Size checks first so that a batch is never written only in part
+                encoded.forEach(event -> recordSize(id, event));
+                for (EncodedEvent event : encoded) {
+                    write(index, id, event);
+                }
+                return index.lastVersion;
+            }
+        });
+    }
+
+    /**
+     * Appends the event and returns its global offset.
+     */
+    public long append(DomainEvent event) {
+        EncodedEvent encoded = encode(event);
+        byte[] id = event.aggregateId().getBytes(StandardCharsets.UTF_8);
+        synchronized (lock) {
+            AggregateIndex index = aggregateIndexes.computeIfAbsent(event.aggregateId(), key -> new AggregateIndex());
+            return write(index, id, encoded);
+        }
+    }
+
+    private long write(AggregateIndex index, byte[] id, EncodedEvent event) {
+        Segment segment = activeSegmentWithRoom(recordSize(id, event));
+        long offset = nextOffset++;
+        long version = index.lastVersion + 1;
+        segment.write(offset, version, id, event.type(), event.body());
+        index.add(offset, version);
+        return offset;
+    }
+
+    private int recordSize(byte[] id, EncodedEvent event) {
+        int recordSize = RECORD_HEADER_SIZE + Short.BYTES + id.length + event.size();
+        if (recordSize + END_MARKER_SIZE > segmentSize) {
+            throw new IllegalArgumentException("Event of " + recordSize + " bytes does not fit in a segment");
+        }
+        return recordSize;
+    }
+
+    private EncodedEvent encode(DomainEvent event) {
+        return new EncodedEvent(event.getClass().getName().getBytes(StandardCharsets.UTF_8), serialize(event));
+    }
+
+    @Override
+    public Flux<StoredEvent> loadEvents(String aggregateId, long afterVersion) {
+        return Flux.defer(() -> {
+            long[] offsets;
+            synchronized (lock) {
+                AggregateIndex index = aggregateIndexes.get(aggregateId);
+                if (index == null) {
+                    return Flux.empty();
+                }
+                offsets = index.offsetsAfter(afterVersion);
+            }
+            return Flux.range(0, offsets.length)
+                    .mapNotNull(i -> read(offsets[i]))
+                    .map(this::toStoredEvent);
+        });
+    }
+
+    @Override
+    public Flux<StoredEvent> loadRange(long fromOffset, int maxEvents) {
+        return Flux.defer(() -> {
+            List<RawEvent> events = new ArrayList<>(Math.min(maxEvents, 1024));
+            synchronized (lock) {
+                for (int s = segmentIndexFor(fromOffset); s < segments.size() && events.size() < maxEvents; s++) {
+                    Segment segment = segments.get(s);
+                    for (int i = segment.firstIndexAtOrAfter(fromOffset); i < segment.count && events.size() < maxEvents; i++) {
+                        events.add(segment.read(segment.positions[i]));
+                    }
+                }
+            }
+            return Flux.fromIterable(events).map(this::toStoredEvent);
+        });
+    }
+
+    /**
+     * Rewrites every sealed segment keeping only the events matching {@code retain}, and returns
+     * the number of events dropped. The active segment is never compacted.
+     */
+    public int compact(Predicate<StoredEvent> retain) {
+        synchronized (compactionLock) {
+            List<Segment> sealed;
+            synchronized (lock) {
+                sealed = new ArrayList<>(segments.subList(0, segments.size() - 1));
+            }
+            int dropped = 0;
+            for (Segment segment : sealed) {
+                dropped += compactSegment(segment, retain);
+            }
+            return dropped;
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${event-store.flush-interval-ms:1000}")
+    public void flush() {
+        Segment active;
+        synchronized (lock) {
+            active = segments.get(segments.size() - 1);
+        }
+        active.buffer.force();
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        synchronized (lock) {
+            for (Segment segment : segments) {
+                segment.buffer.force();
+                segment.channel.close();
+            }
+        }
+    }
+
+    private void recover() throws IOException {
+        List<Path> files;
+        try (Stream<Path> listing = Files.list(directory)) {
+            files = listing.filter(path -> path.getFileName().toString().endsWith(SEGMENT_SUFFIX))
+                    .sorted()
+                    .toList();
+        }
+
+        long lastOffset = -1;
+        for (Path file : files) {
+            Segment segment = Segment.open(file, baseOffsetOf(file), segmentSize);
+            lastOffset = scan(segment, lastOffset);
+            segments.add(segment);
+        }
+        nextOffset = lastOffset + 1;
+
+        if (segments.isEmpty()) {
+            segments.add(newSegment(nextOffset));
+        } else {
+            // Discard whatever follows the last valid record, such as a write torn by a crash
+            Segment active = segments.get(segments.size() - 1);
+            if (active.writePosition + END_MARKER_SIZE <= active.capacity) {
+                active.buffer.putInt(active.writePosition, 0);
+            }
+        }
+        log.info("Recovered event store: {} segments, {} aggregates, next offset {}",
+                segments.size(), aggregateIndexes.size(), nextOffset);
+    }
+
+    private long scan(Segment segment, long lastOffset) {
+        int position = 0;
+        while (segment.isValidRecordAt(position, lastOffset)) {
+            RawEvent event = segment.read(position);
+            segment.index(event.offset(), position);
+            aggregateIndexes.computeIfAbsent(event.aggregateId(), key -> new AggregateIndex())
+                    .add(event.offset(), event.version());
+            lastOffset = event.offset();
+            position += segment.buffer.getInt(position);
+        }
+        segment.writePosition = position;
+        return lastOffset;
+    }
+
+    private int compactSegment(Segment segment, Predicate<StoredEvent> retain) {
+        List<RawEvent> kept = new ArrayList<>();
+        List<RawEvent> dropped = new ArrayList<>();
+        for (int i = 0; i < segment.count; i++) {
+            RawEvent event = segment.read(segment.positions[i]);
+            (retain.test(toStoredEvent(event)) ? kept : dropped).add(event);
+        }
+        if (dropped.isEmpty()) {
+            return 0;
+        }
+
+        try {
+            Segment replacement = kept.isEmpty() ? null : rewrite(segment, kept);
+            synchronized (lock) {
+                segment.channel.close();
+                if (replacement == null) {
+                    Files.delete(segment.path);
+                    segments.remove(segment);
+                } else {
+                    segments.set(segments.indexOf(segment), replacement);
+                }
+                for (RawEvent event : dropped) {
+                    AggregateIndex index = aggregateIndexes.get(event.aggregateId());
+                    if (index != null) {
+                        index.remove(event.offset());
+                    }
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to compact segment " + segment.path, e);
+        }
+        log.info("Compacted segment {}: dropped {} events, kept {}", segment.path.getFileName(), dropped.size(), kept.size());
+        return dropped.size();
+    }
+
+    private Segment rewrite(Segment segment, List<RawEvent> kept) throws IOException {
+        Path temporary = segment.path.resolveSibling(segment.path.getFileName() + ".compacting");
+        try (FileChannel out = FileChannel.open(temporary, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            for (RawEvent event : kept) {
+                out.write(ByteBuffer.wrap(event.record()));
+            }
+            out.write(ByteBuffer.allocate(END_MARKER_SIZE));
+            out.force(true);
+        }
+        synchronized (lock) {
+            Files.move(temporary, segment.path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        }
+        Segment replacement = Segment.open(segment.path, segment.baseOffset, segmentSize);
+        int position = 0;
+        for (RawEvent event : kept) {
+            replacement.index(event.offset(), position);
+            position += event.record().length;
+        }
+        replacement.writePosition = position;
+        return replacement;
+    }
+
+    private Segment activeSegmentWithRoom(int recordSize) {
+        Segment active = segments.get(segments.size() - 1);
+        if (active.writePosition + recordSize + END_MARKER_SIZE <= active.capacity) {
+            return active;
+        }
+        active.buffer.force();
+        Segment next = newSegment(nextOffset);
+        segments.add(next);
+        return next;
+    }
+
+    private Segment newSegment(long baseOffset) {
+        try {
+            return Segment.open(directory.resolve(String.format("%020d%s", baseOffset, SEGMENT_SUFFIX)), baseOffset, segmentSize);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to create segment at offset " + baseOffset, e);
+        }
+    }
+
+    private int segmentIndexFor(long offset) {
+        int low = 0;
+        int high = segments.size() - 1;
+        int found = 0;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            if (segments.get(mid).baseOffset <= offset) {
+                found = mid;
+                low = mid + 1;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return found;
+    }
+
+    private RawEvent read(long offset) {
+        synchronized (lock) {
+            Segment segment = segments.get(segmentIndexFor(offset));
+            int i = Arrays.binarySearch(segment.offsets, 0, segment.count, offset);
+            return i < 0 ? null : segment.read(segment.positions[i]);
+        }
+    }
+
+    private byte[] serialize(DomainEvent event) {
+        try {
+            return objectMapper.writeValueAsBytes(event);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Failed to serialize " + event.getClass().getSimpleName(), e);
+        }
+    }
+
+    private StoredEvent toStoredEvent(RawEvent raw) {
+        try {
+            DomainEvent event = objectMapper.readValue(raw.body(), eventType(raw.eventType()));
+            return new StoredEvent(raw.offset(), raw.aggregateId(), raw.version(), event);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to deserialize event at offset " + raw.offset(), e);
+        }
+    }
+
+    private Class<? extends DomainEvent> eventType(String className) {
+        return eventTypes.computeIfAbsent(className, name -> {
+            try {
+                return Class.forName(name).asSubclass(DomainEvent.class);
+            } catch (ClassNotFoundException e) {
+                throw new IllegalStateException("Unknown event type " + name, e);
+            }
+        });
+    }
+
+    private static long baseOffsetOf(Path file) {
+        String name = file.getFileName().toString();
+        return Long.parseLong(name.substring(0, name.length() - SEGMENT_SUFFIX.length()));
+    }
+
+    private static int checksum(ByteBuffer buffer, int from, int to) {
+        CRC32 crc = new CRC32();
+        crc.update(buffer.slice(from, to - from));
+        return (int) crc.getValue();
+    }
+
+    private record EncodedEvent(byte[] type, byte[] body) {
+        int size() {
+            return Short.BYTES + type.length + body.length;
+        }
+    }
+
+    private record RawEvent(long offset, long version, String aggregateId, String eventType, byte[] body, byte[] record) {
+    }
+
+    private static final class Segment {
+
+        final Path path;
+        final long baseOffset;
+        final int capacity;
+        final FileChannel channel;
+        final MappedByteBuffer buffer;
+        int writePosition;
+        long[] offsets = new long[1024];
+        int[] positions = new int[1024];
+        int count;
+
+        private Segment(Path path, long baseOffset, int capacity, FileChannel channel, MappedByteBuffer buffer) {
+            this.path = path;
+            this.baseOffset = baseOffset;
+            this.capacity = capacity;
+            this.channel = channel;
+            this.buffer = buffer;
+        }
+
+        static Segment open(Path path, long baseOffset, int segmentSize) throws IOException {
+            FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            int capacity = (int) Math.max(segmentSize, channel.size());
+            return new Segment(path, baseOffset, capacity, channel, channel.map(FileChannel.MapMode.READ_WRITE, 0, capacity));
+        }
+
+        void write(long offset, long version, byte[] id, byte[] type, byte[] body) {
+            int position = writePosition;
+            int length = RECORD_HEADER_SIZE + Short.BYTES + id.length + Short.BYTES + type.length + body.length;
+            buffer.putInt(position + length, 0);
+            buffer.putLong(position + 8, offset);
+            buffer.putLong(position + 16, version);
+            int cursor = position + RECORD_HEADER_SIZE;
+            buffer.putShort(cursor, (short) id.length);
+            buffer.put(cursor + Short.BYTES, id);
+            cursor += Short.BYTES + id.length;
+            buffer.putShort(cursor, (short) type.length);
+            buffer.put(cursor + Short.BYTES, type);
+            cursor += Short.BYTES + type.length;
+            buffer.put(cursor, body);
+            buffer.putInt(position + 4, checksum(buffer, position + 8, position + length));
+            // Length goes in last so a record torn mid-write never looks complete
+            buffer.putInt(position, length);
+            writePosition = position + length;
+            index(offset, position);
+        }
+
+        boolean isValidRecordAt(int position, long previousOffset) {
+            if (position + RECORD_HEADER_SIZE > capacity) {
+                return false;
+            }
+            int length = buffer.getInt(position);
+            if (length < RECORD_HEADER_SIZE || length > capacity - position) {
+                return false;
+            }
+            return buffer.getLong(position + 8) > previousOffset
+                    && buffer.getInt(position + 4) == checksum(buffer, position + 8, position + length);
+        }
+
+        RawEvent read(int position) {
+            int length = buffer.getInt(position);
+            byte[] record = new byte[length];
+            buffer.get(position, record);
+            ByteBuffer view = ByteBuffer.wrap(record);
+            long offset = view.getLong(8);
+            long version = view.getLong(16);
+            int cursor = RECORD_HEADER_SIZE;
+            int idLength = view.getShort(cursor);
+            String aggregateId = new String(record, cursor + Short.BYTES, idLength, StandardCharsets.UTF_8);
+            cursor += Short.BYTES + idLength;
+            int typeLength = view.getShort(cursor);
+            String eventType = new String(record, cursor + Short.BYTES, typeLength, StandardCharsets.UTF_8);
+            cursor += Short.BYTES + typeLength;
+            byte[] body = Arrays.copyOfRange(record, cursor, length);
+            return new RawEvent(offset, version, aggregateId, eventType, body, record);
+        }
+
+        void index(long offset, int position) {
+            if (count == offsets.length) {
+                offsets = Arrays.copyOf(offsets, count * 2);
+                positions = Arrays.copyOf(positions, count * 2);
+            }
+            offsets[count] = offset;
+            positions[count] = position;
+            count++;
+        }
+
+        int firstIndexAtOrAfter(long offset) {
+            int i = Arrays.binarySearch(offsets, 0, count, offset);
+            return i >= 0 ? i : -i - 1;
+        }
+    }
+
+    private static final class AggregateIndex {
+
+        long[] offsets = new long[8];
+        long[] versions = new long[8];
+        int count;
+        long lastVersion;
+
+        void add(long offset, long version) {
+            if (count == offsets.length) {
+                offsets = Arrays.copyOf(offsets, count * 2);
+                versions = Arrays.copyOf(versions, count * 2);
+            }
+            offsets[count] = offset;
+            versions[count] = version;
+            count++;
+            lastVersion = Math.max(lastVersion, version);
+        }
+
+        void remove(long offset) {
+            int i = Arrays.binarySearch(offsets, 0, count, offset);
+            if (i < 0) {
+                return;
+            }
+            System.arraycopy(offsets, i + 1, offsets, i, count - i - 1);
+            System.arraycopy(versions, i + 1, versions, i, count - i - 1);
+            count--;
+        }
+
+        long[] offsetsAfter(long afterVersion) {
+            int i = Arrays.binarySearch(versions, 0, count, afterVersion + 1);
+            int from = i >= 0 ? i : -i - 1;
+            return Arrays.copyOfRange(offsets, from, count);
+        }
+    }
+}
@@ -2,16 +2,16 @@ package com.example.common.adapter.out.messaging;
 
 import com.example.common.domain.port.DomainEventPublisher;
 import com.example.common.domain.event.DomainEvent;
-import com.example.order.domain.event.OrderCancelledEvent;
-import com.example.order.domain.event.OrderConfirmedEvent;
 import com.example.order.domain.event.OrderCreatedEvent;
 import com.example.common.adapter.out.persistence.outbox.OutboxEvent;
 import com.example.common.adapter.out.persistence.outbox.OutboxRepository;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.time.Instant;
+import java.util.List;
 
 @Component
 public class OutboxEventPublisher implements DomainEventPublisher {
@@ -31,26 +31,23 @@ public class OutboxEventPublisher implements DomainEventPublisher {
                 .then();
     }
 
+    @Override
+    public Mono<Void> publishAll(List<? extends DomainEvent> events) {
+        if (events.isEmpty()) {
+            return Mono.empty();
+        }
+        return Flux.fromIterable(events)
+                .concatMap(this::toOutboxEvent)
+                .collectList()
+                .flatMap(outboxRepository::saveAll);
+    }
+
     private Mono<OutboxEvent> toOutboxEvent(DomainEvent event) {
         return Mono.fromCallable(() -> {
-            String aggregateType;
-            String aggregateId;
             String eventType = event.getClass().getSimpleName();
             String payload = objectMapper.writeValueAsString(event);
-
-            if (event instanceof OrderCreatedEvent createdEvent) {
-                aggregateType = "Order";
-                aggregateId = createdEvent.orderId();
-            } else if (event instanceof OrderConfirmedEvent confirmedEvent) {
-                aggregateType = "Order";
-                aggregateId = confirmedEvent.orderId();
-            } else if (event instanceof OrderCancelledEvent cancelledEvent) {
-                aggregateType = "Order";
-                aggregateId = cancelledEvent.orderId();
-            } else {
-                aggregateType = "Unknown";
-                aggregateId = "unknown";
-            }
+            String aggregateType = event.getClass().getPackage() == OrderCreatedEvent.class.getPackage() ? "Order" : "Unknown";
+            String aggregateId = event.aggregateId();
 
             return OutboxEvent.builder()
                     .aggregateType(aggregateType)
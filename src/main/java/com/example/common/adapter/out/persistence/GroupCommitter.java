@@ -0,0 +1,83 @@
+package com.example.common.adapter.out.persistence;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * Coalesces concurrent writes into shared transactions.
+ * While nothing is in flight a write is committed on its own, so a lone request never waits.
+ * Writes that arrive while others are committing are queued and flushed together once
+ * {@code maxBatchSize} writes are waiting or {@code maxWait} has elapsed. Each caller completes
+ * after the shared commit; if a shared commit fails, its writes are retried one by one so that
+ * every caller succeeds or fails on its own.
+ */
+public final class GroupCommitter<T> {
+
+    private static final Duration EMIT_RETRY_WINDOW = Duration.ofMillis(100);
+
+    private final Function<T, Mono<T>> singleCommit;
+    private final Function<List<T>, Mono<List<T>>> batchCommit;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final Sinks.Many<PendingWrite<T>> queue = Sinks.many().unicast().onBackpressureBuffer();
+
+    public GroupCommitter(Function<T, Mono<T>> singleCommit,
+                          Function<List<T>, Mono<List<T>>> batchCommit,
+                          int maxBatchSize,
+                          Duration maxWait,
+                          int maxConcurrentBatches) {
+        this.singleCommit = singleCommit;
+        this.batchCommit = batchCommit;
+        queue.asFlux()
+                .bufferTimeout(maxBatchSize, maxWait)
+                .flatMap(this::commitBatch, maxConcurrentBatches)
+                .subscribe();
+    }
+
+    public Mono<T> submit(T item) {
+        return Mono.defer(() -> {
+            if (inFlight.getAndIncrement() == 0) {
+                return singleCommit.apply(item)
+                        .doFinally(signal -> inFlight.decrementAndGet());
+            }
+            Sinks.One<T> result = Sinks.one();
+            queue.emitNext(new PendingWrite<>(item, result), Sinks.EmitFailureHandler.busyLooping(EMIT_RETRY_WINDOW));
+            return result.asMono()
+                    .doFinally(signal -> inFlight.decrementAndGet());
+        });
+    }
+
+    private Mono<Void> commitBatch(List<PendingWrite<T>> batch) {
+        List<T> items = new ArrayList<>(batch.size());
+        batch.forEach(pending -> items.add(pending.item()));
+
+        return batchCommit.apply(items)
+                .doOnNext(committed -> {
+                    for (int i = 0; i < batch.size(); i++) {
+                        batch.get(i).result().tryEmitValue(committed.get(i));
+                    }
+                })
+                .then()
+                .onErrorResume(error -> Flux.fromIterable(batch)
+                        .concatMap(this::commitAlone)
+                        .then());
+    }
+
+    private Mono<Void> commitAlone(PendingWrite<T> pending) {
+        return singleCommit.apply(pending.item())
+                .doOnNext(pending.result()::tryEmitValue)
+                .switchIfEmpty(Mono.fromRunnable(pending.result()::tryEmitEmpty))
+                .doOnError(pending.result()::tryEmitError)
+                .onErrorResume(error -> Mono.empty())
+                .then();
+    }
+
+    private record PendingWrite<T>(T item, Sinks.One<T> result) {
+    }
+}
@@ -0,0 +1,133 @@
+package com.example.common.adapter.out.persistence;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.smallrye.mutiny.converters.uni.UniReactorConverters;
+import org.hibernate.reactive.mutiny.Mutiny;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Chooses the session factory for reads: the replica when one is configured and fresh enough, else the primary.
+ * <p>
+ * Freshness is tracked with a heartbeat: every {@code persistence.replica.heartbeat-interval-ms} the current
+ * time is written to {@code replication_heartbeat} on the primary and read back from the replica, so the value
+ * seen on the replica is a position the replica is known to have reached. A read whose Reactor context carries
+ * a {@link #CONSISTENCY_TOKEN} (the epoch millis a client's last write was acknowledged) goes to the replica
+ * once that position has passed the token, waiting up to {@code persistence.replica.max-wait} for it and then
+ * falling back to the primary. Reads without a token always go to the replica. Tokens and heartbeats come from
+ * the instances' clocks, so clock skew between instances shortens the read-your-writes guarantee by as much.
+ * <p>
+ * Reports {@code db.replica.lag}, the age of the newest heartbeat seen on the replica (accurate to one
+ * heartbeat interval), and {@code db.replica.fallbacks}, the reads sent to the primary because the replica
+ * had not caught up.
+ */
+@Component
+public class ReplicaRouter {
+
+    public static final String CONSISTENCY_TOKEN = "persistence.consistency-token";
+
+    private static final Logger log = LoggerFactory.getLogger(ReplicaRouter.class);
+    private static final Duration CATCH_UP_POLL = Duration.ofMillis(10);
+
+    private final Mutiny.SessionFactory primary;
+    private final Mutiny.SessionFactory replica;
+    private final Duration maxWait;
+    private final Counter fallbacks;
+    private final AtomicBoolean beating = new AtomicBoolean();
+    private volatile long replicaPosition;
+
+    public ReplicaRouter(Mutiny.SessionFactory primary,
+                         @Qualifier("replicaSessionFactory") Optional<Mutiny.SessionFactory> replica,
+                         MeterRegistry meterRegistry,
+                         @Value("${persistence.replica.max-wait:PT0.25S}") Duration maxWait) {
+        this.primary = primary;
+        this.replica = replica.orElse(null);
+        this.maxWait = maxWait;
+        this.fallbacks = meterRegistry.counter("db.replica.fallbacks");
+        if (this.replica != null) {
+            TimeGauge.builder("db.replica.lag", this, TimeUnit.MILLISECONDS, ReplicaRouter::lagMillis)
+                    .register(meterRegistry);
+        }
+    }
+
+    /**
+     * A router that sends every read to {@code sessionFactory}.
+     */
+    public static ReplicaRouter primaryOnly(Mutiny.SessionFactory sessionFactory) {
+        return new ReplicaRouter(sessionFactory, Optional.empty(), new SimpleMeterRegistry(), Duration.ZERO);
+    }
+
+    /**
+     * The session factory for a read made in the current Reactor context.
+     */
+    public Mono<Mutiny.SessionFactory> forRead() {
+        if (replica == null) {
+            return Mono.just(primary);
+        }
+        return Mono.deferContextual(context -> {
+            long token = context.getOrDefault(CONSISTENCY_TOKEN, 0L);
+            if (token <= replicaPosition) {
+                return Mono.just(replica);
+            }
+            return Flux.interval(CATCH_UP_POLL)
+                    .filter(tick -> token <= replicaPosition)
+                    .next()
+                    .map(tick -> replica)
+                    .timeout(maxWait, Mono.fromSupplier(() -> {
+                        fallbacks.increment();
+                        return primary;
+                    }));
+        });
+    }
+
+    /**
+     * The primary's session factory, for reads whose results are written back and so must not be stale.
+     */
+    public Mono<Mutiny.SessionFactory> primary() {
+        return Mono.just(primary);
+    }
+
+    @Scheduled(fixedDelayString = "${persistence.replica.heartbeat-interval-ms:100}")
+    public void heartbeat() {
+        if (replica == null || !beating.compareAndSet(false, true)) {
+            return;
+        }
+        long beat = System.currentTimeMillis();
+        primary.withTransaction((session, tx) -> session.createNativeQuery(
+                                "update replication_heartbeat set beat_millis = greatest(beat_millis, ?) where id = 1")
+                        .setParameter(1, beat)
+                        .executeUpdate())
+                .chain(() -> replica.withSession(session -> session.createNativeQuery(
+                                "select beat_millis from replication_heartbeat where id = 1", Long.class)
+                        .getSingleResult()))
+                .convert().with(UniReactorConverters.toMono())
+                .doFinally(signal -> beating.set(false))
+                .subscribe(
+                    this::observeReplicaPosition,
+                    error -> log.warn("Replica heartbeat failed: {}", error.getMessage())
+                );
+    }
+
+    private double lagMillis() {
+        long position = replicaPosition;
+        return position == 0 ? Double.NaN : Math.max(System.currentTimeMillis() - position, 0);
+    }
+
+    void observeReplicaPosition(long position) {
+        replicaPosition = Math.max(replicaPosition, position);
+    }
+}
@@ -35,4 +35,7 @@ public class OutboxEvent {
     private Instant createdAt;
     
     private boolean processed;
+
+    // Set once the event has been applied to the in-database read models, independently of its delivery
+    private boolean projected;
 }
@@ -1,14 +1,29 @@
 package com.example.common.adapter.out.persistence.outbox;
 
+import io.smallrye.mutiny.Uni;
 import io.smallrye.mutiny.converters.uni.UniReactorConverters;
 import org.hibernate.reactive.mutiny.Mutiny;
 import org.springframework.stereotype.Repository;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.Collections;
+import java.util.List;
+
 @Repository
 public class OutboxRepository {
 
+    private static final int INSERT_BATCH_SIZE = 200;
+
+    /**
+     * Every column of {@link OutboxEvent} but the generated id, in the order {@link #insertBatch} binds them.
+     */
+    static final List<String> INSERT_COLUMNS = List.of(
+            "aggregate_type", "aggregate_id", "event_type", "payload", "created_at", "processed", "projected");
+
+    private static final String INSERT_ROW = "(" + String.join(", ",
+            Collections.nCopies(INSERT_COLUMNS.size(), "?")) + ")";
+
     private final Mutiny.SessionFactory sessionFactory;
 
     public OutboxRepository(Mutiny.SessionFactory sessionFactory) {
@@ -21,6 +36,46 @@ public class OutboxRepository {
                 .convert().with(UniReactorConverters.toMono());
     }
 
+    /**
+     * Insert the given events with multi-row INSERT statements of up to {@value #INSERT_BATCH_SIZE} rows,
+     * all within one transaction.
+     */
+    public Mono<Void> saveAll(List<OutboxEvent> events) {
+        if (events.isEmpty()) {
+            return Mono.empty();
+        }
+        return sessionFactory.withTransaction((session, tx) -> {
+            Uni<Integer> chain = Uni.createFrom().item(0);
+            for (int from = 0; from < events.size(); from += INSERT_BATCH_SIZE) {
+                List<OutboxEvent> batch = events.subList(from, Math.min(from + INSERT_BATCH_SIZE, events.size()));
+                chain = chain.chain(() -> insertBatch(session, batch));
+            }
+            return chain;
+        })
+        .replaceWithVoid()
+        .convert().with(UniReactorConverters.toMono());
+    }
+
+    private Uni<Integer> insertBatch(Mutiny.Session session, List<OutboxEvent> batch) {
+        StringBuilder sql = new StringBuilder("insert into outbox (")
+                .append(String.join(", ", INSERT_COLUMNS)).append(") values ");
+        for (int i = 0; i < batch.size(); i++) {
+            sql.append(i == 0 ? "" : ", ").append(INSERT_ROW);
+        }
+        Mutiny.MutationQuery query = session.createNativeQuery(sql.toString());
+        int position = 1;
+        for (OutboxEvent event : batch) {
+            query.setParameter(position++, event.getAggregateType());
+            query.setParameter(position++, event.getAggregateId());
+            query.setParameter(position++, event.getEventType());
+            query.setParameter(position++, event.getPayload());
+            query.setParameter(position++, event.getCreatedAt());
+            query.setParameter(position++, event.isProcessed());
+            query.setParameter(position++, event.isProjected());
+        }
+        return query.executeUpdate();
+    }
+
     public Flux<OutboxEvent> findUnprocessed() {
         String hql = "from OutboxEvent where processed = false order by createdAt asc";
         return sessionFactory.withSession(session -> 
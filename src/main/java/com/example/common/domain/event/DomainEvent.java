@@ -3,5 +3,7 @@ package com.example.common.domain.event;
 import java.time.Instant;
 
 public interface DomainEvent {
+    String aggregateId();
+
     Instant occurredAt();
-}
\ No newline at end of file
+}
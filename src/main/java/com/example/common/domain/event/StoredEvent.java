@@ -0,0 +1,16 @@
+package com.example.common.domain.event;
+
+/**
+ * A domain event as recorded by a {@link com.example.common.domain.port.DomainEventStore}.
+ *
+ * @param offset      global position of the event in the store
+ * @param aggregateId aggregate the event belongs to
+ * @param version     1-based position of the event within its aggregate's stream
+ * @param event       the event itself
+ */
+public record StoredEvent(
+    long offset,
+    String aggregateId,
+    long version,
+    DomainEvent event
+) {}
@@ -0,0 +1,144 @@
+package com.example.common.domain.model;
+
+import java.time.Duration;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * Hierarchical timing wheel for large numbers of coarse-grained deadlines.
+ * <p>
+ * Level {@code L} has {@code wheelSize} slots of {@code wheelSize^L} ticks each. A timer is placed in the
+ * lowest level whose span covers its remaining delay; whenever a lower level wraps, the next slot of the level
+ * above is cascaded down. Scheduling, expiry and each cascade step are O(1) per timer, and a timer costs one
+ * small node in a singly linked slot list.
+ * <p>
+ * {@link #schedule} may be called from any thread: new timers go through a lock-free queue. {@link #advance}
+ * must only be called by one thread at a time. Deadlines are rounded up to the next tick, so timers never fire
+ * early but may fire up to one tick late.
+ */
+public final class HierarchicalTimingWheel<T> {
+
+    private final long tickMillis;
+    private final int bits;
+    private final int mask;
+    private final int levels;
+    private final Node<T>[][] slots;
+    private final Queue<Node<T>> incoming = new ConcurrentLinkedQueue<>();
+    private final AtomicLong size = new AtomicLong();
+    private long currentTick;
+
+    @SuppressWarnings("unchecked")
+    public HierarchicalTimingWheel(Duration tick, int wheelSize, int levels, long startMillis) {
+        if (tick.toMillis() <= 0) {
+            throw new IllegalArgumentException("Tick must be at least one millisecond");
+        }
+        if (wheelSize < 2 || Integer.bitCount(wheelSize) != 1) {
+            throw new IllegalArgumentException("Wheel size must be a power of two");
+        }
+        this.tickMillis = tick.toMillis();
+        this.bits = Integer.numberOfTrailingZeros(wheelSize);
+        if (levels < 1 || (long) bits * levels > 62) {
+            throw new IllegalArgumentException("Levels must be between 1 and " + 62 / bits);
+        }
+        this.mask = wheelSize - 1;
+        this.levels = levels;
+        this.slots = new Node[levels][wheelSize];
+        this.currentTick = startMillis / tickMillis;
+    }
+
+    public void schedule(T item, long deadlineMillis) {
+        long tick = Math.floorDiv(deadlineMillis + tickMillis - 1, tickMillis);
+        incoming.add(new Node<>(item, tick));
+        size.incrementAndGet();
+    }
+
+    /**
+     * Moves the wheel forward to {@code nowMillis}, handing every expired item to {@code expired}.
+     *
+     * @return the number of items expired
+     */
+    public int advance(long nowMillis, Consumer<? super T> expired) {
+        int[] count = {0};
+        Consumer<Node<T>> fire = node -> {
+            size.decrementAndGet();
+            count[0]++;
+            expired.accept(node.item);
+        };
+        for (Node<T> node; (node = incoming.poll()) != null; ) {
+            place(node, fire);
+        }
+        long targetTick = nowMillis / tickMillis;
+        while (currentTick < targetTick) {
+            currentTick++;
+            cascade(fire);
+            int slot = (int) (currentTick & mask);
+            Node<T> node = slots[0][slot];
+            slots[0][slot] = null;
+            while (node != null) {
+                Node<T> next = node.next;
+                fire.accept(node);
+                node = next;
+            }
+        }
+        return count[0];
+    }
+
+    public long size() {
+        return size.get();
+    }
+
+    /**
+     * On each wrap of a level, re-places the timers of the next slot one level up; they now fit lower down.
+     */
+    private void cascade(Consumer<Node<T>> fire) {
+        for (int level = 1; level < levels; level++) {
+            if ((currentTick & ((1L << (bits * level)) - 1)) != 0) {
+                return;
+            }
+            int slot = (int) ((currentTick >>> (bits * level)) & mask);
+            Node<T> node = slots[level][slot];
+            slots[level][slot] = null;
+            while (node != null) {
+                Node<T> next = node.next;
+                place(node, fire);
+                node = next;
+            }
+        }
+    }
+
+    private void place(Node<T> node, Consumer<Node<T>> fire) {
+        long delay = node.tick - currentTick;
+        if (delay <= 0) {
+            fire.accept(node);
+            return;
+        }
+        for (int level = 0; level < levels; level++) {
+            if (delay < 1L << (bits * (level + 1))) {
+                push(level, (int) ((node.tick >>> (bits * level)) & mask), node);
+                return;
+            }
+        }
+        // Beyond the top level's span: park in its farthest slot and re-place when that slot cascades
+        int top = levels - 1;
+        long parkedTick = currentTick + (1L << (bits * levels)) - 1;
+        push(top, (int) ((parkedTick >>> (bits * top)) & mask), node);
+    }
+
+    private void push(int level, int slot, Node<T> node) {
+        node.next = slots[level][slot];
+        slots[level][slot] = node;
+    }
+
+    private static final class Node<T> {
+        final T item;
+        final long tick;
+        Node<T> next;
+
+        Node(T item, long tick) {
+            this.item = item;
+            this.tick = tick;
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.example.common.domain.model;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Generates time-ordered identifiers in the UUIDv7 layout (RFC 9562).
+ * The 48-bit millisecond timestamp leads, followed by a 12-bit counter that keeps ids
+ * strictly increasing within the same millisecond, so new keys always land at the right
+ * edge of a B-tree index. The string form sorts in generation order.
+ */
+public final class TimeOrderedIdGenerator {
+
+    private static final int COUNTER_BITS = 12;
+    private static final long COUNTER_MASK = (1L << COUNTER_BITS) - 1;
+    private static final long VERSION_7 = 0x7L << 12;
+    private static final long VARIANT_MASK = 0x3FFFFFFFFFFFFFFFL;
+    private static final long VARIANT_RFC = 0x8000000000000000L;
+
+    // Packed (timestamp << COUNTER_BITS) | counter of the last issued id
+    private static final AtomicLong lastState = new AtomicLong();
+
+    private TimeOrderedIdGenerator() {
+    }
+
+    public static String nextId() {
+        return nextUuid().toString();
+    }
+
+    public static UUID nextUuid() {
+        long state = nextState(System.currentTimeMillis());
+        long timestamp = state >>> COUNTER_BITS;
+        long counter = state & COUNTER_MASK;
+
+        long mostSigBits = (timestamp << 16) | VERSION_7 | counter;
+        long leastSigBits = (ThreadLocalRandom.current().nextLong() & VARIANT_MASK) | VARIANT_RFC;
+        return new UUID(mostSigBits, leastSigBits);
+    }
+
+    /**
+     * Extract the creation time (epoch millis) encoded in a time-ordered id.
+     */
+    public static long timestampOf(String id) {
+        return UUID.fromString(id).getMostSignificantBits() >>> 16;
+    }
+
+    private static long nextState(long now) {
+        while (true) {
+            long previous = lastState.get();
+            long candidate = now << COUNTER_BITS;
+            // Same (or earlier, after a clock step back) millisecond: bump the counter.
+            // A counter overflow carries into the timestamp, which keeps ids monotonic.
+            long next = candidate > previous ? candidate : previous + 1;
+            if (lastState.compareAndSet(previous, next)) {
+                return next;
+            }
+        }
+    }
+}
@@ -1,8 +1,17 @@
 package com.example.common.domain.port;
 
 import com.example.common.domain.event.DomainEvent;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.List;
+
 public interface DomainEventPublisher {
     Mono<Void> publish(DomainEvent event);
+
+    default Mono<Void> publishAll(List<? extends DomainEvent> events) {
+        return Flux.fromIterable(events)
+                .concatMap(this::publish)
+                .then();
+    }
 }
\ No newline at end of file
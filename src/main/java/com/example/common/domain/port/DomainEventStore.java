@@ -1,8 +1,32 @@
 package com.example.common.domain.port;
 
 import com.example.common.domain.event.DomainEvent;
+import com.example.common.domain.event.StoredEvent;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.List;
+
 public interface DomainEventStore {
     Mono<Void> save(DomainEvent event);
-}
\ No newline at end of file
+
+    /**
+     * Appends the events to the aggregate's stream only if its current version is {@code expectedVersion},
+     * and returns the new version. Fails with {@link IllegalStateException} on a version mismatch.
+     */
+    Mono<Long> append(String aggregateId, long expectedVersion, List<? extends DomainEvent> events);
+
+    default Flux<StoredEvent> loadEvents(String aggregateId) {
+        return loadEvents(aggregateId, 0);
+    }
+
+    /**
+     * Streams the aggregate's events with a version greater than {@code afterVersion}, oldest first.
+     */
+    Flux<StoredEvent> loadEvents(String aggregateId, long afterVersion);
+
+    /**
+     * Streams up to {@code maxEvents} events of all aggregates starting at {@code fromOffset}, in offset order.
+     */
+    Flux<StoredEvent> loadRange(long fromOffset, int maxEvents);
+}
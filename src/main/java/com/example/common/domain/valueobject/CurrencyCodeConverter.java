@@ -0,0 +1,37 @@
+package com.example.common.domain.valueobject;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+import java.util.Currency;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Stores an ISO 4217 currency code as its SMALLINT numeric code (USD as 840).
+ */
+@Converter
+public class CurrencyCodeConverter implements AttributeConverter<String, Short> {
+
+    private static final Map<Integer, String> CODES_BY_NUMBER = Currency.getAvailableCurrencies().stream()
+            .filter(currency -> currency.getNumericCode() > 0)
+            .collect(Collectors.toMap(Currency::getNumericCode, Currency::getCurrencyCode,
+                    (first, second) -> first));
+
+    @Override
+    public Short convertToDatabaseColumn(String currency) {
+        return currency != null ? (short) Currency.getInstance(currency).getNumericCode() : null;
+    }
+
+    @Override
+    public String convertToEntityAttribute(Short numericCode) {
+        if (numericCode == null) {
+            return null;
+        }
+        String currency = CODES_BY_NUMBER.get((int) numericCode);
+        if (currency == null) {
+            throw new IllegalArgumentException("Unknown ISO 4217 numeric code: " + numericCode);
+        }
+        return currency;
+    }
+}
@@ -2,72 +2,276 @@ package com.example.common.domain.valueobject;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import jakarta.persistence.Access;
+import jakarta.persistence.AccessType;
 import jakarta.persistence.Embeddable;
-import lombok.*;
+import jakarta.persistence.Transient;
 
 import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Currency;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 
-@Getter
-@EqualsAndHashCode
-@AllArgsConstructor(access = AccessLevel.PRIVATE)
-@NoArgsConstructor(access = AccessLevel.PROTECTED) // JPA requires
+/**
+ * Monetary amount in a single currency.
+ * <p>
+ * Only ISO 4217 currencies with a numeric code are accepted, so every amount can be stored. Amounts are held as
+ * a {@code long} count of minor units (cents for USD), so arithmetic is allocation-light and overflow-checked.
+ * An amount that cannot be held that way (a currency without a minor unit such as XAU, more fraction digits
+ * than the currency defines, or a value beyond {@code long}) falls back to {@link BigDecimal}; arithmetic that
+ * would overflow falls back the same way instead of wrapping. Amounts are never rounded silently in memory:
+ * only {@link #discount(BigDecimal)} rounds, half-up to the currency's minor unit.
+ * <p>
+ * Persistence stores the currency and {@link #toStorageUnits()}, a whole count of the currency's minor units
+ * (ten-thousandths for currencies without one); JSON sees the {@code amount}/{@code currency} pair.
+ */
 @Embeddable
+@Access(AccessType.PROPERTY)
 public final class Money {
-    private BigDecimal amount;
+
+    private static final long[] POWERS_OF_TEN = {
+        1L, 10L, 100L, 1_000L, 10_000L, 100_000L, 1_000_000L, 10_000_000L, 100_000_000L, 1_000_000_000L
+    };
+    private static final double MAX_EXACT_DOUBLE = 1L << 53;
+    private static final int NO_MINOR_UNIT = -1;
+    private static final int NO_MINOR_UNIT_STORAGE_SCALE = 4;
+    private static final Map<String, Integer> MINOR_UNIT_DIGITS = new ConcurrentHashMap<>();
+
     private String currency;
+    private int scale = NO_MINOR_UNIT;
+    private long minorUnits;
+    private BigDecimal decimal; // only set when the amount does not fit the minor-unit representation
+    private Long loadedStorageUnits; // set by JPA until the currency is known
+
+    protected Money() { // JPA requires
+    }
+
+    private Money(long minorUnits, int scale, String currency) {
+        this.minorUnits = minorUnits;
+        this.scale = scale;
+        this.currency = currency;
+    }
+
+    private Money(BigDecimal decimal, String currency) {
+        this.decimal = decimal;
+        this.currency = currency;
+    }
 
     @JsonCreator
     public static Money of(@JsonProperty("amount") Object amount, @JsonProperty("currency") String currency) {
         Objects.requireNonNull(amount, "Amount cannot be null");
         Objects.requireNonNull(currency, "Currency cannot be null");
-        
-        BigDecimal decimalAmount;
-        if (amount instanceof BigDecimal) {
-            decimalAmount = (BigDecimal) amount;
-        } else if (amount instanceof Number) {
-            decimalAmount = BigDecimal.valueOf(((Number) amount).doubleValue());
-        } else if (amount instanceof String) {
-            decimalAmount = new BigDecimal((String) amount);
+
+        if (amount instanceof BigDecimal decimalAmount) {
+            return of(decimalAmount, currency);
+        } else if (amount instanceof Long || amount instanceof Integer || amount instanceof Short) {
+            return of(new BigDecimal(((Number) amount).longValue()), currency);
+        } else if (amount instanceof Number number) {
+            return of(number.doubleValue(), currency);
+        } else if (amount instanceof String text) {
+            return of(new BigDecimal(text), currency);
         } else {
             throw new IllegalArgumentException("Amount must be a number or string");
         }
-        
-        if (decimalAmount.compareTo(BigDecimal.ZERO) < 0) {
-            throw new IllegalArgumentException("Amount cannot be negative");
-        }
-        return new Money(decimalAmount, currency);
     }
 
     public static Money of(BigDecimal amount, String currency) {
-        return of((Object) amount, currency);
+        Objects.requireNonNull(amount, "Amount cannot be null");
+        Objects.requireNonNull(currency, "Currency cannot be null");
+        if (amount.signum() < 0) {
+            throw new IllegalArgumentException("Amount cannot be negative");
+        }
+        return normalized(amount, currency);
     }
 
     public static Money of(double amount, String currency) {
+        Objects.requireNonNull(currency, "Currency cannot be null");
+        if (amount < 0) {
+            throw new IllegalArgumentException("Amount cannot be negative");
+        }
+        int scale = minorUnitDigits(currency);
+        if (scale != NO_MINOR_UNIT) {
+            double scaled = amount * POWERS_OF_TEN[scale];
+            if (scaled < MAX_EXACT_DOUBLE) {
+                long units = Math.round(scaled);
+                // Only take the fast path when the double denotes exactly this many minor units
+                if ((double) units / POWERS_OF_TEN[scale] == amount) {
+                    return new Money(units, scale, currency);
+                }
+            }
+        }
         return of(BigDecimal.valueOf(amount), currency);
     }
 
+    /**
+     * Creates an amount from a count of minor units, e.g. cents for USD.
+     */
+    public static Money ofMinor(long minorUnits, String currency) {
+        Objects.requireNonNull(currency, "Currency cannot be null");
+        if (minorUnits < 0) {
+            throw new IllegalArgumentException("Amount cannot be negative");
+        }
+        int scale = minorUnitDigits(currency);
+        if (scale == NO_MINOR_UNIT) {
+            throw new IllegalArgumentException("Currency has no minor unit: " + currency);
+        }
+        return new Money(minorUnits, scale, currency);
+    }
+
     public static Money zero(String currency) {
-        return new Money(BigDecimal.ZERO, currency);
+        int scale = minorUnitDigits(currency);
+        return scale != NO_MINOR_UNIT ? new Money(0L, scale, currency) : new Money(BigDecimal.ZERO, currency);
+    }
+
+    /**
+     * Creates an amount from its {@link #toStorageUnits() stored} form.
+     */
+    public static Money ofStorageUnits(long units, String currency) {
+        Objects.requireNonNull(currency, "Currency cannot be null");
+        if (units < 0) {
+            throw new IllegalArgumentException("Amount cannot be negative");
+        }
+        int scale = minorUnitDigits(currency);
+        return scale != NO_MINOR_UNIT
+                ? new Money(units, scale, currency)
+                : new Money(BigDecimal.valueOf(units, NO_MINOR_UNIT_STORAGE_SCALE), currency);
+    }
+
+    /**
+     * This amount as the whole number persistence stores: a count of the currency's minor units (0.001 BHD,
+     * 1 JPY), or of ten-thousandths for currencies without a minor unit. Fraction digits beyond that are
+     * rounded half-up.
+     */
+    public long toStorageUnits() {
+        if (inMinorUnits()) {
+            return minorUnits;
+        }
+        int scale = minorUnitDigits(currency);
+        return decimal.setScale(scale != NO_MINOR_UNIT ? scale : NO_MINOR_UNIT_STORAGE_SCALE, RoundingMode.HALF_UP)
+                .unscaledValue().longValueExact();
+    }
+
+    @Transient
+    public BigDecimal getAmount() {
+        return decimal != null ? decimal : BigDecimal.valueOf(minorUnits, scale);
+    }
+
+    public String getCurrency() {
+        return currency;
     }
 
     public Money add(Money other) {
         validateCurrency(other);
-        return new Money(this.amount.add(other.amount), this.currency);
+        if (inMinorUnits() && other.inMinorUnits()) {
+            long sum = minorUnits + other.minorUnits;
+            // Overflow iff both operands have the same sign and the result's sign differs
+            if (((minorUnits ^ sum) & (other.minorUnits ^ sum)) >= 0) {
+                return new Money(sum, scale, currency);
+            }
+        }
+        return normalized(getAmount().add(other.getAmount()), currency);
     }
 
     public Money multiply(int multiplier) {
-        return new Money(this.amount.multiply(BigDecimal.valueOf(multiplier)), this.currency);
+        if (inMinorUnits()) {
+            long high = Math.multiplyHigh(minorUnits, multiplier);
+            long product = minorUnits * multiplier;
+            if ((high == 0 && product >= 0) || (high == -1 && product < 0)) {
+                return new Money(product, scale, currency);
+            }
+        }
+        return normalized(getAmount().multiply(BigDecimal.valueOf(multiplier)), currency);
     }
 
+    /**
+     * Returns this amount reduced by {@code percentage} (0.1 for 10%), rounded half-up to the currency's
+     * minor unit, or to the amount's own scale for currencies without one.
+     */
     public Money discount(BigDecimal percentage) {
         BigDecimal discountFactor = BigDecimal.ONE.subtract(percentage);
-        return new Money(this.amount.multiply(discountFactor), this.currency);
+        int resultScale = inMinorUnits() ? scale : Math.max(decimal.scale(), 0);
+        BigDecimal discounted = getAmount().multiply(discountFactor).setScale(resultScale, RoundingMode.HALF_UP);
+        return normalized(discounted, currency);
     }
 
     public boolean isGreaterThan(Money other) {
         validateCurrency(other);
-        return this.amount.compareTo(other.amount) > 0;
+        if (inMinorUnits() && other.inMinorUnits()) {
+            return minorUnits > other.minorUnits;
+        }
+        return getAmount().compareTo(other.getAmount()) > 0;
+    }
+
+    protected Long getStoredAmount() { // JPA property access
+        return currency != null ? toStorageUnits() : null;
+    }
+
+    protected void setStoredAmount(Long units) { // JPA property access
+        this.loadedStorageUnits = units;
+        resolveLoaded();
+    }
+
+    protected void setCurrency(String currency) { // JPA property access
+        this.currency = currency;
+        resolveLoaded();
+    }
+
+    boolean inMinorUnits() {
+        return decimal == null;
+    }
+
+    long minorUnits() { // meaningful only while inMinorUnits()
+        return minorUnits;
+    }
+
+    int minorUnitScale() {
+        return scale;
+    }
+
+    private void resolveLoaded() {
+        // JPA may set the two columns in either order; the stored units only mean something with the currency
+        if (loadedStorageUnits == null || currency == null) {
+            return;
+        }
+        Money loaded = ofStorageUnits(loadedStorageUnits, currency);
+        this.minorUnits = loaded.minorUnits;
+        this.scale = loaded.scale;
+        this.decimal = loaded.decimal;
+        this.loadedStorageUnits = null;
+    }
+
+    private static Money normalized(BigDecimal amount, String currency) {
+        int scale = minorUnitDigits(currency);
+        if (scale != NO_MINOR_UNIT) {
+            try {
+                return new Money(amount.movePointRight(scale).longValueExact(), scale, currency);
+            } catch (ArithmeticException notRepresentable) {
+                // More fraction digits than the currency defines, or too large for a long
+            }
+        }
+        return new Money(amount, currency);
+    }
+
+    /**
+     * Decimal places of {@code currency}'s minor unit, or {@link #NO_MINOR_UNIT}. Rejects codes that are not ISO
+     * 4217 currencies with a numeric code, which could not be stored.
+     */
+    private static int minorUnitDigits(String currency) {
+        return MINOR_UNIT_DIGITS.computeIfAbsent(currency, code -> {
+            Currency iso;
+            try {
+                iso = Currency.getInstance(code);
+            } catch (IllegalArgumentException unknownCurrency) {
+                throw new IllegalArgumentException("Unsupported currency: " + code);
+            }
+            if (iso.getNumericCode() <= 0) {
+                throw new IllegalArgumentException("Unsupported currency: " + code);
+            }
+            int digits = iso.getDefaultFractionDigits();
+            return digits >= 0 && digits < POWERS_OF_TEN.length ? digits : NO_MINOR_UNIT;
+        });
     }
 
     private void validateCurrency(Money other) {
@@ -76,8 +280,29 @@ public final class Money {
         }
     }
 
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof Money other) || !Objects.equals(currency, other.currency)) {
+            return false;
+        }
+        if (inMinorUnits() && other.inMinorUnits()) {
+            return minorUnits == other.minorUnits;
+        }
+        return getAmount().compareTo(other.getAmount()) == 0;
+    }
+
+    @Override
+    public int hashCode() {
+        // Normalization keeps every amount that fits in minor units compact, so equal amounts hash alike
+        int amountHash = inMinorUnits() ? Long.hashCode(minorUnits) : decimal.stripTrailingZeros().hashCode();
+        return 31 * amountHash + Objects.hashCode(currency);
+    }
+
     @Override
     public String toString() {
-        return amount + " " + currency;
+        return getAmount() + " " + currency;
     }
 }
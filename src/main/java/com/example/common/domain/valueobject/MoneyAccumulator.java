@@ -0,0 +1,79 @@
+package com.example.common.domain.valueobject;
+
+import java.math.BigDecimal;
+import java.util.Objects;
+
+/**
+ * Mutable running sum of {@link Money} amounts in one currency, for totalling many lines without allocating
+ * an intermediate {@code Money} per addition.
+ * <p>
+ * Amounts that {@code Money} holds as minor units are summed in a primitive {@code long}; a term that is not
+ * held that way, or that would overflow, is added to a {@link BigDecimal} remainder instead, so the result is
+ * always exact. Instances are not thread-safe; parallel reductions give each thread its own accumulator and
+ * {@link #combine(MoneyAccumulator) combine} them.
+ */
+public final class MoneyAccumulator {
+
+    private final String currency;
+    private long minorUnits;
+    private int scale = -1;
+    private BigDecimal remainder;
+
+    public MoneyAccumulator(String currency) {
+        this.currency = Objects.requireNonNull(currency, "Currency cannot be null");
+    }
+
+    public MoneyAccumulator add(Money amount) {
+        return add(amount, 1);
+    }
+
+    /**
+     * Adds {@code amount * quantity}.
+     */
+    public MoneyAccumulator add(Money amount, int quantity) {
+        if (!currency.equals(amount.getCurrency())) {
+            throw new IllegalArgumentException("Currency mismatch");
+        }
+        if (amount.inMinorUnits()) {
+            scale = amount.minorUnitScale();
+            try {
+                minorUnits = Math.addExact(minorUnits, Math.multiplyExact(amount.minorUnits(), (long) quantity));
+                return this;
+            } catch (ArithmeticException overflow) {
+                // Fall through to the exact remainder
+            }
+        }
+        addRemainder(amount.getAmount().multiply(BigDecimal.valueOf(quantity)));
+        return this;
+    }
+
+    public MoneyAccumulator combine(MoneyAccumulator other) {
+        if (!currency.equals(other.currency)) {
+            throw new IllegalArgumentException("Currency mismatch");
+        }
+        if (other.scale >= 0) {
+            scale = other.scale;
+            try {
+                minorUnits = Math.addExact(minorUnits, other.minorUnits);
+            } catch (ArithmeticException overflow) {
+                addRemainder(BigDecimal.valueOf(other.minorUnits, other.scale));
+            }
+        }
+        if (other.remainder != null) {
+            addRemainder(other.remainder);
+        }
+        return this;
+    }
+
+    public Money toMoney() {
+        if (remainder == null) {
+            return scale >= 0 ? Money.ofMinor(minorUnits, currency) : Money.zero(currency);
+        }
+        BigDecimal total = scale >= 0 ? remainder.add(BigDecimal.valueOf(minorUnits, scale)) : remainder;
+        return Money.of(total, currency);
+    }
+
+    private void addRemainder(BigDecimal term) {
+        remainder = remainder == null ? term : remainder.add(term);
+    }
+}
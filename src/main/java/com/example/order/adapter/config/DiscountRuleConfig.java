@@ -0,0 +1,20 @@
+package com.example.order.adapter.config;
+
+import com.example.order.domain.discount.DiscountRuleEngine;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Builds the automatic discount engine from {@link DiscountRuleProperties}. Later changes to
+ * {@code order.discount} are installed into the running engine by {@link DiscountRuleRefresher}.
+ */
+@Configuration
+@EnableConfigurationProperties(DiscountRuleProperties.class)
+public class DiscountRuleConfig {
+
+    @Bean
+    public DiscountRuleEngine discountRuleEngine(DiscountRuleProperties properties) {
+        return new DiscountRuleEngine(properties.discountRules(), properties.maxPercent());
+    }
+}
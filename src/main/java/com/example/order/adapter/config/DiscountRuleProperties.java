@@ -0,0 +1,31 @@
+package com.example.order.adapter.config;
+
+import com.example.order.domain.discount.DiscountRule;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * Automatic discount settings under {@code order.discount}: {@code rules} is a list (or comma-separated
+ * string) of {@code name:criterion:threshold:percent} entries, {@code max-percent} caps their sum. The
+ * defaults are the VIP and bulk discounts: 10% off totals of 1000.00 or more, 5% off 10 or more items.
+ */
+@ConfigurationProperties(prefix = DiscountRuleProperties.PREFIX)
+public record DiscountRuleProperties(
+        @DefaultValue({"vip:min-total:1000.00:10", "bulk:min-items:10:5"}) List<String> rules,
+        @DefaultValue("15") BigDecimal maxPercent) {
+
+    static final String PREFIX = "order.discount";
+
+    /**
+     * Parses {@link #rules()}, skipping blank entries; malformed ones throw {@link IllegalArgumentException}.
+     */
+    public List<DiscountRule> discountRules() {
+        return rules.stream()
+                .filter(spec -> !spec.isBlank())
+                .map(spec -> DiscountRule.parse(spec.trim()))
+                .toList();
+    }
+}
@@ -0,0 +1,70 @@
+package com.example.order.adapter.config;
+
+import com.example.order.domain.discount.DiscountRuleEngine;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.core.env.Environment;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Keeps the running {@link DiscountRuleEngine} in step with {@code order.discount}. Every
+ * {@code order.discount.refresh-interval-ms} (30 seconds by default) the properties are bound again from the
+ * {@link Environment}, so a change in any property source that is updated at runtime reaches new orders and
+ * quotes without a restart. A changed set is compiled and swapped in with
+ * {@link DiscountRuleEngine#replaceRules}; one that does not bind or compile is logged once and the current
+ * rules stay in place.
+ */
+@Component
+public class DiscountRuleRefresher {
+
+    private static final Logger log = LoggerFactory.getLogger(DiscountRuleRefresher.class);
+
+    private final DiscountRuleEngine discountRuleEngine;
+    private final Environment environment;
+    private DiscountRuleProperties seen;
+
+    public DiscountRuleRefresher(DiscountRuleEngine discountRuleEngine,
+                                 Environment environment,
+                                 DiscountRuleProperties properties) {
+        this.discountRuleEngine = discountRuleEngine;
+        this.environment = environment;
+        this.seen = properties;
+    }
+
+    @Scheduled(initialDelayString = "${order.discount.refresh-interval-ms:30000}",
+               fixedDelayString = "${order.discount.refresh-interval-ms:30000}")
+    public void refreshRules() {
+        refresh();
+    }
+
+    /**
+     * Installs the current {@code order.discount} settings if they changed since the last look. Returns whether
+     * a new rule set was installed.
+     */
+    public synchronized boolean refresh() {
+        DiscountRuleProperties current;
+        try {
+            current = Binder.get(environment).bindOrCreate(DiscountRuleProperties.PREFIX, DiscountRuleProperties.class);
+        } catch (RuntimeException e) {
+            log.error("Failed to bind {} settings, keeping discount rules version {}",
+                    DiscountRuleProperties.PREFIX, discountRuleEngine.version(), e);
+            return false;
+        }
+        if (current.equals(seen)) {
+            return false;
+        }
+        seen = current;
+        try {
+            discountRuleEngine.replaceRules(current.discountRules(), current.maxPercent());
+        } catch (IllegalArgumentException e) {
+            log.error("Rejected discount rules {}, keeping version {}: {}",
+                    current.rules(), discountRuleEngine.version(), e.getMessage());
+            return false;
+        }
+        log.info("Installed discount rules version {}: {} capped at {}%",
+                discountRuleEngine.version(), current.rules(), current.maxPercent());
+        return true;
+    }
+}
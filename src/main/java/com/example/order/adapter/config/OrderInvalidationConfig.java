@@ -0,0 +1,66 @@
+package com.example.order.adapter.config;
+
+import com.example.order.adapter.in.messaging.OrderInvalidationListener;
+import com.example.order.adapter.out.messaging.OrderInvalidationPublisher;
+import com.example.order.application.service.OrderSummaryCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.amqp.core.AmqpTemplate;
+import org.springframework.amqp.core.AnonymousQueue;
+import org.springframework.amqp.core.Binding;
+import org.springframework.amqp.core.BindingBuilder;
+import org.springframework.amqp.core.FanoutExchange;
+import org.springframework.amqp.core.Queue;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.UUID;
+
+/**
+ * Cluster-wide invalidation of the order summary cache, enabled by {@code order.cache.invalidation.enabled}.
+ * Every instance publishes its committed order ids to the {@code order.cache.invalidation.exchange} fanout
+ * exchange and consumes it through its own exclusive, auto-deleted queue, so a restarted instance starts
+ * with an empty queue as well as an empty cache.
+ */
+@Configuration
+@ConditionalOnProperty(name = "order.cache.invalidation.enabled", havingValue = "true")
+public class OrderInvalidationConfig {
+
+    private final String exchange;
+    private final String nodeId = UUID.randomUUID().toString();
+
+    public OrderInvalidationConfig(
+            @Value("${order.cache.invalidation.exchange:order.cache.invalidation}") String exchange) {
+        this.exchange = exchange;
+    }
+
+    @Bean
+    public FanoutExchange orderInvalidationExchange() {
+        return new FanoutExchange(exchange, false, false);
+    }
+
+    @Bean
+    public Queue orderInvalidationQueue() {
+        return new AnonymousQueue();
+    }
+
+    @Bean
+    public Binding orderInvalidationBinding(FanoutExchange orderInvalidationExchange, Queue orderInvalidationQueue) {
+        return BindingBuilder.bind(orderInvalidationQueue).to(orderInvalidationExchange);
+    }
+
+    @Bean
+    public OrderInvalidationPublisher orderInvalidationPublisher(
+            AmqpTemplate amqpTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${order.cache.invalidation.batch-size:256}") int batchSize) {
+        return new OrderInvalidationPublisher(amqpTemplate, meterRegistry, exchange, nodeId, batchSize);
+    }
+
+    @Bean
+    public OrderInvalidationListener orderInvalidationListener(OrderSummaryCache orderSummaryCache,
+                                                               MeterRegistry meterRegistry) {
+        return new OrderInvalidationListener(orderSummaryCache, meterRegistry, nodeId);
+    }
+}
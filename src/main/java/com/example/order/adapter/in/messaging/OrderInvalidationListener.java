@@ -0,0 +1,46 @@
+package com.example.order.adapter.in.messaging;
+
+import com.example.order.application.dto.OrderInvalidationBatch;
+import com.example.order.application.service.OrderSummaryCache;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+
+import java.time.Duration;
+
+/**
+ * Evicts the cached summaries of orders changed on other instances. Batches from this instance are skipped,
+ * since its own committed events already invalidated the local cache.
+ * <p>
+ * {@code order.cache.invalidation.lag} records, per order, the time from the commit to the eviction here: how
+ * long this instance could have served the stale summary. {@code order.cache.invalidation.received} counts the
+ * orders evicted.
+ */
+public class OrderInvalidationListener {
+
+    private final OrderSummaryCache orderSummaryCache;
+    private final String nodeId;
+    private final Timer lag;
+    private final Counter received;
+
+    public OrderInvalidationListener(OrderSummaryCache orderSummaryCache, MeterRegistry meterRegistry, String nodeId) {
+        this.orderSummaryCache = orderSummaryCache;
+        this.nodeId = nodeId;
+        this.lag = Timer.builder("order.cache.invalidation.lag")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        this.received = meterRegistry.counter("order.cache.invalidation.received");
+    }
+
+    @RabbitListener(queues = "#{orderInvalidationQueue.name}")
+    public void onBatch(OrderInvalidationBatch batch) {
+        if (nodeId.equals(batch.sourceNode())) {
+            return;
+        }
+        orderSummaryCache.invalidateAll(batch.versions().keySet());
+        long now = System.currentTimeMillis();
+        batch.versions().values().forEach(committedAt -> lag.record(Duration.ofMillis(Math.max(now - committedAt, 0))));
+        received.increment(batch.versions().size());
+    }
+}
@@ -0,0 +1,240 @@
+package com.example.order.adapter.in.web;
+
+import com.example.order.application.dto.IdempotentResponse;
+import com.example.order.application.port.out.IdempotencyStore;
+import org.reactivestreams.Publisher;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpRequestDecorator;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+import reactor.core.publisher.Sinks;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Makes order commands idempotent through the {@code Idempotency-Key} header.
+ * The first request for a key runs normally and its response is recorded; repeated requests get the
+ * recorded response without reaching the controller. A key reused for a different method, path or body
+ * is rejected with 422. Concurrent requests with the same key wait for the in-flight execution instead of
+ * running it again; if that execution is cancelled (e.g. its client disconnected), one of them runs it.
+ * <p>
+ * Streaming commands under {@code /api/orders/bulk/} are passed through untouched: recording their response
+ * would hold the whole NDJSON progress stream in memory and deliver nothing until it ended.
+ */
+@Component
+public class IdempotencyWebFilter implements WebFilter {
+
+    public static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+
+    private static final Logger log = LoggerFactory.getLogger(IdempotencyWebFilter.class);
+    private static final String ORDER_COMMAND_PATH = "/api/orders";
+    private static final String STREAMING_COMMAND_PATH = "/api/orders/bulk/";
+    private static final int MAX_KEY_LENGTH = 100;
+
+    private final IdempotencyStore idempotencyStore;
+    private final ConcurrentMap<String, Sinks.One<IdempotentResponse>> inFlight = new ConcurrentHashMap<>();
+
+    public IdempotencyWebFilter(IdempotencyStore idempotencyStore) {
+        this.idempotencyStore = idempotencyStore;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        ServerHttpRequest request = exchange.getRequest();
+        String key = request.getHeaders().getFirst(IDEMPOTENCY_KEY_HEADER);
+        String path = request.getPath().value();
+        if (key == null || request.getMethod() != HttpMethod.POST
+                || !path.startsWith(ORDER_COMMAND_PATH) || path.startsWith(STREAMING_COMMAND_PATH)) {
+            return chain.filter(exchange);
+        }
+        if (key.isBlank() || key.length() > MAX_KEY_LENGTH) {
+            exchange.getResponse().setStatusCode(HttpStatus.BAD_REQUEST);
+            return exchange.getResponse().setComplete();
+        }
+
+        return DataBufferUtils.join(request.getBody())
+                .map(IdempotencyWebFilter::drain)
+                .defaultIfEmpty(new byte[0])
+                .flatMap(body -> {
+                    // The body is consumed here, so the chain and any re-execution read it from memory
+                    ServerWebExchange replayable = exchange.mutate().request(new CachedBodyRequest(request, body)).build();
+                    return filter(replayable, chain, key, fingerprint(request, body));
+                });
+    }
+
+    private Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain, String key, String fingerprint) {
+        Sinks.One<IdempotentResponse> sink = Sinks.one();
+        Sinks.One<IdempotentResponse> running = inFlight.putIfAbsent(key, sink);
+        if (running != null) {
+            // Same key already executing: coalesce onto its outcome, or run it ourselves if it was abandoned
+            return running.asMono()
+                    .flatMap(response -> replay(exchange, response, fingerprint))
+                    .onErrorResume(AbandonedExecution.class, abandoned -> filter(exchange, chain, key, fingerprint));
+        }
+
+        return idempotencyStore.find(key)
+                .map(Optional::of)
+                .defaultIfEmpty(Optional.empty())
+                .flatMap(stored -> {
+                    if (stored.isPresent()) {
+                        sink.tryEmitValue(stored.get());
+                        return replay(exchange, stored.get(), fingerprint);
+                    }
+                    return execute(exchange, chain, key, fingerprint, sink);
+                })
+                .doOnError(sink::tryEmitError)
+                .doFinally(signal -> {
+                    // Removed before waiters are released, so the one that re-executes can register itself
+                    inFlight.remove(key, sink);
+                    if (signal == SignalType.CANCEL) {
+                        sink.tryEmitError(new AbandonedExecution(key));
+                    }
+                });
+    }
+
+    /**
+     * Method, path and a SHA-256 of the body: a key may only be repeated for the identical request.
+     */
+    private static String fingerprint(ServerHttpRequest request, byte[] body) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(body);
+            return request.getMethod().name() + " " + request.getPath().value() + " " + HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    private static byte[] drain(DataBuffer buffer) {
+        byte[] bytes = new byte[buffer.readableByteCount()];
+        buffer.read(bytes);
+        DataBufferUtils.release(buffer);
+        return bytes;
+    }
+
+    private Mono<Void> execute(ServerWebExchange exchange, WebFilterChain chain, String key,
+                               String fingerprint, Sinks.One<IdempotentResponse> sink) {
+        CapturingResponse capturing = new CapturingResponse(exchange.getResponse());
+        return chain.filter(exchange.mutate().response(capturing).build())
+                .then(Mono.defer(() -> {
+                    HttpStatusCode status = capturing.getStatusCode();
+                    MediaType contentType = capturing.getHeaders().getContentType();
+                    IdempotentResponse response = new IdempotentResponse(
+                            fingerprint,
+                            status != null ? status.value() : HttpStatus.OK.value(),
+                            contentType != null ? contentType.toString() : null,
+                            capturing.body(),
+                            Instant.now()
+                    );
+                    sink.tryEmitValue(response);
+                    if (!response.isSuccessful()) {
+                        // Failures are not recorded so the client can retry them
+                        return Mono.empty();
+                    }
+                    return idempotencyStore.save(key, response)
+                            .onErrorResume(e -> {
+                                log.warn("Failed to record idempotency key {}: {}", key, e.getMessage());
+                                return Mono.empty();
+                            });
+                }));
+    }
+
+    private Mono<Void> replay(ServerWebExchange exchange, IdempotentResponse stored, String fingerprint) {
+        ServerHttpResponse response = exchange.getResponse();
+        if (!stored.requestFingerprint().equals(fingerprint)) {
+            response.setStatusCode(HttpStatus.UNPROCESSABLE_ENTITY);
+            return response.setComplete();
+        }
+        response.setStatusCode(HttpStatusCode.valueOf(stored.status()));
+        if (stored.contentType() != null) {
+            response.getHeaders().set(HttpHeaders.CONTENT_TYPE, stored.contentType());
+        }
+        response.getHeaders().set(REPLAYED_HEADER, "true");
+        return response.writeWith(Mono.just(response.bufferFactory().wrap(stored.body())));
+    }
+
+    /**
+     * Request decorator that serves an already read body, as often as it is subscribed to.
+     */
+    private static final class CachedBodyRequest extends ServerHttpRequestDecorator {
+
+        private final byte[] body;
+
+        CachedBodyRequest(ServerHttpRequest delegate, byte[] body) {
+            super(delegate);
+            this.body = body;
+        }
+
+        @Override
+        public Flux<DataBuffer> getBody() {
+            return body.length == 0
+                    ? Flux.empty()
+                    : Flux.defer(() -> Flux.just(DefaultDataBufferFactory.sharedInstance.wrap(body)));
+        }
+    }
+
+    /**
+     * Signals waiters that the execution they coalesced onto was cancelled before it produced a response.
+     */
+    private static final class AbandonedExecution extends RuntimeException {
+
+        AbandonedExecution(String key) {
+            super("Execution for idempotency key " + key + " was cancelled", null, false, false);
+        }
+    }
+
+    /**
+     * Response decorator that keeps a copy of the written body.
+     */
+    private static final class CapturingResponse extends ServerHttpResponseDecorator {
+
+        private byte[] body = new byte[0];
+
+        CapturingResponse(ServerHttpResponse delegate) {
+            super(delegate);
+        }
+
+        @Override
+        public Mono<Void> writeWith(Publisher<? extends DataBuffer> body) {
+            return DataBufferUtils.join(body)
+                    .map(IdempotencyWebFilter::drain)
+                    .defaultIfEmpty(new byte[0])
+                    .flatMap(bytes -> {
+                        this.body = bytes;
+                        return getDelegate().writeWith(Mono.just(bufferFactory().wrap(bytes)));
+                    });
+        }
+
+        @Override
+        public Mono<Void> writeAndFlushWith(Publisher<? extends Publisher<? extends DataBuffer>> body) {
+            return writeWith(Flux.from(body).<DataBuffer>concatMap(publisher -> publisher));
+        }
+
+        byte[] body() {
+            return body;
+        }
+    }
+}
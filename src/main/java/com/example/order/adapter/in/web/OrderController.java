@@ -1,112 +1,217 @@
 package com.example.order.adapter.in.web;
 
 import com.example.common.adapter.in.web.dto.ApiResponse;
+import com.example.order.adapter.in.web.dto.OrderListCursor;
 import com.example.order.adapter.in.web.dto.OrderListResponse;
 import com.example.order.application.dto.*;
 import com.example.order.application.port.in.CreateOrderUseCase;
+import com.example.order.application.port.in.QuoteOrderUseCase;
 import com.example.order.application.port.out.OrderQueryPort;
 import com.example.order.application.service.*;
 import com.example.order.domain.model.Order;
 import com.example.order.domain.model.OrderStatus;
 import jakarta.validation.Valid;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.net.URI;
+import java.util.Optional;
+
 @RestController
 @RequestMapping("/api/orders")
 public class OrderController {
 
     private final CreateOrderUseCase createOrderUseCase;
+    private final QuoteOrderUseCase quoteOrderUseCase;
     private final ConfirmOrderHandler confirmOrderHandler;
     private final PayOrderHandler payOrderHandler;
     private final CancelOrderHandler cancelOrderHandler;
     private final ApplyDiscountHandler applyDiscountHandler;
+    private final BulkOrderTransitionHandler bulkOrderTransitionHandler;
+    private final OrderCommandDispatcher commandDispatcher;
     private final OrderQueryPort orderQueryPort;
+    private final OrderSummaryCache orderSummaryCache;
+    private final ObjectProvider<JournaledOrderCommandService> journaledCommandService;
 
     public OrderController(
             CreateOrderUseCase createOrderUseCase,
+            QuoteOrderUseCase quoteOrderUseCase,
             ConfirmOrderHandler confirmOrderHandler,
             PayOrderHandler payOrderHandler,
             CancelOrderHandler cancelOrderHandler,
             ApplyDiscountHandler applyDiscountHandler,
-            OrderQueryPort orderQueryPort) {
+            BulkOrderTransitionHandler bulkOrderTransitionHandler,
+            OrderCommandDispatcher commandDispatcher,
+            OrderQueryPort orderQueryPort,
+            OrderSummaryCache orderSummaryCache,
+            ObjectProvider<JournaledOrderCommandService> journaledCommandService) {
         this.createOrderUseCase = createOrderUseCase;
+        this.quoteOrderUseCase = quoteOrderUseCase;
         this.confirmOrderHandler = confirmOrderHandler;
         this.payOrderHandler = payOrderHandler;
         this.cancelOrderHandler = cancelOrderHandler;
         this.applyDiscountHandler = applyDiscountHandler;
+        this.bulkOrderTransitionHandler = bulkOrderTransitionHandler;
+        this.commandDispatcher = commandDispatcher;
         this.orderQueryPort = orderQueryPort;
+        this.orderSummaryCache = orderSummaryCache;
+        this.journaledCommandService = journaledCommandService;
     }
 
     @PostMapping
-    @ResponseStatus(HttpStatus.CREATED)
-    public Mono<ApiResponse<Order>> createOrder(@Valid @RequestBody CreateOrderCommand command) {
-        return createOrderUseCase.handle(command)
-                .map(res -> ApiResponse.success(HttpStatus.CREATED.value(), res));
+    public Mono<ResponseEntity<ApiResponse<?>>> createOrder(@Valid @RequestBody CreateOrderCommand command) {
+        Mono<ResponseEntity<ApiResponse<?>>> created = Mono.defer(() -> createOrderUseCase.handle(command))
+                .<ResponseEntity<ApiResponse<?>>>map(res -> ResponseEntity.status(HttpStatus.CREATED)
+                        .body(ApiResponse.success(HttpStatus.CREATED.value(), res)));
+
+        JournaledOrderCommandService journal = journaledCommandService.getIfAvailable();
+        if (journal == null) {
+            return created;
+        }
+        // Async mode: accept once journaled, fall back to applying directly when the journal is full
+        return journal.submit(command)
+                .<ResponseEntity<ApiResponse<?>>>map(accepted -> ResponseEntity.status(HttpStatus.ACCEPTED)
+                        .location(URI.create("/api/orders/commands/" + accepted.commandId()))
+                        .body(ApiResponse.success(HttpStatus.ACCEPTED.value(), accepted)))
+                .switchIfEmpty(created);
+    }
+
+    @PostMapping("/quote")
+    public Mono<ApiResponse<OrderQuoteResult>> quoteOrder(@RequestBody QuoteOrderCommand command) {
+        return quoteOrderUseCase.handle(command)
+                .map(res -> ApiResponse.success(HttpStatus.OK.value(), res));
+    }
+
+    @GetMapping("/commands/{commandId}")
+    public Mono<ResponseEntity<ApiResponse<CommandStatusResult>>> getCommandStatus(@PathVariable String commandId) {
+        JournaledOrderCommandService journal = journaledCommandService.getIfAvailable();
+        if (journal == null) {
+            return Mono.just(ResponseEntity.notFound().build());
+        }
+        return journal.status(commandId)
+                .map(res -> ResponseEntity.ok(ApiResponse.success(HttpStatus.OK.value(), res)))
+                .defaultIfEmpty(ResponseEntity.notFound().build());
     }
 
     @PostMapping("/{orderId}/confirm")
     public Mono<ApiResponse<Order>> confirmOrder(@PathVariable String orderId) {
-        return confirmOrderHandler.handle(new ConfirmOrderCommand(orderId))
+        return commandDispatcher.dispatch(orderId, () -> confirmOrderHandler.handle(new ConfirmOrderCommand(orderId)))
                 .map(res -> ApiResponse.success(HttpStatus.OK.value(), res));
     }
 
     @PostMapping("/{orderId}/pay")
     public Mono<ApiResponse<Order>> payOrder(@PathVariable String orderId) {
-        return payOrderHandler.handle(new PayOrderCommand(orderId))
+        return commandDispatcher.dispatch(orderId, () -> payOrderHandler.handle(new PayOrderCommand(orderId)))
                 .map(res -> ApiResponse.success(HttpStatus.OK.value(), res));
     }
 
     @PostMapping("/{orderId}/cancel")
     public Mono<ApiResponse<Order>> cancelOrder(@PathVariable String orderId, @RequestParam String reason) {
-        return cancelOrderHandler.handle(new CancelOrderCommand(orderId, reason))
+        return commandDispatcher.dispatch(orderId, () -> cancelOrderHandler.handle(new CancelOrderCommand(orderId, reason)))
                 .map(res -> ApiResponse.success(HttpStatus.OK.value(), res));
     }
 
     @PostMapping("/{orderId}/discount")
     public Mono<ApiResponse<Order>> applyDiscount(@PathVariable String orderId, @Valid @RequestBody ApplyDiscountCommand command) {
-        return applyDiscountHandler.handle(command)
+        // The lane is keyed by the path id, so the command must act on that order and no other
+        if (command.orderId() != null && !command.orderId().equals(orderId)) {
+            return Mono.error(new IllegalArgumentException(
+                    "Order id " + command.orderId() + " in the body does not match " + orderId + " in the path"));
+        }
+        ApplyDiscountCommand forPath = new ApplyDiscountCommand(orderId, command.discountPercentage());
+        return commandDispatcher.dispatch(orderId, () -> applyDiscountHandler.handle(forPath))
                 .map(res -> ApiResponse.success(HttpStatus.OK.value(), res));
     }
 
+    @PostMapping(value = "/bulk/{action}", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<BulkTransitionProgress> bulkTransition(
+            @PathVariable String action,
+            @RequestParam(required = false) String customerId,
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) String reason,
+            @RequestParam(defaultValue = "0") int chunkSize) {
+        BulkTransitionCommand command = new BulkTransitionCommand(
+                BulkTransitionCommand.Action.valueOf(action.toUpperCase()),
+                customerId,
+                status != null ? OrderStatus.valueOf(status.toUpperCase()) : null,
+                reason,
+                chunkSize
+        );
+        return bulkOrderTransitionHandler.handle(command);
+    }
+
     @GetMapping("/{orderId}")
-    public Mono<ApiResponse<Order>> getOrder(@PathVariable String orderId) {
-        return orderQueryPort.findById(orderId)
+    public Mono<ApiResponse<Order>> getOrder(@PathVariable String orderId,
+                                             @RequestParam(defaultValue = "false") boolean includeHistory) {
+        return (includeHistory ? orderQueryPort.findById(orderId, true) : orderQueryPort.findById(orderId))
                 .map(res -> ApiResponse.success(HttpStatus.OK.value(), res));
     }
 
     @GetMapping("/{orderId}/summary")
     public Mono<ApiResponse<OrderSummaryResult>> getOrderSummary(@PathVariable String orderId) {
-        return orderQueryPort.findOrderSummary(orderId)
+        return orderSummaryCache.get(orderId)
                 .map(res -> ApiResponse.success(HttpStatus.OK.value(), res));
     }
 
     @GetMapping
     public Mono<ApiResponse<OrderListResponse>> listOrders(
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size) {
-        return orderQueryPort.findOrderList(page, size)
-                .collectList()
-                .map(orders -> new OrderListResponse(orders, orders.size()))
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "false") boolean includeHistory,
+            @RequestParam(defaultValue = "false") boolean withTotal) {
+        Flux<OrderListItemResult> orders;
+        if (cursor != null) {
+            OrderListCursor position = OrderListCursor.decode(cursor);
+            orders = includeHistory
+                    ? orderQueryPort.findOrderListBefore(position.createdAt(), position.orderId(), size, true)
+                    : orderQueryPort.findOrderListBefore(position.createdAt(), position.orderId(), size);
+        } else {
+            // Offset paging stays for existing clients; both modes hand out a cursor for the next page
+            orders = includeHistory ? orderQueryPort.findOrderList(page, size, true) : orderQueryPort.findOrderList(page, size);
+        }
+        Mono<Optional<Long>> total = withTotal
+                ? (includeHistory ? orderQueryPort.count(true) : orderQueryPort.count()).map(Optional::of)
+                : Mono.just(Optional.empty());
+        return orders.collectList()
+                .zipWith(total, (list, count) -> new OrderListResponse(list, list.size(),
+                        list.size() == size && !list.isEmpty() ? OrderListCursor.after(list.get(list.size() - 1)).encode() : null,
+                        count.orElse(null)))
                 .map(res -> ApiResponse.success(HttpStatus.OK.value(), res));
     }
 
     @GetMapping("/customer/{customerId}")
-    public Mono<ApiResponse<java.util.List<Order>>> getCustomerOrders(@PathVariable String customerId) {
-        return orderQueryPort.findByCustomerId(customerId)
+    public Mono<ApiResponse<java.util.List<Order>>> getCustomerOrders(
+            @PathVariable String customerId,
+            @RequestParam(defaultValue = "false") boolean includeHistory) {
+        return (includeHistory
+                    ? orderQueryPort.findByCustomerId(customerId, true)
+                    : orderQueryPort.findByCustomerId(customerId))
                 .collectList()
                 .map(res -> ApiResponse.success(HttpStatus.OK.value(), res));
     }
 
     @GetMapping("/status/{status}")
-    public Mono<ApiResponse<java.util.List<Order>>> getOrdersByStatus(@PathVariable String status) {
-        return orderQueryPort.findByStatus(OrderStatus.valueOf(status.toUpperCase()))
+    public Mono<ApiResponse<java.util.List<Order>>> getOrdersByStatus(
+            @PathVariable String status,
+            @RequestParam(defaultValue = "false") boolean includeHistory) {
+        OrderStatus orderStatus = OrderStatus.valueOf(status.toUpperCase());
+        return (includeHistory ? orderQueryPort.findByStatus(orderStatus, true) : orderQueryPort.findByStatus(orderStatus))
                 .collectList()
                 .map(res -> ApiResponse.success(HttpStatus.OK.value(), res));
     }
 
+    @GetMapping("/status/{status}/count")
+    public Mono<ApiResponse<Long>> countOrdersByStatus(@PathVariable String status) {
+        return orderQueryPort.countByStatus(OrderStatus.valueOf(status.toUpperCase()))
+                .map(res -> ApiResponse.success(HttpStatus.OK.value(), res));
+    }
+
     @GetMapping("/customer/{customerId}/stats")
     public Mono<ApiResponse<CustomerOrderStatsResult>> getCustomerStats(@PathVariable String customerId) {
         return orderQueryPort.findCustomerStats(customerId)
@@ -0,0 +1,36 @@
+package com.example.order.adapter.in.web.dto;
+
+import com.example.order.application.dto.OrderListItemResult;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+
+/**
+ * Position in the newest-first order listing: the (createdAt, id) of the last order a client has seen.
+ * Clients only ever see it as an opaque token.
+ */
+public record OrderListCursor(Instant createdAt, String orderId) {
+
+    public static OrderListCursor after(OrderListItemResult last) {
+        return new OrderListCursor(last.createdAt(), last.orderId());
+    }
+
+    public String encode() {
+        String position = createdAt.getEpochSecond() + "." + createdAt.getNano() + ":" + orderId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(position.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static OrderListCursor decode(String token) {
+        try {
+            String position = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int dot = position.indexOf('.');
+            int colon = position.indexOf(':', dot + 1);
+            Instant createdAt = Instant.ofEpochSecond(Long.parseLong(position.substring(0, dot)),
+                    Long.parseLong(position.substring(dot + 1, colon)));
+            return new OrderListCursor(createdAt, position.substring(colon + 1));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + token);
+        }
+    }
+}
@@ -3,4 +3,13 @@ package com.example.order.adapter.in.web.dto;
 import com.example.order.application.dto.OrderListItemResult;
 import java.util.List;
 
-public record OrderListResponse(List<OrderListItemResult> orders, int count) {}
+/**
+ * One page of the order listing. {@code count} is the size of this page; {@code total} is only filled in when
+ * requested. {@code nextCursor} continues after the last order of a full page and is null on the last page.
+ */
+public record OrderListResponse(List<OrderListItemResult> orders, int count, String nextCursor, Long total) {
+
+    public OrderListResponse(List<OrderListItemResult> orders, int count) {
+        this(orders, count, null, null);
+    }
+}
@@ -0,0 +1,252 @@
+package com.example.order.adapter.out.journal;
+
+import com.example.common.domain.model.TimeOrderedIdGenerator;
+import com.example.order.application.dto.CreateOrderCommand;
+import com.example.order.application.dto.JournaledCommand;
+import com.example.order.application.port.out.CommandJournal;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.zip.CRC32;
+
+/**
+ * Command journal backed by a single memory-mapped file.
+ * <p>
+ * Layout: a fixed header holding the acknowledged offset and sequence, followed by records of
+ * {@code [int length][int crc32][long sequence][payload]}. Every append is forced to disk before
+ * it is reported back, and a zero length marks the end of the log. On startup the records are
+ * scanned from the header; the scan stops at the first record with a bad checksum or a
+ * non-increasing sequence, which drops a write torn by a crash. Once every record has been
+ * acknowledged the log wraps back to the start of the file.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "order.journal.enabled", havingValue = "true")
+public class MappedCommandJournal implements CommandJournal {
+
+    private static final String FILE_NAME = "order-commands.journal";
+    private static final int MAGIC = 0x4F434A31;
+    private static final int HEADER_SIZE = 64;
+    private static final int ACKED_OFFSET_POSITION = 8;
+    private static final int ACKED_SEQUENCE_POSITION = 16;
+    private static final int RECORD_HEADER_SIZE = 16;
+    private static final int END_MARKER_SIZE = Integer.BYTES;
+
+    private final ObjectMapper objectMapper;
+    private final FileChannel channel;
+    private final MappedByteBuffer buffer;
+    private final int capacity;
+    private final Object lock = new Object();
+    private final NavigableMap<Long, Integer> handedOutEndOffsets = new TreeMap<>();
+
+    private int writePosition;
+    private int pollPosition;
+    private int ackedPosition;
+    private long ackedSequence;
+    private long nextSequence;
+
+    public MappedCommandJournal(ObjectMapper objectMapper,
+                                @Value("${order.journal.directory:./data/journal}") String directory,
+                                @Value("${order.journal.capacity-bytes:67108864}") int capacity) {
+        this.objectMapper = objectMapper;
+        this.capacity = capacity;
+        try {
+            Path dir = Path.of(directory);
+            Files.createDirectories(dir);
+            this.channel = FileChannel.open(dir.resolve(FILE_NAME),
+                    StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            this.buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, capacity);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to open command journal in " + directory, e);
+        }
+        recover();
+    }
+
+    @Override
+    public Mono<JournaledCommand> append(CreateOrderCommand command) {
+        return Mono.fromCallable(() -> {
+            String commandId = TimeOrderedIdGenerator.nextId();
+            byte[] payload = objectMapper.writeValueAsBytes(new JournalEntry(commandId, command));
+            int recordSize = RECORD_HEADER_SIZE + payload.length;
+
+            synchronized (lock) {
+                if (!ensureRoom(recordSize)) {
+                    return null;
+                }
+                long sequence = nextSequence++;
+                int position = writePosition;
+                buffer.putInt(position + 4, checksum(sequence, payload));
+                buffer.putLong(position + 8, sequence);
+                buffer.put(position + RECORD_HEADER_SIZE, payload);
+                buffer.putInt(position + recordSize, 0);
+                // Length goes in last so a record torn mid-write never looks complete
+                buffer.putInt(position, payload.length);
+                buffer.force(position, recordSize + END_MARKER_SIZE);
+                writePosition = position + recordSize;
+                return new JournaledCommand(commandId, sequence, command);
+            }
+        }).subscribeOn(Schedulers.boundedElastic());
+    }
+
+    @Override
+    public Flux<JournaledCommand> poll(int maxCommands) {
+        return Mono.fromCallable(() -> {
+            List<JournaledCommand> commands = new ArrayList<>();
+            synchronized (lock) {
+                while (commands.size() < maxCommands && pollPosition < writePosition) {
+                    JournalRecord record = readAt(pollPosition, 0);
+                    if (record == null) {
+                        break;
+                    }
+                    pollPosition = record.endOffset();
+                    if (record.sequence() <= ackedSequence) {
+                        continue;
+                    }
+                    JournalEntry entry = objectMapper.readValue(record.payload(), JournalEntry.class);
+                    handedOutEndOffsets.put(record.sequence(), record.endOffset());
+                    commands.add(new JournaledCommand(entry.commandId(), record.sequence(), entry.command()));
+                }
+            }
+            return commands;
+        })
+        .subscribeOn(Schedulers.boundedElastic())
+        .flatMapIterable(Function.identity());
+    }
+
+    @Override
+    public Mono<Void> acknowledge(long sequence) {
+        return Mono.<Void>fromRunnable(() -> {
+            synchronized (lock) {
+                Integer endOffset = handedOutEndOffsets.get(sequence);
+                if (endOffset == null) {
+                    return;
+                }
+                handedOutEndOffsets.headMap(sequence, true).clear();
+                ackedPosition = endOffset;
+                ackedSequence = sequence;
+                writeCheckpoint();
+            }
+        }).subscribeOn(Schedulers.boundedElastic());
+    }
+
+    @Override
+    public void rewind() {
+        synchronized (lock) {
+            pollPosition = ackedPosition;
+            handedOutEndOffsets.clear();
+        }
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        synchronized (lock) {
+            buffer.force();
+            channel.close();
+        }
+    }
+
+    private void recover() {
+        if (buffer.getInt(0) != MAGIC) {
+            buffer.putInt(0, MAGIC);
+            buffer.putInt(HEADER_SIZE, 0);
+            ackedPosition = HEADER_SIZE;
+            ackedSequence = 0;
+            writeCheckpoint();
+        } else {
+            ackedPosition = (int) buffer.getLong(ACKED_OFFSET_POSITION);
+            ackedSequence = buffer.getLong(ACKED_SEQUENCE_POSITION);
+        }
+
+        int position = HEADER_SIZE;
+        long lastSequence = 0;
+        JournalRecord record;
+        while ((record = readAt(position, lastSequence)) != null) {
+            lastSequence = record.sequence();
+            position = record.endOffset();
+        }
+        writePosition = position;
+        ackedPosition = Math.max(HEADER_SIZE, Math.min(ackedPosition, writePosition));
+        pollPosition = ackedPosition;
+        nextSequence = Math.max(lastSequence, ackedSequence) + 1;
+        log.info("Recovered command journal: {} bytes pending replay, next sequence {}",
+                writePosition - ackedPosition, nextSequence);
+    }
+
+    private boolean ensureRoom(int recordSize) {
+        if (writePosition + recordSize + END_MARKER_SIZE <= capacity) {
+            return true;
+        }
+        if (ackedPosition != writePosition || !handedOutEndOffsets.isEmpty()) {
+            return false;
+        }
+        // Everything has been applied: start over at the beginning of the file
+        buffer.putInt(HEADER_SIZE, 0);
+        buffer.force(HEADER_SIZE, END_MARKER_SIZE);
+        writePosition = HEADER_SIZE;
+        pollPosition = HEADER_SIZE;
+        ackedPosition = HEADER_SIZE;
+        writeCheckpoint();
+        return HEADER_SIZE + recordSize + END_MARKER_SIZE <= capacity;
+    }
+
+    private JournalRecord readAt(int position, long previousSequence) {
+        if (position + RECORD_HEADER_SIZE > capacity) {
+            return null;
+        }
+        int length = buffer.getInt(position);
+        if (length <= 0 || length > capacity - position - RECORD_HEADER_SIZE) {
+            return null;
+        }
+        int crc = buffer.getInt(position + 4);
+        long sequence = buffer.getLong(position + 8);
+        if (sequence <= previousSequence) {
+            return null;
+        }
+        byte[] payload = new byte[length];
+        buffer.get(position + RECORD_HEADER_SIZE, payload);
+        if (checksum(sequence, payload) != crc) {
+            return null;
+        }
+        return new JournalRecord(sequence, payload, position + RECORD_HEADER_SIZE + length);
+    }
+
+    private void writeCheckpoint() {
+        buffer.putLong(ACKED_OFFSET_POSITION, ackedPosition);
+        buffer.putLong(ACKED_SEQUENCE_POSITION, ackedSequence);
+        buffer.force(0, HEADER_SIZE);
+    }
+
+    private static int checksum(long sequence, byte[] payload) {
+        CRC32 crc = new CRC32();
+        for (int shift = 56; shift >= 0; shift -= 8) {
+            crc.update((int) (sequence >>> shift));
+        }
+        crc.update(payload);
+        return (int) crc.getValue();
+    }
+
+    private record JournalRecord(long sequence, byte[] payload, int endOffset) {
+    }
+
+    record JournalEntry(String commandId, CreateOrderCommand command) {
+    }
+}
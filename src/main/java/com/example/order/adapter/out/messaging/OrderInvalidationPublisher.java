@@ -0,0 +1,125 @@
+package com.example.order.adapter.out.messaging;
+
+import com.example.common.domain.event.DomainEvent;
+import com.example.order.application.dto.OrderInvalidationBatch;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.amqp.core.AmqpTemplate;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Broadcasts the ids of orders with committed events to the invalidation fanout exchange, so other instances
+ * can drop their cached copies.
+ * <p>
+ * Events are not sent one by one: ids collect in a pending map, keeping only the latest version per order, and
+ * are flushed as one message every {@code order.cache.invalidation.flush-interval-ms} or as soon as
+ * {@code order.cache.invalidation.batch-size} orders are pending. A write burst on one order therefore costs a
+ * single entry. A failed send is logged and dropped; the cache TTL bounds how long the other instances serve
+ * the stale entries.
+ * <p>
+ * Reports {@code order.cache.invalidation.published} (orders sent), {@code order.cache.invalidation.coalesced}
+ * (events folded into an already pending order), {@code order.cache.invalidation.batch.size} and
+ * {@code order.cache.invalidation.publish} (time spent sending a batch).
+ */
+public class OrderInvalidationPublisher {
+
+    private static final Logger log = LoggerFactory.getLogger(OrderInvalidationPublisher.class);
+
+    private final AmqpTemplate amqpTemplate;
+    private final String exchange;
+    private final String nodeId;
+    private final int batchSize;
+    private final Map<String, Long> pending = new ConcurrentHashMap<>();
+    private final AtomicBoolean flushing = new AtomicBoolean();
+    private final Counter published;
+    private final Counter coalesced;
+    private final DistributionSummary batchSizes;
+    private final Timer publishTimer;
+
+    public OrderInvalidationPublisher(AmqpTemplate amqpTemplate,
+                                      MeterRegistry meterRegistry,
+                                      String exchange,
+                                      String nodeId,
+                                      int batchSize) {
+        this.amqpTemplate = amqpTemplate;
+        this.exchange = exchange;
+        this.nodeId = nodeId;
+        this.batchSize = batchSize;
+        this.published = meterRegistry.counter("order.cache.invalidation.published");
+        this.coalesced = meterRegistry.counter("order.cache.invalidation.coalesced");
+        this.batchSizes = meterRegistry.summary("order.cache.invalidation.batch.size");
+        this.publishTimer = meterRegistry.timer("order.cache.invalidation.publish");
+    }
+
+    @EventListener
+    public void onCommitted(DomainEvent event) {
+        long version = event.occurredAt().toEpochMilli();
+        if (pending.putIfAbsent(event.aggregateId(), version) != null) {
+            pending.merge(event.aggregateId(), version, Math::max);
+            coalesced.increment();
+        }
+        if (pending.size() >= batchSize) {
+            flush();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${order.cache.invalidation.flush-interval-ms:50}")
+    public void flush() {
+        if (pending.isEmpty() || !flushing.compareAndSet(false, true)) {
+            return;
+        }
+        Map<String, Long> versions = drain();
+        if (versions.isEmpty()) {
+            flushing.set(false);
+            return;
+        }
+        OrderInvalidationBatch batch = new OrderInvalidationBatch(nodeId, System.currentTimeMillis(), versions);
+        Mono.fromRunnable(() -> publishTimer.record(() -> amqpTemplate.convertAndSend(exchange, "", batch)))
+                .subscribeOn(Schedulers.boundedElastic())
+                .doFinally(signal -> {
+                    flushing.set(false);
+                    // Keep up with a burst instead of waiting a full interval per batch
+                    if (pending.size() >= batchSize) {
+                        flush();
+                    }
+                })
+                .subscribe(
+                    null,
+                    error -> log.error("Failed to publish invalidation of {} orders", versions.size(), error),
+                    () -> {
+                        published.increment(versions.size());
+                        batchSizes.record(versions.size());
+                    }
+                );
+    }
+
+    private Map<String, Long> drain() {
+        Map<String, Long> versions = new HashMap<>();
+        Iterator<Map.Entry<String, Long>> entries = pending.entrySet().iterator();
+        while (entries.hasNext() && versions.size() < batchSize) {
+            Map.Entry<String, Long> entry = entries.next();
+            // A newer version merged in meanwhile stays pending and goes out with the next batch
+            if (pending.remove(entry.getKey(), entry.getValue())) {
+                versions.put(entry.getKey(), entry.getValue());
+            }
+        }
+        return versions;
+    }
+
+    int pendingCount() {
+        return pending.size();
+    }
+}
@@ -0,0 +1,67 @@
+package com.example.order.adapter.out.persistence;
+
+import com.example.order.application.dto.CommandStatusResult;
+import com.example.order.application.port.out.CommandStatusStore;
+import io.smallrye.mutiny.converters.uni.UniReactorConverters;
+import org.hibernate.reactive.mutiny.Mutiny;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Outcomes of journaled order commands in the {@code command_statuses} table, kept for
+ * {@code order.journal.status-retention}.
+ */
+@Repository
+@ConditionalOnProperty(name = "order.journal.enabled", havingValue = "true")
+public class CommandStatusPersistenceAdapter implements CommandStatusStore {
+
+    private static final Logger log = LoggerFactory.getLogger(CommandStatusPersistenceAdapter.class);
+
+    private final Mutiny.SessionFactory sessionFactory;
+    private final Duration retention;
+
+    public CommandStatusPersistenceAdapter(Mutiny.SessionFactory sessionFactory,
+                                           @Value("${order.journal.status-retention:PT1H}") Duration retention) {
+        this.sessionFactory = sessionFactory;
+        this.retention = retention;
+    }
+
+    @Override
+    public Mono<CommandStatusResult> find(String commandId) {
+        return sessionFactory.withSession(session -> session.find(CommandStatusRecord.class, commandId))
+                .convert().with(UniReactorConverters.toMono())
+                .filter(record -> record.getRecordedAt().isAfter(Instant.now().minus(retention)))
+                .map(CommandStatusRecord::toResult);
+    }
+
+    @Override
+    public Mono<Void> save(CommandStatusResult status) {
+        // merge, not persist: a command replayed after a crash records its outcome again
+        return sessionFactory.withTransaction((session, tx) ->
+                        session.merge(CommandStatusRecord.of(status, Instant.now())))
+                .replaceWithVoid()
+                .convert().with(UniReactorConverters.toMono());
+    }
+
+    @Scheduled(fixedDelayString = "${order.journal.status-purge-interval-ms:3600000}")
+    public void purgeExpired() {
+        String hql = "delete from CommandStatusRecord where recordedAt < :cutoff";
+        sessionFactory.withTransaction((session, tx) ->
+                        session.createMutationQuery(hql)
+                               .setParameter("cutoff", Instant.now().minus(retention))
+                               .executeUpdate())
+                .convert().with(UniReactorConverters.toMono())
+                .subscribe(
+                    purged -> log.debug("Purged {} expired command statuses", purged),
+                    error -> log.error("Failed to purge expired command statuses", error)
+                );
+    }
+}
@@ -0,0 +1,50 @@
+package com.example.order.adapter.out.persistence;
+
+import com.example.order.application.dto.CommandStatusResult;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+@Entity
+@Table(name = "command_statuses")
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CommandStatusRecord {
+
+    @Id
+    @Column(name = "command_id")
+    private String commandId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status")
+    private CommandStatusResult.Status status;
+
+    @Column(name = "order_id")
+    private String orderId;
+
+    @Column(name = "error")
+    private String error;
+
+    @Column(name = "recorded_at")
+    private Instant recordedAt;
+
+    public static CommandStatusRecord of(CommandStatusResult status, Instant recordedAt) {
+        return CommandStatusRecord.builder()
+                .commandId(status.commandId())
+                .status(status.status())
+                .orderId(status.orderId())
+                .error(status.error())
+                .recordedAt(recordedAt)
+                .build();
+    }
+
+    public CommandStatusResult toResult() {
+        return new CommandStatusResult(commandId, status, orderId, error);
+    }
+}
@@ -0,0 +1,217 @@
+package com.example.order.adapter.out.persistence;
+
+import com.example.common.domain.event.DomainEvent;
+import com.example.common.domain.port.DomainEventStore;
+import com.example.common.domain.valueobject.Email;
+import com.example.common.domain.valueobject.Money;
+import com.example.order.application.port.out.OrderRepository;
+import com.example.order.domain.event.OrderDeletedEvent;
+import com.example.order.domain.exception.BusinessException;
+import com.example.order.domain.model.Order;
+import com.example.order.domain.model.OrderItem;
+import com.example.order.domain.model.OrderStatus;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.smallrye.mutiny.converters.uni.UniReactorConverters;
+import org.hibernate.reactive.mutiny.Mutiny;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Event-sourced {@link OrderRepository}, enabled with {@code order.persistence.mode=event-sourced}.
+ * <p>
+ * Writes append the order's pending events to the {@link DomainEventStore} and insert a snapshot every
+ * {@code order.persistence.snapshot-interval} events; nothing is ever updated. Loads start from the latest
+ * snapshot via {@link Order#reconstitute} and replay only the events recorded after it, so their cost is
+ * bounded by the snapshot interval. A snapshot is always taken when an order is created; it is written after
+ * the append, so if writing it fails the order is rebuilt by replaying its whole stream from the
+ * {@code OrderCreatedEvent}, which carries the lines. Deleting appends an {@link OrderDeletedEvent} tombstone,
+ * after which the order is no longer found. The {@code orders} table is not maintained in this mode.
+ * <p>
+ * The append is the only write that decides whether a save happened. Events reach the outbox through
+ * {@link EventStoreOutboxRelay}, which tails the store from a checkpoint, so they are published even when the
+ * outbox cannot be written at the time of the save.
+ */
+@Repository
+@ConditionalOnProperty(name = "order.persistence.mode", havingValue = "event-sourced")
+public class EventSourcedOrderRepository implements OrderRepository {
+
+    private final Mutiny.SessionFactory sessionFactory;
+    private final DomainEventStore eventStore;
+    private final EventStoreOutboxRelay outboxRelay;
+    private final ApplicationEventPublisher committedEvents;
+    private final ObjectMapper objectMapper;
+    private final int snapshotInterval;
+
+    public EventSourcedOrderRepository(Mutiny.SessionFactory sessionFactory,
+                                       DomainEventStore eventStore,
+                                       EventStoreOutboxRelay outboxRelay,
+                                       ApplicationEventPublisher committedEvents,
+                                       ObjectMapper objectMapper,
+                                       @Value("${order.persistence.snapshot-interval:50}") int snapshotInterval) {
+        this.sessionFactory = sessionFactory;
+        this.eventStore = eventStore;
+        this.outboxRelay = outboxRelay;
+        this.committedEvents = committedEvents;
+        this.objectMapper = objectMapper;
+        this.snapshotInterval = snapshotInterval;
+    }
+
+    @Override
+    public Mono<Order> save(Order order) {
+        List<DomainEvent> events = new ArrayList<>();
+        for (Object event : order.getRawEvents()) {
+            if (event instanceof DomainEvent domainEvent) {
+                events.add(domainEvent);
+            }
+        }
+        if (events.isEmpty()) {
+            return Mono.just(order);
+        }
+
+        long fromVersion = order.getStreamVersion();
+        return eventStore.append(order.getId(), fromVersion, events)
+                .onErrorMap(IllegalStateException.class, e ->
+                        new BusinessException("ORDER_010", "Order was modified concurrently: " + order.getId(), e))
+                .flatMap(version -> {
+                    order.markStreamVersion(version);
+                    outboxRelay.requestRun();
+                    return isSnapshotDue(fromVersion, version) ? saveSnapshot(order, version) : Mono.<Void>empty();
+                })
+                .then(Mono.fromCallable(() -> {
+                    events.forEach(committedEvents::publishEvent);
+                    order.clearEvents();
+                    return order;
+                }));
+    }
+
+    @Override
+    public Mono<List<Order>> saveAllStatusChanges(List<Order> orders) {
+        // Each append is checked against the version the order was loaded at; an order changed since is left out
+        return Flux.fromIterable(orders)
+                .concatMap(order -> save(order)
+                        .onErrorResume(EventSourcedOrderRepository::isConcurrentModification, e -> Mono.empty()))
+                .collectList();
+    }
+
+    @Override
+    public Mono<Order> findById(String orderId) {
+        String hql = "from OrderSnapshotRecord s where s.orderId = :orderId order by s.version desc";
+        return sessionFactory.withSession(session -> session.createQuery(hql, OrderSnapshotRecord.class)
+                        .setParameter("orderId", orderId)
+                        .setMaxResults(1)
+                        .getSingleResultOrNull())
+                .convert().with(UniReactorConverters.toMono())
+                .flatMap(snapshot -> eventStore.loadEvents(orderId, snapshot.getVersion())
+                        .reduce(toOrder(snapshot), (order, stored) -> {
+                            order.replay(stored);
+                            return order;
+                        }))
+                .switchIfEmpty(Mono.defer(() -> replayStream(orderId)))
+                .filter(order -> !order.isDeleted());
+    }
+
+    /**
+     * Rebuilds an order with no snapshot from all of its events; empty when it has none.
+     */
+    private Mono<Order> replayStream(String orderId) {
+        return eventStore.loadEvents(orderId)
+                .collectList()
+                .flatMap(events -> {
+                    if (events.isEmpty()) {
+                        return Mono.empty();
+                    }
+                    Order order = Order.fromCreatedEvent(events.get(0));
+                    events.subList(1, events.size()).forEach(order::replay);
+                    return Mono.just(order);
+                });
+    }
+
+    @Override
+    public Mono<Void> deleteById(String orderId) {
+        // No snapshot is taken: the tombstone must stay the last thing a load replays
+        return findById(orderId)
+                .flatMap(order -> {
+                    List<DomainEvent> tombstone = List.of(new OrderDeletedEvent(orderId, Instant.now()));
+                    return eventStore.append(orderId, order.getStreamVersion(), tombstone)
+                            .onErrorMap(IllegalStateException.class, e ->
+                                    new BusinessException("ORDER_010", "Order was modified concurrently: " + orderId, e))
+                            .then(Mono.fromRunnable(() -> {
+                                outboxRelay.requestRun();
+                                tombstone.forEach(committedEvents::publishEvent);
+                            }));
+                });
+    }
+
+    private static boolean isConcurrentModification(Throwable error) {
+        return error instanceof BusinessException e && "ORDER_010".equals(e.getErrorCode());
+    }
+
+    private boolean isSnapshotDue(long fromVersion, long toVersion) {
+        return fromVersion == 0 || toVersion / snapshotInterval > fromVersion / snapshotInterval;
+    }
+
+    private Mono<Void> saveSnapshot(Order order, long version) {
+        return Mono.fromCallable(() -> new OrderSnapshotRecord(order.getId(), version,
+                        objectMapper.writeValueAsString(OrderSnapshot.of(order)), Instant.now()))
+                .flatMap(snapshot -> sessionFactory.withTransaction((session, tx) -> session.persist(snapshot))
+                        .convert().with(UniReactorConverters.toMono()));
+    }
+
+    private Order toOrder(OrderSnapshotRecord record) {
+        try {
+            OrderSnapshot snapshot = objectMapper.readValue(record.getPayload(), OrderSnapshot.class);
+            Order order = snapshot.toOrder();
+            order.markStreamVersion(record.getVersion());
+            return order;
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Corrupt snapshot " + record.getVersion() + " of order " + record.getOrderId(), e);
+        }
+    }
+
+    record OrderSnapshot(
+        String id,
+        String customerId,
+        String customerEmail,
+        OrderStatus status,
+        List<Item> items,
+        BigDecimal totalAmount,
+        BigDecimal discountAmount,
+        String currency,
+        Instant createdAt,
+        Instant updatedAt
+    ) {
+        record Item(String productId, String productName, int quantity, BigDecimal unitPrice, String currency) {}
+
+        static OrderSnapshot of(Order order) {
+            List<Item> items = order.getItems().stream()
+                    .map(item -> new Item(item.getProductId(), item.getProductName(), item.getQuantity(),
+                            item.getUnitPrice().getAmount(), item.getUnitPrice().getCurrency()))
+                    .toList();
+            return new OrderSnapshot(order.getId(), order.getCustomerId(), order.getCustomerEmail().getValue(),
+                    order.getStatus(), items, order.getTotalAmount().getAmount(),
+                    order.getDiscountAmount() != null ? order.getDiscountAmount().getAmount() : null,
+                    order.getTotalAmount().getCurrency(), order.getCreatedAt(), order.getUpdatedAt());
+        }
+
+        Order toOrder() {
+            List<OrderItem> orderItems = items.stream()
+                    .map(item -> OrderItem.of(item.productId(), item.productName(), item.quantity(),
+                            Money.of(item.unitPrice(), item.currency())))
+                    .toList();
+            return Order.reconstitute(id, customerId, Email.of(customerEmail), status, orderItems,
+                    Money.of(totalAmount, currency),
+                    discountAmount != null ? Money.of(discountAmount, currency) : null,
+                    createdAt, updatedAt);
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.example.order.adapter.out.persistence;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * Position of a reader tailing the event store: the offset of the first event it has not handled yet.
+ */
+@Entity
+@Table(name = "event_store_checkpoints")
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class EventStoreCheckpointRecord {
+
+    @Id
+    @Column(name = "name")
+    private String name;
+
+    @Column(name = "next_offset")
+    private long nextOffset;
+
+    @Column(name = "updated_at")
+    private Instant updatedAt;
+}
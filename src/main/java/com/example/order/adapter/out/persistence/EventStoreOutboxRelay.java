@@ -0,0 +1,127 @@
+package com.example.order.adapter.out.persistence;
+
+import com.example.common.domain.event.DomainEvent;
+import com.example.common.domain.event.StoredEvent;
+import com.example.common.domain.port.DomainEventPublisher;
+import com.example.common.domain.port.DomainEventStore;
+import io.smallrye.mutiny.converters.uni.UniReactorConverters;
+import org.hibernate.reactive.mutiny.Mutiny;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Copies the event store into the outbox for {@link EventSourcedOrderRepository}, so an append is the only
+ * write a save has to get right. The relay tails the store from the offset recorded under
+ * {@code order.persistence.relay-checkpoint} in {@code event_store_checkpoints}: it publishes the next
+ * {@code order.persistence.relay-batch-size} events and then moves the checkpoint past them. Saves ask for a
+ * run right after their append, and a run is also started every {@code order.persistence.relay-interval-ms},
+ * beginning at startup, so events whose publication failed or was cut short by a crash are published by a
+ * later run. Delivery is at least once: a crash between publishing a batch and moving the checkpoint
+ * publishes that batch again.
+ */
+@Component
+@ConditionalOnProperty(name = "order.persistence.mode", havingValue = "event-sourced")
+public class EventStoreOutboxRelay {
+
+    private static final Logger log = LoggerFactory.getLogger(EventStoreOutboxRelay.class);
+
+    private final Mutiny.SessionFactory sessionFactory;
+    private final DomainEventStore eventStore;
+    private final DomainEventPublisher eventPublisher;
+    private final int batchSize;
+    private final String checkpoint;
+    private final AtomicInteger requests = new AtomicInteger();
+
+    public EventStoreOutboxRelay(Mutiny.SessionFactory sessionFactory,
+                                 DomainEventStore eventStore,
+                                 DomainEventPublisher eventPublisher,
+                                 @Value("${order.persistence.relay-batch-size:500}") int batchSize,
+                                 @Value("${order.persistence.relay-checkpoint:order-outbox}") String checkpoint) {
+        this.sessionFactory = sessionFactory;
+        this.eventStore = eventStore;
+        this.eventPublisher = eventPublisher;
+        this.batchSize = batchSize;
+        this.checkpoint = checkpoint;
+    }
+
+    @Scheduled(fixedDelayString = "${order.persistence.relay-interval-ms:1000}")
+    public void poll() {
+        requestRun();
+    }
+
+    /**
+     * Starts a run unless one is in progress, in which case that run is followed by another, so events
+     * appended before this call are published without runs ever overlapping.
+     */
+    public void requestRun() {
+        if (requests.getAndIncrement() == 0) {
+            run();
+        }
+    }
+
+    private void run() {
+        int handled = requests.get();
+        relay()
+                .doFinally(signal -> {
+                    if (requests.addAndGet(-handled) > 0) {
+                        run();
+                    }
+                })
+                .subscribe(
+                    relayed -> {
+                        if (relayed > 0) {
+                            log.debug("Relayed {} stored events to the outbox", relayed);
+                        }
+                    },
+                    error -> log.error("Failed to relay stored events to the outbox", error)
+                );
+    }
+
+    /**
+     * Publishes every event after the checkpoint, batch by batch until a batch comes back short, moving the
+     * checkpoint after each. Emits the number of events published.
+     */
+    public Mono<Long> relay() {
+        return relayBatch()
+                .expand(relayed -> relayed < batchSize ? Mono.empty() : relayBatch())
+                .reduce(0L, Long::sum);
+    }
+
+    private Mono<Long> relayBatch() {
+        return nextOffset()
+                .flatMap(from -> eventStore.loadRange(from, batchSize).collectList())
+                .flatMap(stored -> {
+                    if (stored.isEmpty()) {
+                        return Mono.just(0L);
+                    }
+                    List<DomainEvent> events = stored.stream().map(StoredEvent::event).toList();
+                    long next = stored.get(stored.size() - 1).offset() + 1;
+                    return eventPublisher.publishAll(events)
+                            .then(saveCheckpoint(next))
+                            .thenReturn((long) stored.size());
+                });
+    }
+
+    private Mono<Long> nextOffset() {
+        return sessionFactory.withSession(session -> session.find(EventStoreCheckpointRecord.class, checkpoint))
+                .convert().with(UniReactorConverters.toMono())
+                .map(EventStoreCheckpointRecord::getNextOffset)
+                .defaultIfEmpty(0L);
+    }
+
+    private Mono<Void> saveCheckpoint(long nextOffset) {
+        EventStoreCheckpointRecord record = new EventStoreCheckpointRecord(checkpoint, nextOffset, Instant.now());
+        return sessionFactory.withTransaction((session, tx) -> session.merge(record))
+                .replaceWithVoid()
+                .convert().with(UniReactorConverters.toMono());
+    }
+}
@@ -0,0 +1,78 @@
+package com.example.order.adapter.out.persistence;
+
+import com.example.order.application.dto.IdempotentResponse;
+import com.example.order.application.port.out.IdempotencyStore;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.smallrye.mutiny.converters.uni.UniReactorConverters;
+import org.hibernate.reactive.mutiny.Mutiny;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Two-tier idempotency store: a bounded in-memory cache for the hot retry window
+ * in front of the {@code idempotency_keys} table for durability.
+ */
+@Repository
+public class IdempotencyPersistenceAdapter implements IdempotencyStore {
+
+    private static final Logger log = LoggerFactory.getLogger(IdempotencyPersistenceAdapter.class);
+
+    private final Mutiny.SessionFactory sessionFactory;
+    private final Cache<String, IdempotentResponse> hotWindow;
+    private final Duration retention;
+
+    public IdempotencyPersistenceAdapter(Mutiny.SessionFactory sessionFactory,
+                                         @Value("${order.idempotency.cache-size:10000}") long cacheSize,
+                                         @Value("${order.idempotency.retention:PT24H}") Duration retention) {
+        this.sessionFactory = sessionFactory;
+        this.retention = retention;
+        this.hotWindow = Caffeine.newBuilder()
+                .maximumSize(cacheSize)
+                .expireAfterWrite(retention)
+                .build();
+    }
+
+    @Override
+    public Mono<IdempotentResponse> find(String idempotencyKey) {
+        IdempotentResponse cached = hotWindow.getIfPresent(idempotencyKey);
+        if (cached != null) {
+            return Mono.just(cached);
+        }
+        return sessionFactory.withSession(session -> session.find(IdempotencyRecord.class, idempotencyKey))
+                .convert().with(UniReactorConverters.toMono())
+                .filter(record -> record.getCreatedAt().isAfter(Instant.now().minus(retention)))
+                .map(IdempotencyRecord::toResponse)
+                .doOnNext(response -> hotWindow.put(idempotencyKey, response));
+    }
+
+    @Override
+    public Mono<Void> save(String idempotencyKey, IdempotentResponse response) {
+        hotWindow.put(idempotencyKey, response);
+        return sessionFactory.withTransaction((session, tx) ->
+                        session.merge(IdempotencyRecord.of(idempotencyKey, response)))
+                .replaceWithVoid()
+                .convert().with(UniReactorConverters.toMono());
+    }
+
+    @Scheduled(fixedDelayString = "${order.idempotency.purge-interval-ms:3600000}")
+    public void purgeExpired() {
+        String hql = "delete from IdempotencyRecord where createdAt < :cutoff";
+        sessionFactory.withTransaction((session, tx) ->
+                        session.createMutationQuery(hql)
+                               .setParameter("cutoff", Instant.now().minus(retention))
+                               .executeUpdate())
+                .convert().with(UniReactorConverters.toMono())
+                .subscribe(
+                    purged -> log.debug("Purged {} expired idempotency keys", purged),
+                    error -> log.error("Failed to purge expired idempotency keys", error)
+                );
+    }
+}
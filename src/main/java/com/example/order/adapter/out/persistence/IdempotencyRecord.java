@@ -0,0 +1,54 @@
+package com.example.order.adapter.out.persistence;
+
+import com.example.order.application.dto.IdempotentResponse;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+@Entity
+@Table(name = "idempotency_keys")
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class IdempotencyRecord {
+
+    @Id
+    @Column(name = "idempotency_key")
+    private String idempotencyKey;
+
+    @Column(name = "request_fingerprint")
+    private String requestFingerprint;
+
+    @Column(name = "response_status")
+    private int responseStatus;
+
+    @Column(name = "content_type")
+    private String contentType;
+
+    @Lob
+    @Column(name = "response_body")
+    private byte[] responseBody;
+
+    @Column(name = "created_at")
+    private Instant createdAt;
+
+    public static IdempotencyRecord of(String idempotencyKey, IdempotentResponse response) {
+        return IdempotencyRecord.builder()
+                .idempotencyKey(idempotencyKey)
+                .requestFingerprint(response.requestFingerprint())
+                .responseStatus(response.status())
+                .contentType(response.contentType())
+                .responseBody(response.body())
+                .createdAt(response.createdAt())
+                .build();
+    }
+
+    public IdempotentResponse toResponse() {
+        return new IdempotentResponse(requestFingerprint, responseStatus, contentType, responseBody, createdAt);
+    }
+}
@@ -0,0 +1,139 @@
+package com.example.order.adapter.out.persistence;
+
+import com.example.order.domain.model.OrderStatus;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.converters.uni.UniReactorConverters;
+import org.hibernate.reactive.mutiny.Mutiny;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Moves DELIVERED and CANCELLED orders whose last update is older than {@code order.archive.min-age} from
+ * {@code orders}/{@code order_items} into {@code orders_archive}/{@code order_items_archive}. Each batch is
+ * copied and deleted in its own transaction; batches are separated by a pause and capped per run so archival
+ * never competes with order traffic for long. The live counts in {@link OrderCounters} are reduced in the same
+ * transaction.
+ */
+@Component
+@ConditionalOnProperty(name = "order.archive.enabled", havingValue = "true")
+public class OrderArchiver {
+
+    private static final Logger log = LoggerFactory.getLogger(OrderArchiver.class);
+
+    static final String ORDER_COLUMNS = "id, customer_id, customer_email, status, total_amount, currency, "
+            + "discount_amount, discount_currency, created_at, updated_at, item_count, final_amount";
+    static final String ITEM_COLUMNS = "id, order_id, product_id, product_name, quantity, unit_price, currency";
+
+    private final Mutiny.SessionFactory sessionFactory;
+    private final OrderCounters orderCounters;
+    private final Duration minAge;
+    private final int batchSize;
+    private final Duration batchPause;
+    private final int maxBatchesPerRun;
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    public OrderArchiver(Mutiny.SessionFactory sessionFactory,
+                         OrderCounters orderCounters,
+                         @Value("${order.archive.min-age:P30D}") Duration minAge,
+                         @Value("${order.archive.batch-size:500}") int batchSize,
+                         @Value("${order.archive.batch-pause:PT0.5S}") Duration batchPause,
+                         @Value("${order.archive.max-batches-per-run:200}") int maxBatchesPerRun) {
+        this.sessionFactory = sessionFactory;
+        this.orderCounters = orderCounters;
+        this.minAge = minAge;
+        this.batchSize = batchSize;
+        this.batchPause = batchPause;
+        this.maxBatchesPerRun = maxBatchesPerRun;
+    }
+
+    @Scheduled(fixedDelayString = "${order.archive.interval-ms:3600000}")
+    public void archiveTerminalOrders() {
+        if (!running.compareAndSet(false, true)) {
+            return;
+        }
+        archive(Instant.now().minus(minAge))
+                .doFinally(signal -> running.set(false))
+                .subscribe(
+                    moved -> {
+                        if (moved > 0) {
+                            log.info("Archived {} terminal orders", moved);
+                        }
+                    },
+                    error -> log.error("Failed to archive terminal orders", error)
+                );
+    }
+
+    /**
+     * Archives terminal orders last updated before {@code cutoff}, batch by batch, until a batch comes back
+     * short or the per-run cap is reached. Emits the number of orders moved.
+     */
+    public Mono<Long> archive(Instant cutoff) {
+        AtomicInteger batches = new AtomicInteger(1);
+        return archiveBatch(cutoff)
+                .expand(moved -> moved < batchSize || batches.getAndIncrement() >= maxBatchesPerRun
+                        ? Mono.empty()
+                        : archiveBatch(cutoff).delaySubscription(batchPause))
+                .reduce(0L, Long::sum);
+    }
+
+    private Mono<Long> archiveBatch(Instant cutoff) {
+        String select = "select id, status from orders where status in (?, ?) and updated_at < ? order by updated_at";
+        return sessionFactory.withTransaction((session, tx) -> session.createNativeQuery(select, Object[].class)
+                        .setParameter(1, OrderStatus.DELIVERED.code())
+                        .setParameter(2, OrderStatus.CANCELLED.code())
+                        .setParameter(3, cutoff)
+                        .setMaxResults(batchSize)
+                        .getResultList()
+                        .chain(rows -> rows.isEmpty() ? Uni.createFrom().item(0L) : move(session, rows)))
+                .convert().with(UniReactorConverters.toMono());
+    }
+
+    private Uni<Long> move(Mutiny.Session session, List<Object[]> rows) {
+        List<String> ids = new ArrayList<>(rows.size());
+        Map<OrderStatus, Long> removed = new EnumMap<>(OrderStatus.class);
+        for (Object[] row : rows) {
+            ids.add((String) row[0]);
+            removed.merge(OrderStatus.fromCode(((Number) row[1]).shortValue()), -1L, Long::sum);
+        }
+        String in = inList(ids.size());
+        // Children first: order_items references orders
+        return execute(session, "insert into order_items_archive (" + ITEM_COLUMNS + ") select " + ITEM_COLUMNS
+                        + " from order_items where order_id in " + in, ids)
+                .chain(() -> execute(session, "insert into orders_archive (" + ORDER_COLUMNS + ") select "
+                        + ORDER_COLUMNS + " from orders where id in " + in, ids))
+                .chain(() -> execute(session, "delete from order_items where order_id in " + in, ids))
+                .chain(() -> execute(session, "delete from orders where id in " + in, ids))
+                .call(() -> orderCounters.record(session, removed))
+                .map(Integer::longValue);
+    }
+
+    private static Uni<Integer> execute(Mutiny.Session session, String sql, List<String> ids) {
+        Mutiny.MutationQuery query = session.createNativeQuery(sql);
+        for (int i = 0; i < ids.size(); i++) {
+            query.setParameter(i + 1, ids.get(i));
+        }
+        return query.executeUpdate();
+    }
+
+    static String inList(int size) {
+        StringBuilder placeholders = new StringBuilder(size * 3 + 2).append('(');
+        for (int i = 0; i < size; i++) {
+            placeholders.append(i == 0 ? "?" : ", ?");
+        }
+        return placeholders.append(')').toString();
+    }
+}
@@ -0,0 +1,279 @@
+package com.example.order.adapter.out.persistence;
+
+import com.example.common.adapter.out.persistence.ReplicaRouter;
+import com.example.order.domain.model.Order;
+import com.example.order.domain.model.OrderStatus;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.converters.uni.UniReactorConverters;
+import org.hibernate.reactive.mutiny.Mutiny;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Order counts per status for the live {@code orders} table, served without scanning it.
+ * <p>
+ * In the default {@code order.counters.mode=table}, {@code order_counters} holds
+ * {@code order.counters.stripes} rows per status whose sum is that status's count. Every write that adds,
+ * removes or moves an order between statuses applies its deltas in the same transaction, each to a random
+ * stripe, so concurrent writers seldom wait on the same row lock; reads sum a handful of rows. Deltas are only
+ * exact because every save they come from is checked against the stored row: single saves by {@link Order}'s
+ * version, bulk moves by their guarded {@code where status = :from} updates. The table is seeded from the
+ * orders table at startup when empty, and {@link #reconcile()} corrects any drift every
+ * {@code order.counters.reconcile-interval-ms} (daily by default).
+ * <p>
+ * {@code order.counters.mode=approximate} adds nothing to writes: counts come from one grouped scan that is
+ * reused for {@code order.counters.refresh-interval}, so they can be that much out of date.
+ */
+@Component
+public class OrderCounters {
+
+    private static final Logger log = LoggerFactory.getLogger(OrderCounters.class);
+
+    private static final String GROUPED_COUNT_SQL = "select status, count(*) from orders group by status";
+
+    private final Mutiny.SessionFactory sessionFactory;
+    private final ReplicaRouter replicaRouter;
+    private final boolean maintained;
+    private final int stripes;
+    private final Mono<Map<OrderStatus, Long>> approximateCounts;
+    private final AtomicBoolean reconciling = new AtomicBoolean();
+
+    public OrderCounters(Mutiny.SessionFactory sessionFactory,
+                         ReplicaRouter replicaRouter,
+                         @Value("${order.counters.mode:table}") String mode,
+                         @Value("${order.counters.stripes:16}") int stripes,
+                         @Value("${order.counters.refresh-interval:PT30S}") Duration refreshInterval) {
+        if (!mode.equals("table") && !mode.equals("approximate")) {
+            throw new IllegalArgumentException("order.counters.mode must be table or approximate: " + mode);
+        }
+        this.sessionFactory = sessionFactory;
+        this.replicaRouter = replicaRouter;
+        this.maintained = mode.equals("table");
+        this.stripes = stripes;
+        this.approximateCounts = replicaRouter.forRead()
+                .flatMap(factory -> factory.withSession(session -> session.createNativeQuery(GROUPED_COUNT_SQL,
+                                Object[].class).getResultList())
+                        .convert().with(UniReactorConverters.toMono()))
+                .map(OrderCounters::toCounts)
+                .cache(counts -> refreshInterval, error -> Duration.ZERO, () -> Duration.ZERO);
+    }
+
+    /**
+     * Count of live orders in {@code status}, or of all live orders when it is null.
+     */
+    public Mono<Long> count(OrderStatus status) {
+        if (!maintained) {
+            return approximateCounts.map(counts -> status == null
+                    ? counts.values().stream().mapToLong(Long::longValue).sum()
+                    : counts.getOrDefault(status, 0L));
+        }
+        String sql = "select coalesce(sum(order_count), 0) from order_counters"
+                + (status != null ? " where status = ?" : "");
+        return replicaRouter.forRead()
+                .flatMap(factory -> factory.withSession(session -> {
+                            var query = session.createNativeQuery(sql, Object[].class);
+                            if (status != null) {
+                                query.setParameter(1, status.code());
+                            }
+                            return query.getSingleResult();
+                        })
+                        .convert().with(UniReactorConverters.toMono()))
+                .map(row -> ((Number) row[0]).longValue());
+    }
+
+    /**
+     * Applies the status changes a save of {@code orders} makes, in the saving transaction.
+     */
+    Uni<Void> recordSaves(Mutiny.Session session, Collection<Order> orders) {
+        return record(session, statusChanges(orders));
+    }
+
+    /**
+     * Per-status deltas of saving {@code orders}: new orders add to their status, orders that changed status
+     * move from the persisted one.
+     */
+    static Map<OrderStatus, Long> statusChanges(Collection<Order> orders) {
+        Map<OrderStatus, Long> deltas = new EnumMap<>(OrderStatus.class);
+        for (Order order : orders) {
+            if (order.getPersistedStatus() != order.getStatus()) {
+                if (order.getPersistedStatus() != null) {
+                    deltas.merge(order.getPersistedStatus(), -1L, Long::sum);
+                }
+                deltas.merge(order.getStatus(), 1L, Long::sum);
+            }
+        }
+        return deltas;
+    }
+
+    /**
+     * Adds {@code deltas} to the per-status counts, in {@code session}'s transaction.
+     */
+    Uni<Void> record(Mutiny.Session session, Map<OrderStatus, Long> deltas) {
+        Uni<Void> updates = Uni.createFrom().voidItem();
+        if (!maintained) {
+            return updates;
+        }
+        String sql = "update order_counters set order_count = order_count + ? where status = ? and stripe = ?";
+        for (Map.Entry<OrderStatus, Long> delta : deltas.entrySet()) {
+            if (delta.getValue() == 0) {
+                continue;
+            }
+            int stripe = ThreadLocalRandom.current().nextInt(stripes);
+            updates = updates.chain(() -> session.createNativeQuery(sql)
+                    .setParameter(1, delta.getValue())
+                    .setParameter(2, delta.getKey().code())
+                    .setParameter(3, stripe)
+                    .executeUpdate()
+                    .replaceWithVoid());
+        }
+        return updates;
+    }
+
+    @Scheduled(initialDelayString = "${order.counters.reconcile-interval-ms:86400000}",
+               fixedDelayString = "${order.counters.reconcile-interval-ms:86400000}")
+    public void reconcileCounters() {
+        if (!maintained || !reconciling.compareAndSet(false, true)) {
+            return;
+        }
+        reconcile()
+                .doFinally(signal -> reconciling.set(false))
+                .subscribe(
+                    corrections -> {
+                        if (!corrections.isEmpty()) {
+                            log.warn("Corrected order counter drift: {}", corrections);
+                        }
+                    },
+                    error -> log.error("Failed to reconcile order counters", error)
+                );
+    }
+
+    /**
+     * Recounts live orders per status and corrects stripe 0 of each status by the difference, creating missing
+     * rows first. Every counter row is locked before the recount, so writers wait for it to commit instead of
+     * having their deltas lost or counted twice; the recount is a full grouped scan of {@code orders}, so writes
+     * stall for as long as it takes. Emits the corrections applied, empty when the counters were exact.
+     */
+    public Mono<Map<OrderStatus, Long>> reconcile() {
+        if (!maintained) {
+            return Mono.just(Map.of());
+        }
+        return sessionFactory.withTransaction((session, tx) -> session.createNativeQuery(
+                                "select status, stripe, order_count from order_counters for update", Object[].class)
+                        .getResultList()
+                        .chain(locked -> insertMissing(session, keys(locked), Map.of())
+                                .chain(() -> session.createNativeQuery(GROUPED_COUNT_SQL, Object[].class).getResultList())
+                                .chain(rows -> correct(session, corrections(locked, toCounts(rows))))))
+                .convert().with(UniReactorConverters.toMono());
+    }
+
+    /**
+     * Per-status difference between the actual counts and the sum of the counter rows.
+     */
+    static Map<OrderStatus, Long> corrections(List<Object[]> counterRows, Map<OrderStatus, Long> actual) {
+        Map<OrderStatus, Long> corrections = new EnumMap<>(OrderStatus.class);
+        corrections.putAll(actual);
+        for (Object[] row : counterRows) {
+            corrections.merge(OrderStatus.fromCode(((Number) row[0]).shortValue()), -((Number) row[2]).longValue(),
+                    Long::sum);
+        }
+        corrections.values().removeIf(delta -> delta == 0);
+        return corrections;
+    }
+
+    private Uni<Map<OrderStatus, Long>> correct(Mutiny.Session session, Map<OrderStatus, Long> corrections) {
+        String sql = "update order_counters set order_count = order_count + ? where status = ? and stripe = 0";
+        Uni<Void> updates = Uni.createFrom().voidItem();
+        for (Map.Entry<OrderStatus, Long> correction : corrections.entrySet()) {
+            updates = updates.chain(() -> session.createNativeQuery(sql)
+                    .setParameter(1, correction.getValue())
+                    .setParameter(2, correction.getKey().code())
+                    .executeUpdate()
+                    .replaceWithVoid());
+        }
+        return updates.replaceWith(corrections);
+    }
+
+    /**
+     * Creates any missing counter rows, seeding stripe 0 of each status from the orders table when the counter
+     * table is empty. Racing instances are harmless: the loser's insert fails on the primary key and is logged.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        if (!maintained) {
+            return;
+        }
+        sessionFactory.withTransaction((session, tx) -> session.createNativeQuery(
+                                "select status, stripe from order_counters", Object[].class)
+                        .getResultList()
+                        .chain(existing -> existing.isEmpty()
+                                ? session.createNativeQuery(GROUPED_COUNT_SQL, Object[].class).getResultList()
+                                        .chain(rows -> insertMissing(session, Set.of(), toCounts(rows)))
+                                : insertMissing(session, keys(existing), Map.of())))
+                .convert().with(UniReactorConverters.toMono())
+                .subscribe(
+                    inserted -> {
+                        if (inserted > 0) {
+                            log.info("Created {} order counter rows", inserted);
+                        }
+                    },
+                    error -> log.warn("Failed to initialize order counters: {}", error.getMessage())
+                );
+    }
+
+    private Uni<Integer> insertMissing(Mutiny.Session session, Set<String> existing, Map<OrderStatus, Long> seed) {
+        String sql = "insert into order_counters (status, stripe, order_count) values (?, ?, ?)";
+        Uni<Integer> inserts = Uni.createFrom().item(0);
+        for (OrderStatus status : OrderStatus.values()) {
+            for (int stripe = 0; stripe < stripes; stripe++) {
+                if (existing.contains(key(status.code(), stripe))) {
+                    continue;
+                }
+                long count = stripe == 0 ? seed.getOrDefault(status, 0L) : 0L;
+                int row = stripe;
+                inserts = inserts.chain(inserted -> session.createNativeQuery(sql)
+                        .setParameter(1, status.code())
+                        .setParameter(2, row)
+                        .setParameter(3, count)
+                        .executeUpdate()
+                        .map(n -> inserted + n));
+            }
+        }
+        return inserts;
+    }
+
+    private static Set<String> keys(List<Object[]> rows) {
+        Set<String> keys = new HashSet<>();
+        for (Object[] row : rows) {
+            keys.add(key(((Number) row[0]).shortValue(), ((Number) row[1]).intValue()));
+        }
+        return keys;
+    }
+
+    private static String key(short status, int stripe) {
+        return status + ":" + stripe;
+    }
+
+    private static Map<OrderStatus, Long> toCounts(List<Object[]> rows) {
+        Map<OrderStatus, Long> counts = new EnumMap<>(OrderStatus.class);
+        for (Object[] row : rows) {
+            counts.put(OrderStatus.fromCode(((Number) row[0]).shortValue()), ((Number) row[1]).longValue());
+        }
+        return counts;
+    }
+}
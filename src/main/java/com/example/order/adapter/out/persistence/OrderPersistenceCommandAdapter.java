@@ -1,54 +1,234 @@
 package com.example.order.adapter.out.persistence;
 
+import com.example.order.domain.exception.BusinessException;
 import com.example.order.domain.model.Order;
+import com.example.order.domain.model.OrderStatus;
 import com.example.order.application.port.out.OrderRepository;
+import com.example.common.domain.event.DomainEvent;
 import com.example.common.domain.port.DomainEventPublisher;
+import com.example.common.adapter.out.persistence.GroupCommitter;
 import io.smallrye.mutiny.Uni;
 import io.smallrye.mutiny.converters.uni.UniReactorConverters;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.OptimisticLockException;
+import org.hibernate.StaleStateException;
 import org.hibernate.reactive.mutiny.Mutiny;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Repository;
 import reactor.core.publisher.Mono;
 
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 @Repository
+@ConditionalOnProperty(name = "order.persistence.mode", havingValue = "state", matchIfMissing = true)
 public class OrderPersistenceCommandAdapter implements OrderRepository {
 
+    private static final Logger log = LoggerFactory.getLogger(OrderPersistenceCommandAdapter.class);
+    private static final String GUARDED_STATUS_UPDATE = "update Order o set o.status = :to, o.updatedAt = :updatedAt,"
+            + " o.version = o.version + 1 where o.id in :ids and o.status = :from";
+
     private final Mutiny.SessionFactory sessionFactory;
     private final DomainEventPublisher eventPublisher;
+    private final ApplicationEventPublisher committedEvents;
+    private final OrderCounters orderCounters;
+
+    private final GroupCommitter<Order> groupCommitter;
 
-    public OrderPersistenceCommandAdapter(Mutiny.SessionFactory sessionFactory, DomainEventPublisher eventPublisher) {
+    public OrderPersistenceCommandAdapter(Mutiny.SessionFactory sessionFactory,
+                                          DomainEventPublisher eventPublisher,
+                                          ApplicationEventPublisher committedEvents,
+                                          OrderCounters orderCounters,
+                                          @Value("${order.persistence.group-commit.enabled:false}") boolean groupCommitEnabled,
+                                          @Value("${order.persistence.group-commit.max-batch-size:64}") int groupCommitMaxBatchSize,
+                                          @Value("${order.persistence.group-commit.max-wait-micros:500}") long groupCommitMaxWaitMicros,
+                                          @Value("${order.persistence.group-commit.max-concurrent-batches:4}") int groupCommitMaxConcurrentBatches) {
         this.sessionFactory = sessionFactory;
         this.eventPublisher = eventPublisher;
+        this.committedEvents = committedEvents;
+        this.orderCounters = orderCounters;
+        this.groupCommitter = groupCommitEnabled
+                ? new GroupCommitter<>(this::saveAlone, this::saveGroup, groupCommitMaxBatchSize,
+                        Duration.of(groupCommitMaxWaitMicros, ChronoUnit.MICROS), groupCommitMaxConcurrentBatches)
+                : null;
     }
 
     @Override
     public Mono<Order> save(Order order) {
+        Mono<Order> saved = groupCommitter != null ? groupCommitter.submit(order) : saveAlone(order);
+        // Order is versioned: a save based on a stale read is rejected rather than overwriting the newer one
+        return saved.onErrorMap(e -> e instanceof OptimisticLockException || e instanceof StaleStateException,
+                e -> new BusinessException("ORDER_010", "Order was modified concurrently: " + order.getId(), e));
+    }
+
+    private Mono<Order> saveAlone(Order order) {
+        return sessionFactory.withTransaction((session, tx) -> saveInSession(session, order)
+                        .call(() -> orderCounters.recordSaves(session, List.of(order))))
+                .invoke(saved -> afterCommit(order))
+                .convert().with(UniReactorConverters.toMono());
+    }
+
+    private Mono<List<Order>> saveGroup(List<Order> orders) {
         return sessionFactory.withTransaction((session, tx) -> {
-            // 1. Extract events from AbstractAggregateRoot
-            Collection<Object> events = order.getRawEvents();
-            
-            // 2. Persist order
-            Uni<Order> savedOrder = session.merge(order);
-            
-            if (events.isEmpty()) {
-                return savedOrder;
+            // Sessions are not thread-safe, so the grouped writes are chained one after another
+            Uni<List<Order>> saveChain = Uni.createFrom().item(new ArrayList<>(orders.size()));
+            for (Order order : orders) {
+                saveChain = saveChain.chain(saved -> saveInSession(session, order)
+                        .map(savedOrder -> {
+                            saved.add(savedOrder);
+                            return saved;
+                        }));
             }
+            return saveChain.call(() -> orderCounters.recordSaves(session, orders));
+        })
+        // Events are cleared only once the shared commit succeeded, so a rolled-back group can be retried per order
+        .invoke(() -> orders.forEach(this::afterCommit))
+        .convert().with(UniReactorConverters.toMono());
+    }
 
-            // 3. Publish events (this hooks into our Outbox publisher)
-            Uni<Void> publishChain = Uni.createFrom().voidItem();
-            for (Object event : events) {
-                if (event instanceof com.example.common.domain.event.DomainEvent domainEvent) {
-                    publishChain = publishChain.chain(() -> Uni.createFrom().completionStage(eventPublisher.publish(domainEvent).toFuture()));
-                }
+    private Uni<Order> saveInSession(Mutiny.Session session, Order order) {
+        // 1. Extract events from AbstractAggregateRoot
+        Collection<Object> events = order.getRawEvents();
+
+        // 2. Persist order
+        Uni<Order> savedOrder = session.merge(order);
+
+        if (events.isEmpty()) {
+            return savedOrder;
+        }
+
+        // 3. Publish events (this hooks into our Outbox publisher)
+        Uni<Void> publishChain = Uni.createFrom().voidItem();
+        for (Object event : events) {
+            if (event instanceof com.example.common.domain.event.DomainEvent domainEvent) {
+                publishChain = publishChain.chain(() -> Uni.createFrom().completionStage(eventPublisher.publish(domainEvent).toFuture()));
+            }
+        }
+
+        return publishChain.chain(() -> savedOrder);
+    }
+
+    @Override
+    public Mono<List<Order>> saveAllStatusChanges(List<Order> orders) {
+        if (orders.isEmpty()) {
+            return Mono.just(List.of());
+        }
+        Map<StatusTransition, List<Order>> byTransition = new LinkedHashMap<>();
+        for (Order order : orders) {
+            if (order.getPersistedStatus() == null) {
+                return Mono.error(new IllegalArgumentException("Order has not been stored yet: " + order.getId()));
+            }
+            byTransition.computeIfAbsent(new StatusTransition(order.getPersistedStatus(), order.getStatus()),
+                    transition -> new ArrayList<>()).add(order);
+        }
+
+        Instant now = Instant.now();
+        return sessionFactory.withTransaction((session, tx) -> {
+            // 1. One guarded UPDATE per (from, to) pair, keeping only the orders that were still in their from-status
+            Uni<List<Order>> updateChain = Uni.createFrom().item(new ArrayList<>(orders.size()));
+            for (Map.Entry<StatusTransition, List<Order>> entry : byTransition.entrySet()) {
+                updateChain = updateChain.chain(moved -> moveStatus(session, entry.getKey(), entry.getValue(), now)
+                        .map(changed -> {
+                            moved.addAll(changed);
+                            return moved;
+                        }));
             }
 
-            return publishChain.chain(() -> savedOrder)
-                    .invoke(saved -> order.clearEvents()); // Clear via custom public method
+            // 2. Outbox rows and counter deltas for the moved orders only
+            return updateChain
+                    .call(moved -> Uni.createFrom().completionStage(eventPublisher.publishAll(eventsOf(moved)).toFuture()))
+                    .call(moved -> orderCounters.recordSaves(session, moved));
         })
+        .invoke(moved -> moved.forEach(this::afterCommit))
         .convert().with(UniReactorConverters.toMono());
     }
 
+    /**
+     * Moves those of {@code orders} still stored in {@code transition.from()} to {@code transition.to()}. Their rows
+     * are locked first, so the guarded update changes exactly the rows selected; orders that have moved on
+     * since they were loaded are left out of the result.
+     */
+    private Uni<List<Order>> moveStatus(Mutiny.Session session, StatusTransition transition, List<Order> orders,
+                                        Instant now) {
+        List<String> ids = orders.stream().map(Order::getId).toList();
+        return session.createQuery("select o.id from Order o where o.id in :ids and o.status = :from", String.class)
+                .setParameter("ids", ids)
+                .setParameter("from", transition.from())
+                .setLockMode(LockModeType.PESSIMISTIC_WRITE)
+                .getResultList()
+                .chain(lockedIds -> {
+                    if (lockedIds.isEmpty()) {
+                        return Uni.createFrom().item(List.<Order>of());
+                    }
+                    Set<String> locked = new HashSet<>(lockedIds);
+                    List<Order> movable = orders.stream().filter(order -> locked.contains(order.getId())).toList();
+                    if (movable.size() < orders.size()) {
+                        log.info("Skipped {} of {} orders no longer {}", orders.size() - movable.size(), orders.size(),
+                                transition.from());
+                    }
+                    return session.createMutationQuery(GUARDED_STATUS_UPDATE)
+                            .setParameter("to", transition.to())
+                            .setParameter("updatedAt", now)
+                            .setParameter("ids", lockedIds)
+                            .setParameter("from", transition.from())
+                            .executeUpdate()
+                            .map(updated -> {
+                                if (updated != lockedIds.size()) {
+                                    throw new IllegalStateException("Moved " + updated + " of " + lockedIds.size()
+                                            + " locked orders from " + transition.from() + " to " + transition.to());
+                                }
+                                return movable;
+                            });
+                });
+    }
+
+    private static List<DomainEvent> eventsOf(List<Order> orders) {
+        List<DomainEvent> events = new ArrayList<>();
+        for (Order order : orders) {
+            for (Object event : order.getRawEvents()) {
+                if (event instanceof DomainEvent domainEvent) {
+                    events.add(domainEvent);
+                }
+            }
+        }
+        return events;
+    }
+
+    private record StatusTransition(OrderStatus from, OrderStatus to) {
+    }
+
+    /**
+     * Records the order's saved status as persisted, hands its now durable events to in-process listeners, then
+     * clears them. The outbox remains the delivery path for other services; a failing listener is logged and
+     * does not fail the committed save.
+     */
+    private void afterCommit(Order order) {
+        order.markPersisted();
+        for (Object event : order.getRawEvents()) {
+            if (event instanceof DomainEvent domainEvent) {
+                try {
+                    committedEvents.publishEvent(domainEvent);
+                } catch (RuntimeException e) {
+                    log.warn("In-process listener failed for {} of order {}", event.getClass().getSimpleName(),
+                            order.getId(), e);
+                }
+            }
+        }
+        order.clearEvents();
+    }
+
     @Override
     public Mono<Order> findById(String id) {
         return sessionFactory.withSession(session -> session.find(Order.class, id))
@@ -57,9 +237,10 @@ public class OrderPersistenceCommandAdapter implements OrderRepository {
 
     @Override
     public Mono<Void> deleteById(String id) {
-        return sessionFactory.withTransaction((session, tx) -> 
+        return sessionFactory.withTransaction((session, tx) ->
                 session.find(Order.class, id)
-                       .onItem().ifNotNull().transformToUni(session::remove)
+                       .onItem().ifNotNull().transformToUni(order -> session.remove(order)
+                               .call(() -> orderCounters.record(session, Map.of(order.getStatus(), -1L))))
         )
         .replaceWithVoid()
         .convert().with(UniReactorConverters.toMono());
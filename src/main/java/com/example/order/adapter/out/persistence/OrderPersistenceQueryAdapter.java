@@ -1,107 +1,549 @@
 package com.example.order.adapter.out.persistence;
 
+import com.example.common.adapter.out.persistence.ReplicaRouter;
+import com.example.common.domain.valueobject.CurrencyCodeConverter;
+import com.example.common.domain.valueobject.Email;
+import com.example.common.domain.valueobject.Money;
 import com.example.order.application.port.out.OrderQueryPort;
 import com.example.order.application.dto.CustomerOrderStatsResult;
 import com.example.order.application.dto.OrderListItemResult;
 import com.example.order.application.dto.OrderSummaryResult;
+import com.example.order.application.dto.PendingOrderRef;
+import com.example.order.adapter.out.persistence.projection.CustomerOrderStatsRecord;
+import com.example.order.domain.exception.BusinessException;
 import com.example.order.domain.model.Order;
+import com.example.order.domain.model.OrderItem;
 import com.example.order.domain.model.OrderStatus;
+import io.smallrye.mutiny.Uni;
 import io.smallrye.mutiny.converters.uni.UniReactorConverters;
 import org.hibernate.reactive.mutiny.Mutiny;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Repository;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
-import java.util.Collections;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.StringJoiner;
+import java.util.TreeSet;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
+/**
+ * Read side of the order store. Every query runs on the session factory {@link ReplicaRouter} picks, so reads
+ * go to the read replica when one is configured and has caught up with the caller's consistency token.
+ */
 @Repository
 public class OrderPersistenceQueryAdapter implements OrderQueryPort {
 
-    private final Mutiny.SessionFactory sessionFactory;
+    private static final CurrencyCodeConverter CURRENCIES = new CurrencyCodeConverter();
+    private static final Comparator<Order> NEWEST_FIRST = Comparator
+            .comparing(Order::getCreatedAt, Comparator.nullsLast(Comparator.<Instant>reverseOrder()))
+            .thenComparing(Order::getId, Comparator.reverseOrder());
+    private static final Comparator<OrderListItemResult> NEWEST_LIST_ITEM_FIRST = Comparator
+            .comparing(OrderListItemResult::createdAt, Comparator.nullsLast(Comparator.<Instant>reverseOrder()))
+            .thenComparing(OrderListItemResult::orderId, Comparator.reverseOrder());
 
-    public OrderPersistenceQueryAdapter(Mutiny.SessionFactory sessionFactory) {
-        this.sessionFactory = sessionFactory;
+    /**
+     * Per-status and currency order count, amount spent (storage units) and items ordered for one customer, live
+     * and archived orders alike, in one round trip. Both halves read only the denormalized {@code final_amount},
+     * {@code item_count} and {@code currency} columns, so they are served from the covering
+     * {@code (customer_id, status, ...)} indexes. Amounts are only ever summed within one currency.
+     */
+    static final String CUSTOMER_STATS_SQL = "select status, currency, count(*), coalesce(sum(final_amount), 0),"
+            + " coalesce(sum(item_count), 0) from ("
+            + "select status, final_amount, item_count, currency from orders where customer_id = ?"
+            + " union all "
+            + "select status, final_amount, item_count, currency from orders_archive where customer_id = ?"
+            + ") customer_orders group by status, currency";
+
+    private final ReplicaRouter replicaRouter;
+    private final OrderCounters orderCounters;
+    private final boolean statsFromProjection;
+    private final int fetchSize;
+
+    public OrderPersistenceQueryAdapter(ReplicaRouter replicaRouter,
+                                        OrderCounters orderCounters,
+                                        @Value("${order.projection.enabled:true}") boolean statsFromProjection,
+                                        @Value("${order.query.fetch-size:500}") int fetchSize) {
+        this.replicaRouter = replicaRouter;
+        this.orderCounters = orderCounters;
+        this.statsFromProjection = statsFromProjection;
+        this.fetchSize = fetchSize;
     }
 
     @Override
     public Mono<Order> findById(String orderId) {
-        return sessionFactory.withSession(session -> 
-                session.find(Order.class, orderId))
-                .convert().with(UniReactorConverters.toMono());
+        return read(sessionFactory -> sessionFactory.withSession(session -> session.find(Order.class, orderId)));
+    }
+
+    /**
+     * Runs {@code query} on the session factory routed to for the caller's Reactor context.
+     */
+    private <T> Mono<T> read(Function<Mutiny.SessionFactory, Uni<T>> query) {
+        return read(replicaRouter.forRead(), query);
+    }
+
+    private static <T> Mono<T> read(Mono<Mutiny.SessionFactory> target, Function<Mutiny.SessionFactory, Uni<T>> query) {
+        return target.flatMap(sessionFactory -> query.apply(sessionFactory).convert().with(UniReactorConverters.toMono()));
+    }
+
+    private <T> Flux<T> readAll(Function<Mutiny.SessionFactory, Uni<List<T>>> query) {
+        return read(query).flatMapIterable(rows -> rows);
     }
 
     @Override
     public Flux<Order> findByCustomerId(String customerId) {
-        String hql = "from Order where customerId = :customerId";
-        return sessionFactory.withSession(session -> 
-                session.createQuery(hql, Order.class).setParameter("customerId", customerId).getResultList())
-                .onItem().transformToMulti(list -> io.smallrye.mutiny.Multi.createFrom().iterable(list))
-                .convert().with(io.smallrye.mutiny.converters.multi.MultiReactorConverters.toFlux());
+        return streamChunks((after, limit) -> findChunk("o.customerId = :customerId",
+                Map.of("customerId", customerId), Keyset.ID, after, 0, limit), Long.MAX_VALUE);
     }
 
     @Override
     public Flux<Order> findByStatus(OrderStatus status) {
-        String hql = "from Order where status = :status";
-        return sessionFactory.withSession(session -> 
-                session.createQuery(hql, Order.class).setParameter("status", status).getResultList())
-                .onItem().transformToMulti(list -> io.smallrye.mutiny.Multi.createFrom().iterable(list))
-                .convert().with(io.smallrye.mutiny.converters.multi.MultiReactorConverters.toFlux());
+        return streamChunks((after, limit) -> findChunk("o.status = :status",
+                Map.of("status", status), Keyset.ID, after, 0, limit), Long.MAX_VALUE);
     }
 
     @Override
     public Flux<Order> findAll(int page, int size) {
-        String hql = "from Order order by createdAt desc";
-        return sessionFactory.withSession(session -> 
-                session.createQuery(hql, Order.class)
-                       .setFirstResult(page * size)
-                       .setMaxResults(size)
-                       .getResultList())
-                .onItem().transformToMulti(list -> io.smallrye.mutiny.Multi.createFrom().iterable(list))
-                .convert().with(io.smallrye.mutiny.converters.multi.MultiReactorConverters.toFlux());
+        // Only the first chunk skips rows; later chunks continue from the last order seen
+        int offset = page * size;
+        return streamChunks((after, limit) -> findChunk(null, Map.of(), Keyset.NEWEST_FIRST, after,
+                after == null ? offset : 0, limit), size);
+    }
+
+    /**
+     * Emits the rows of successive chunks of at most {@code order.query.fetch-size} rows, up to {@code limit}
+     * in total. {@code nextChunk} is given the last row of the previous chunk (null for the first) and the
+     * number of rows to fetch. Chunks are fetched at most one ahead of what downstream has consumed, each in
+     * its own short session, so memory and time to first row do not grow with the result.
+     */
+    private <T> Flux<T> streamChunks(BiFunction<T, Integer, Mono<List<T>>> nextChunk, long limit) {
+        return Flux.defer(() -> {
+            AtomicLong remaining = new AtomicLong(limit);
+            return Mono.defer(() -> nextChunk.apply(null, (int) Math.min(limit, fetchSize)))
+                    .expand(chunk -> {
+                        long left = remaining.addAndGet(-chunk.size());
+                        return left <= 0 || chunk.size() < fetchSize
+                                ? Mono.empty()
+                                : Mono.defer(() -> nextChunk.apply(chunk.get(chunk.size() - 1),
+                                        (int) Math.min(left, fetchSize)));
+                    })
+                    .concatMapIterable(chunk -> chunk, 1);
+        });
+    }
+
+    /**
+     * One chunk of orders matching the HQL condition {@code where} (on alias {@code o}, or null for all
+     * orders), in {@code keyset} order strictly after {@code after}.
+     */
+    private Mono<List<Order>> findChunk(String where, Map<String, ?> params, Keyset keyset, Order after,
+                                        int offset, int limit) {
+        StringJoiner conditions = new StringJoiner(" and ", " where ", "").setEmptyValue("");
+        if (where != null) {
+            conditions.add(where);
+        }
+        if (after != null) {
+            conditions.add(keyset.hqlCondition);
+        }
+        String hql = "from Order o" + conditions + " order by " + keyset.hqlOrder;
+        return read(sessionFactory -> sessionFactory.withSession(session -> {
+            var query = session.createQuery(hql, Order.class).setFirstResult(offset).setMaxResults(limit);
+            params.forEach(query::setParameter);
+            if (after != null) {
+                keyset.bind(query, after);
+            }
+            return query.getResultList();
+        }));
+    }
+
+    /**
+     * Orders in which orders are streamed, with the condition that continues after a given order.
+     */
+    private enum Keyset {
+        ID("o.id > :afterId", "o.id", "id > ?", "id"),
+        NEWEST_FIRST("(o.createdAt < :afterCreatedAt or (o.createdAt = :afterCreatedAt and o.id < :afterId))",
+                "o.createdAt desc, o.id desc",
+                "(created_at < ? or (created_at = ? and id < ?))", "created_at desc, id desc");
+
+        final String hqlCondition;
+        final String hqlOrder;
+        final String sqlCondition;
+        final String sqlOrder;
+
+        Keyset(String hqlCondition, String hqlOrder, String sqlCondition, String sqlOrder) {
+            this.hqlCondition = hqlCondition;
+            this.hqlOrder = hqlOrder;
+            this.sqlCondition = sqlCondition;
+            this.sqlOrder = sqlOrder;
+        }
+
+        void bind(Mutiny.SelectionQuery<?> query, Order after) {
+            if (this == NEWEST_FIRST) {
+                query.setParameter("afterCreatedAt", after.getCreatedAt());
+            }
+            query.setParameter("afterId", after.getId());
+        }
+
+        List<Object> sqlParameters(Order after) {
+            return this == NEWEST_FIRST
+                    ? List.of(after.getCreatedAt(), after.getCreatedAt(), after.getId())
+                    : List.of(after.getId());
+        }
     }
 
     @Override
     public Mono<Long> count() {
-        String hql = "select count(o) from Order o";
-        return sessionFactory.withSession(session -> 
-                session.createQuery(hql, Long.class).getSingleResult())
-                .convert().with(UniReactorConverters.toMono());
+        return orderCounters.count(null);
+    }
+
+    @Override
+    public Mono<Long> countByStatus(OrderStatus status) {
+        return orderCounters.count(status);
     }
 
     @Override
     public Mono<OrderSummaryResult> findOrderSummary(String orderId) {
+        return findOrderSummary(replicaRouter.forRead(), orderId);
+    }
+
+    @Override
+    public Mono<OrderSummaryResult> findCurrentOrderSummary(String orderId) {
+        return findOrderSummary(replicaRouter.primary(), orderId);
+    }
+
+    private Mono<OrderSummaryResult> findOrderSummary(Mono<Mutiny.SessionFactory> target, String orderId) {
         String hql = "select o from Order o left join fetch o.items where o.id = :id";
-        return sessionFactory.withSession(session -> 
-                session.createQuery(hql, Order.class).setParameter("id", orderId).getSingleResultOrNull())
-                .map(entity -> entity == null ? null : toSummaryResult(entity))
-                .convert().with(UniReactorConverters.toMono());
+        return read(target, sessionFactory -> sessionFactory.withSession(session ->
+                        session.createQuery(hql, Order.class).setParameter("id", orderId).getSingleResultOrNull()))
+                .map(this::toSummaryResult);
     }
 
     @Override
     public Flux<OrderListItemResult> findOrderList(int page, int size) {
-        return findAll(page, size).map(o -> new OrderListItemResult(
-            o.getId(), o.getCustomerId(), o.getStatus(), 
-            o.getFinalAmount().getAmount(), o.getFinalAmount().getCurrency(),
-            o.getItemCount(), o.getCreatedAt(), o.getUpdatedAt()
-        ));
+        return findListItems(null, null, page * size, size);
     }
 
     @Override
     public Mono<CustomerOrderStatsResult> findCustomerStats(String customerId) {
-        String hql = "select count(o), sum(o.totalAmount.amount) from Order o where o.customerId = :customerId";
-        return sessionFactory.withSession(session -> 
-                session.createQuery(hql, Object[].class).setParameter("customerId", customerId).getSingleResult())
-                .map(row -> {
-                    long total = (Long)row[0];
-                    java.math.BigDecimal spent = java.math.BigDecimal.valueOf(row[1] == null ? 0.0 : ((Number)row[1]).doubleValue());
-                    return new CustomerOrderStatsResult(
-                        customerId, total, 0, 0, 0, 
-                        spent, total == 0 ? spent : spent.divide(java.math.BigDecimal.valueOf(total), java.math.RoundingMode.HALF_UP),
-                        "USD", Collections.emptyMap(), 0
-                    );
-                })
-                .convert().with(UniReactorConverters.toMono());
+        if (!statsFromProjection) {
+            return aggregateCustomerStats(customerId);
+        }
+        // Primary-key read of the projection maintained by OrderProjector
+        return read(sessionFactory -> sessionFactory.withSession(session ->
+                        session.find(CustomerOrderStatsRecord.class, customerId)))
+                .defaultIfEmpty(new CustomerOrderStatsRecord(customerId))
+                .map(CustomerOrderStatsRecord::toResult);
+    }
+
+    /**
+     * Computes a customer's statistics from the order tables with {@link #CUSTOMER_STATS_SQL}, for when the
+     * projection is disabled. Sums stay in whole storage units until the result is built, so they are exact.
+     */
+    Mono<CustomerOrderStatsResult> aggregateCustomerStats(String customerId) {
+        return read(sessionFactory -> sessionFactory.withSession(session ->
+                        session.createNativeQuery(CUSTOMER_STATS_SQL, Object[].class)
+                                .setParameter(1, customerId)
+                                .setParameter(2, customerId)
+                                .getResultList()))
+                .map(rows -> toCustomerStats(customerId, rows));
+    }
+
+    /**
+     * Folds {@link #CUSTOMER_STATS_SQL} rows into a customer's statistics. A total spent only means something in
+     * one currency, so a customer whose orders that were not cancelled span several currencies is rejected.
+     */
+    static CustomerOrderStatsResult toCustomerStats(String customerId, List<Object[]> rows) {
+        CustomerOrderStatsRecord stats = new CustomerOrderStatsRecord(customerId);
+        Set<String> billedCurrencies = new TreeSet<>();
+        for (Object[] row : rows) {
+            OrderStatus status = OrderStatus.fromCode(((Number) row[0]).shortValue());
+            String currency = CURRENCIES.convertToEntityAttribute(((Number) row[1]).shortValue());
+            if (status != OrderStatus.CANCELLED) {
+                billedCurrencies.add(currency);
+            }
+            stats.addAggregate(status, ((Number) row[2]).longValue(), ((Number) row[3]).longValue(),
+                    ((Number) row[4]).longValue(), currency);
+        }
+        if (billedCurrencies.size() > 1) {
+            throw new BusinessException("ORDER_011",
+                    "Customer " + customerId + " has orders in more than one currency: " + billedCurrencies);
+        }
+        return stats.toResult();
+    }
+
+    @Override
+    public Flux<Order> findByFilterAfter(String customerId, OrderStatus status, String afterId, int limit) {
+        StringBuilder hql = new StringBuilder("from Order o where o.status = :status");
+        if (customerId != null) {
+            hql.append(" and o.customerId = :customerId");
+        }
+        if (afterId != null) {
+            hql.append(" and o.id > :afterId");
+        }
+        hql.append(" order by o.id");
+
+        Mono<List<Order>> chunk = read(replicaRouter.primary(), sessionFactory -> sessionFactory.withSession(session -> {
+            var query = session.createQuery(hql.toString(), Order.class)
+                    .setParameter("status", status)
+                    .setMaxResults(limit);
+            if (customerId != null) {
+                query.setParameter("customerId", customerId);
+            }
+            if (afterId != null) {
+                query.setParameter("afterId", afterId);
+            }
+            return query.getResultList();
+        }));
+        return chunk.flatMapIterable(orders -> orders);
+    }
+
+    @Override
+    public Flux<OrderListItemResult> findOrderListBefore(Instant beforeCreatedAt, String beforeId, int limit) {
+        return findListItems(beforeCreatedAt, beforeId, 0, limit);
+    }
+
+    /**
+     * List rows newest first, selected straight into {@link OrderListItemResult}'s storage-unit constructor from
+     * the denormalized columns of {@code orders}: one query over the {@code (created_at, id)} index, no entities
+     * and no order lines.
+     */
+    private Flux<OrderListItemResult> findListItems(Instant beforeCreatedAt, String beforeId, int offset, int limit) {
+        StringBuilder hql = new StringBuilder("select new com.example.order.application.dto.OrderListItemResult("
+                + "o.id, o.customerId, o.status, o.listedFinalAmount, o.totalAmount.currency, o.itemCount, o.createdAt, "
+                + "o.updatedAt) from Order o");
+        if (beforeCreatedAt != null) {
+            hql.append(" where o.createdAt < :beforeCreatedAt or (o.createdAt = :beforeCreatedAt and o.id < :beforeId)");
+        }
+        hql.append(" order by o.createdAt desc, o.id desc");
+
+        return readAll(sessionFactory -> sessionFactory.withSession(session -> {
+                    var query = session.createQuery(hql.toString(), OrderListItemResult.class)
+                            .setFirstResult(offset)
+                            .setMaxResults(limit);
+                    if (beforeCreatedAt != null) {
+                        query.setParameter("beforeCreatedAt", beforeCreatedAt);
+                        query.setParameter("beforeId", beforeId);
+                    }
+                    return query.getResultList();
+                }));
+    }
+
+    @Override
+    public Flux<PendingOrderRef> findPendingAfter(Instant afterCreatedAt, String afterId, int limit) {
+        StringBuilder hql = new StringBuilder(
+                "select new com.example.order.application.dto.PendingOrderRef(o.id, o.createdAt) from Order o where o.status = :status");
+        if (afterCreatedAt != null) {
+            hql.append(" and (o.createdAt > :afterCreatedAt or (o.createdAt = :afterCreatedAt and o.id > :afterId))");
+        }
+        hql.append(" order by o.createdAt, o.id");
+
+        return readAll(sessionFactory -> sessionFactory.withSession(session -> {
+            var query = session.createQuery(hql.toString(), PendingOrderRef.class)
+                    .setParameter("status", OrderStatus.PENDING)
+                    .setMaxResults(limit);
+            if (afterCreatedAt != null) {
+                query.setParameter("afterCreatedAt", afterCreatedAt);
+                query.setParameter("afterId", afterId);
+            }
+            return query.getResultList();
+        }));
+    }
+
+    @Override
+    public Flux<Order> findPendingByIds(Collection<String> orderIds) {
+        if (orderIds.isEmpty()) {
+            return Flux.empty();
+        }
+        Mono<List<Order>> pending = read(replicaRouter.primary(), sessionFactory -> sessionFactory.withSession(session ->
+                session.createQuery("from Order o where o.id in :ids and o.status = :status", Order.class)
+                        .setParameter("ids", orderIds)
+                        .setParameter("status", OrderStatus.PENDING)
+                        .getResultList()));
+        return pending.flatMapIterable(orders -> orders);
+    }
+
+    @Override
+    public Mono<Order> findById(String orderId, boolean includeHistory) {
+        Mono<Order> hot = findById(orderId);
+        return includeHistory
+                ? hot.switchIfEmpty(findArchivedChunk("id = ?", List.of(orderId), Keyset.ID, null, 1)
+                        .flatMapIterable(orders -> orders).next())
+                : hot;
+    }
+
+    @Override
+    public Flux<Order> findByCustomerId(String customerId, boolean includeHistory) {
+        Flux<Order> hot = findByCustomerId(customerId);
+        return includeHistory ? hot.concatWith(findArchived("customer_id = ?", List.of(customerId), Keyset.ID, Long.MAX_VALUE)) : hot;
+    }
+
+    @Override
+    public Flux<Order> findByStatus(OrderStatus status, boolean includeHistory) {
+        Flux<Order> hot = findByStatus(status);
+        // Only terminal orders are ever archived
+        boolean archivable = status == OrderStatus.DELIVERED || status == OrderStatus.CANCELLED;
+        return includeHistory && archivable
+                ? hot.concatWith(findArchived("status = ?", List.of(status.code()), Keyset.ID, Long.MAX_VALUE))
+                : hot;
+    }
+
+    @Override
+    public Flux<Order> findAll(int page, int size, boolean includeHistory) {
+        if (!includeHistory) {
+            return findAll(page, size);
+        }
+        // Both tiers are ordered newest first, so the requested page lies within the first (page + 1) * size of each
+        int window = (page + 1) * size;
+        return Flux.mergeComparing(NEWEST_FIRST, findAll(0, window),
+                        findArchived(null, List.of(), Keyset.NEWEST_FIRST, window))
+                .skip((long) page * size)
+                .take(size);
+    }
+
+    @Override
+    public Flux<OrderListItemResult> findOrderListBefore(Instant beforeCreatedAt, String beforeId, int limit,
+                                                         boolean includeHistory) {
+        if (!includeHistory) {
+            return findOrderListBefore(beforeCreatedAt, beforeId, limit);
+        }
+        Flux<OrderListItemResult> archived = beforeCreatedAt == null
+                ? findArchivedListItems(null, List.of(), limit)
+                : findArchivedListItems("created_at < ? or (created_at = ? and id < ?)",
+                        List.of(beforeCreatedAt, beforeCreatedAt, beforeId), limit);
+        return Flux.mergeComparing(NEWEST_LIST_ITEM_FIRST, findListItems(beforeCreatedAt, beforeId, 0, limit), archived)
+                .take(limit);
+    }
+
+    @Override
+    public Mono<Long> count(boolean includeHistory) {
+        if (!includeHistory) {
+            return count();
+        }
+        String sql = "select count(*) from orders_archive";
+        Mono<Long> archived = read(sessionFactory -> sessionFactory.withSession(session ->
+                session.createNativeQuery(sql, Long.class).getSingleResult()));
+        return Mono.zip(count(), archived, Long::sum);
+    }
+
+    @Override
+    public Flux<OrderListItemResult> findOrderList(int page, int size, boolean includeHistory) {
+        if (!includeHistory) {
+            return findOrderList(page, size);
+        }
+        int window = (page + 1) * size;
+        return Flux.mergeComparing(NEWEST_LIST_ITEM_FIRST, findListItems(null, null, 0, window),
+                        findArchivedListItems(null, List.of(), window))
+                .skip((long) page * size)
+                .take(size);
+    }
+
+    /**
+     * Archived list rows, newest first, from the denormalized columns of {@code orders_archive}; {@code where}
+     * is as for {@link #findArchived}. Bounded by {@code limit}, so read in one query.
+     */
+    private Flux<OrderListItemResult> findArchivedListItems(String where, List<Object> params, int limit) {
+        String sql = "select id, customer_id, status, final_amount, currency, item_count, created_at, updated_at"
+                + " from orders_archive" + (where != null ? " where " + where : "") + " order by created_at desc, id desc";
+        return readAll(sessionFactory -> sessionFactory.withSession(session -> {
+                    var query = session.createNativeQuery(sql, Object[].class).setMaxResults(limit);
+                    for (int i = 0; i < params.size(); i++) {
+                        query.setParameter(i + 1, params.get(i));
+                    }
+                    return query.getResultList();
+                }))
+                .map(row -> listItem((String) row[0], (String) row[1], OrderStatus.fromCode(((Number) row[2]).shortValue()),
+                        money(row[3], row[4]), ((Number) row[5]).intValue(), toInstant(row[6]), toInstant(row[7])));
+    }
+
+    private static OrderListItemResult listItem(String id, String customerId, OrderStatus status, Money finalAmount,
+                                                int itemCount, Instant createdAt, Instant updatedAt) {
+        return new OrderListItemResult(id, customerId, status, finalAmount.getAmount(), finalAmount.getCurrency(),
+                itemCount, createdAt, updatedAt);
+    }
+
+    /**
+     * Streams archived orders with their lines as detached aggregates, chunk by chunk like the live tier.
+     * {@code where} is a native SQL condition on {@code orders_archive} with positional parameters, or null for
+     * all rows.
+     */
+    private Flux<Order> findArchived(String where, List<Object> params, Keyset keyset, long limit) {
+        return streamChunks((after, chunkLimit) -> findArchivedChunk(where, params, keyset, after, chunkLimit), limit);
+    }
+
+    private Mono<List<Order>> findArchivedChunk(String where, List<Object> params, Keyset keyset, Order after,
+                                                int limit) {
+        List<Object> args = new ArrayList<>(params);
+        StringJoiner conditions = new StringJoiner(" and ", " where ", "").setEmptyValue("");
+        if (where != null) {
+            conditions.add(where);
+        }
+        if (after != null) {
+            conditions.add(keyset.sqlCondition);
+            args.addAll(keyset.sqlParameters(after));
+        }
+        String sql = "select " + OrderArchiver.ORDER_COLUMNS + " from orders_archive" + conditions
+                + " order by " + keyset.sqlOrder;
+        return read(sessionFactory -> sessionFactory.withSession(session -> {
+            var query = session.createNativeQuery(sql, Object[].class).setMaxResults(limit);
+            for (int i = 0; i < args.size(); i++) {
+                query.setParameter(i + 1, args.get(i));
+            }
+            return query.getResultList().chain(rows -> rows.isEmpty()
+                    ? Uni.createFrom().item(List.<Order>of())
+                    : findArchivedItems(session, rows).map(items -> rows.stream()
+                            .map(row -> toArchivedOrder(row, items.getOrDefault((String) row[0], List.of())))
+                            .toList()));
+        }));
+    }
+
+    private Uni<Map<String, List<OrderItem>>> findArchivedItems(Mutiny.Session session, List<Object[]> orderRows) {
+        String sql = "select order_id, product_id, product_name, quantity, unit_price, currency"
+                + " from order_items_archive where order_id in " + OrderArchiver.inList(orderRows.size());
+        var query = session.createNativeQuery(sql, Object[].class);
+        for (int i = 0; i < orderRows.size(); i++) {
+            query.setParameter(i + 1, orderRows.get(i)[0]);
+        }
+        return query.getResultList().map(rows -> rows.stream().collect(Collectors.groupingBy(
+                row -> (String) row[0],
+                Collectors.mapping(row -> OrderItem.of((String) row[1], (String) row[2], ((Number) row[3]).intValue(),
+                        money(row[4], row[5])), Collectors.toList()))));
+    }
+
+    private static Order toArchivedOrder(Object[] row, List<OrderItem> items) {
+        Money total = money(row[4], row[5]);
+        Money discount = row[6] == null ? null : money(row[6], row[7] != null ? row[7] : row[5]);
+        return Order.reconstitute((String) row[0], (String) row[1], Email.of((String) row[2]),
+                OrderStatus.fromCode(((Number) row[3]).shortValue()), items, total, discount,
+                toInstant(row[8]), toInstant(row[9]));
+    }
+
+    private static Money money(Object amountColumn, Object currencyColumn) {
+        return Money.ofStorageUnits(((Number) amountColumn).longValue(),
+                CURRENCIES.convertToEntityAttribute(((Number) currencyColumn).shortValue()));
+    }
+
+    private static Instant toInstant(Object column) {
+        if (column instanceof Instant instant) {
+            return instant;
+        } else if (column instanceof Timestamp timestamp) {
+            return timestamp.toInstant();
+        } else if (column instanceof LocalDateTime local) {
+            return Timestamp.valueOf(local).toInstant();
+        } else if (column instanceof OffsetDateTime offset) {
+            return offset.toInstant();
+        }
+        return null;
     }
 
     private OrderSummaryResult toSummaryResult(Order order) {
@@ -0,0 +1,45 @@
+package com.example.order.adapter.out.persistence;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.Instant;
+
+/**
+ * Insert-only snapshot of an event-sourced order, taken after the event with the given version.
+ */
+@Entity
+@Table(name = "order_snapshots")
+@IdClass(OrderSnapshotRecord.Key.class)
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderSnapshotRecord {
+
+    @Id
+    @Column(name = "order_id")
+    private String orderId;
+
+    @Id
+    @Column(name = "version")
+    private long version;
+
+    @Lob
+    @Column(name = "payload")
+    private String payload;
+
+    @Column(name = "created_at")
+    private Instant createdAt;
+
+    @EqualsAndHashCode
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+        private String orderId;
+        private long version;
+    }
+}
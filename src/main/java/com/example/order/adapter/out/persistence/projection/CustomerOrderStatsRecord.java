@@ -0,0 +1,177 @@
+package com.example.order.adapter.out.persistence.projection;
+
+import com.example.common.domain.valueobject.CurrencyCodeConverter;
+import com.example.common.domain.valueobject.Money;
+import com.example.order.application.dto.CustomerOrderStatsResult;
+import com.example.order.domain.exception.BusinessException;
+import com.example.order.domain.model.OrderStatus;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Instant;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * One row of {@code customer_order_stats}, kept current by {@link OrderProjector}: order counts per status plus
+ * the amount spent and items ordered across the customer's orders that were not cancelled. Amounts are
+ * {@link Money#toStorageUnits() storage units} of the currency. Storage units of different currencies cannot be
+ * added up, so once orders that were not cancelled span several currencies the row is marked
+ * {@code mixed_currencies} and its statistics are rejected like those aggregated from the order tables.
+ */
+@Entity
+@Table(name = "customer_order_stats")
+@Getter
+@NoArgsConstructor
+public class CustomerOrderStatsRecord {
+
+    private static final String DEFAULT_CURRENCY = "USD";
+
+    @Id
+    @Column(name = "customer_id")
+    private String customerId;
+
+    @Column(name = "pending_orders")
+    private long pendingOrders;
+
+    @Column(name = "confirmed_orders")
+    private long confirmedOrders;
+
+    @Column(name = "paid_orders")
+    private long paidOrders;
+
+    @Column(name = "shipped_orders")
+    private long shippedOrders;
+
+    @Column(name = "delivered_orders")
+    private long deliveredOrders;
+
+    @Column(name = "cancelled_orders")
+    private long cancelledOrders;
+
+    @Column(name = "total_spent")
+    private long totalSpent;
+
+    @Column(name = "total_items")
+    private long totalItems;
+
+    @Convert(converter = CurrencyCodeConverter.class)
+    @Column(name = "currency")
+    private String currency;
+
+    @Column(name = "mixed_currencies")
+    private boolean mixedCurrencies;
+
+    @Column(name = "updated_at")
+    private Instant updatedAt;
+
+    public CustomerOrderStatsRecord(String customerId) {
+        this.customerId = customerId;
+    }
+
+    void recordCreated(OrderSummaryRecord order) {
+        if (billedOrders() == 0) {
+            // Nothing counts towards the totals, which are back to zero: start over in the new order's currency
+            currency = order.getCurrency();
+            mixedCurrencies = false;
+        } else if (!currency.equals(order.getCurrency())) {
+            mixedCurrencies = true;
+        }
+        adjustCount(OrderStatus.PENDING, 1);
+        totalSpent += order.getFinalAmount();
+        totalItems += order.getItemCount();
+        updatedAt = order.getCreatedAt();
+    }
+
+    /**
+     * Moves {@code order} from its current status to {@code status}; call before updating the summary row.
+     */
+    void recordStatusChange(OrderSummaryRecord order, OrderStatus status, Instant at) {
+        if (order.getStatus() == status) {
+            return;
+        }
+        adjustCount(order.getStatus(), -1);
+        adjustCount(status, 1);
+        if (status == OrderStatus.CANCELLED) {
+            totalSpent -= order.getFinalAmount();
+            totalItems -= order.getItemCount();
+        }
+        updatedAt = at;
+    }
+
+    /**
+     * Re-prices {@code order} to {@code finalAmount}; call before updating the summary row.
+     */
+    void recordAmountChange(OrderSummaryRecord order, long finalAmount, Instant at) {
+        if (order.getStatus() != OrderStatus.CANCELLED) {
+            totalSpent += finalAmount - order.getFinalAmount();
+        }
+        updatedAt = at;
+    }
+
+    /**
+     * Adds {@code orders} orders in {@code status} worth {@code amount} with {@code items} items, as aggregated
+     * from the order tables rather than projected from events. The currency of orders that count towards the
+     * amount spent wins over that of cancelled ones.
+     */
+    public void addAggregate(OrderStatus status, long orders, long amount, long items, String currency) {
+        if (this.currency == null || status != OrderStatus.CANCELLED) {
+            this.currency = currency;
+        }
+        adjustCount(status, orders);
+        if (status != OrderStatus.CANCELLED) {
+            totalSpent += amount;
+            totalItems += items;
+        }
+    }
+
+    long count(OrderStatus status) {
+        return switch (status) {
+            case PENDING -> pendingOrders;
+            case CONFIRMED -> confirmedOrders;
+            case PAID -> paidOrders;
+            case SHIPPED -> shippedOrders;
+            case DELIVERED -> deliveredOrders;
+            case CANCELLED -> cancelledOrders;
+        };
+    }
+
+    public CustomerOrderStatsResult toResult() {
+        if (mixedCurrencies) {
+            throw new BusinessException("ORDER_011",
+                    "Customer " + customerId + " has orders in more than one currency");
+        }
+        Map<OrderStatus, Long> byStatus = new EnumMap<>(OrderStatus.class);
+        long total = 0;
+        for (OrderStatus status : OrderStatus.values()) {
+            long count = count(status);
+            byStatus.put(status, count);
+            total += count;
+        }
+        long active = pendingOrders + confirmedOrders + paidOrders + shippedOrders;
+        long billed = total - cancelledOrders;
+        String resultCurrency = currency != null ? currency : DEFAULT_CURRENCY;
+        BigDecimal spent = Money.ofStorageUnits(totalSpent, resultCurrency).getAmount();
+        BigDecimal average = billed == 0 ? spent : spent.divide(BigDecimal.valueOf(billed), RoundingMode.HALF_UP);
+        return new CustomerOrderStatsResult(customerId, total, active, deliveredOrders, cancelledOrders, spent,
+                average, resultCurrency, byStatus, totalItems);
+    }
+
+    private long billedOrders() {
+        return pendingOrders + confirmedOrders + paidOrders + shippedOrders + deliveredOrders;
+    }
+
+    private void adjustCount(OrderStatus status, long delta) {
+        switch (status) {
+            case PENDING -> pendingOrders += delta;
+            case CONFIRMED -> confirmedOrders += delta;
+            case PAID -> paidOrders += delta;
+            case SHIPPED -> shippedOrders += delta;
+            case DELIVERED -> deliveredOrders += delta;
+            case CANCELLED -> cancelledOrders += delta;
+        }
+    }
+}
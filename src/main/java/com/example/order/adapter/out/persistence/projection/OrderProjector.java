@@ -0,0 +1,201 @@
+package com.example.order.adapter.out.persistence.projection;
+
+import com.example.common.adapter.out.persistence.outbox.OutboxEvent;
+import com.example.order.domain.event.OrderCancelledEvent;
+import com.example.order.domain.event.OrderConfirmedEvent;
+import com.example.order.domain.event.OrderCreatedEvent;
+import com.example.order.domain.event.OrderDeliveredEvent;
+import com.example.order.domain.event.OrderDiscountAppliedEvent;
+import com.example.order.domain.event.OrderPaidEvent;
+import com.example.order.domain.event.OrderShippedEvent;
+import com.example.order.domain.model.OrderStatus;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.converters.uni.UniReactorConverters;
+import jakarta.persistence.LockModeType;
+import org.hibernate.reactive.mutiny.Mutiny;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Maintains {@code order_summary_view} and {@code customer_order_stats} from the order events in the outbox.
+ * <p>
+ * Each batch takes the oldest order events not yet marked {@code projected}, locking their rows, applies them
+ * and marks them in one transaction, so every event is applied exactly once even with several instances
+ * polling. Nothing is skipped by position: an event whose transaction commits late is simply picked up by
+ * the next poll after it becomes visible. Events of one order still apply in order, since its writes are
+ * serialized by the order's version. The outbox keeps processed rows, so a projection can be rebuilt by
+ * truncating its tables and resetting {@code projected} on the order events.
+ */
+@Component
+@ConditionalOnProperty(name = "order.projection.enabled", havingValue = "true", matchIfMissing = true)
+public class OrderProjector {
+
+    private static final Logger log = LoggerFactory.getLogger(OrderProjector.class);
+
+    private static final Map<String, OrderStatus> STATUS_EVENTS = Map.of(
+            OrderConfirmedEvent.class.getSimpleName(), OrderStatus.CONFIRMED,
+            OrderPaidEvent.class.getSimpleName(), OrderStatus.PAID,
+            OrderShippedEvent.class.getSimpleName(), OrderStatus.SHIPPED,
+            OrderDeliveredEvent.class.getSimpleName(), OrderStatus.DELIVERED,
+            OrderCancelledEvent.class.getSimpleName(), OrderStatus.CANCELLED
+    );
+
+    private final Mutiny.SessionFactory sessionFactory;
+    private final ObjectMapper objectMapper;
+    private final int batchSize;
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    public OrderProjector(Mutiny.SessionFactory sessionFactory,
+                          ObjectMapper objectMapper,
+                          @Value("${order.projection.batch-size:500}") int batchSize) {
+        this.sessionFactory = sessionFactory;
+        this.objectMapper = objectMapper;
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(fixedDelayString = "${order.projection.poll-interval-ms:1000}")
+    public void poll() {
+        if (!running.compareAndSet(false, true)) {
+            return;
+        }
+        catchUp()
+                .doFinally(signal -> running.set(false))
+                .subscribe(
+                    applied -> {
+                        if (applied > 0) {
+                            log.debug("Projected {} order events", applied);
+                        }
+                    },
+                    error -> log.error("Failed to project order events", error)
+                );
+    }
+
+    /**
+     * Applies unprojected events batch by batch until a batch comes back short. Emits the number of events read.
+     */
+    public Mono<Long> catchUp() {
+        return projectBatch()
+                .expand(read -> read < batchSize ? Mono.empty() : projectBatch())
+                .reduce(0L, Long::sum);
+    }
+
+    private Mono<Long> projectBatch() {
+        return sessionFactory.withTransaction((session, tx) -> session.createQuery("from OutboxEvent e"
+                                + " where e.aggregateType = 'Order' and e.projected = false order by e.id", OutboxEvent.class)
+                        .setMaxResults(batchSize)
+                        .setLockMode(LockModeType.PESSIMISTIC_WRITE)
+                        .getResultList()
+                        .chain(events -> events.isEmpty()
+                                ? Uni.createFrom().item(0L)
+                                : applyAll(session, events)
+                                        .chain(() -> session.createMutationQuery(
+                                                        "update OutboxEvent e set e.projected = true where e.id in :ids")
+                                                .setParameter("ids", events.stream().map(OutboxEvent::getId).toList())
+                                                .executeUpdate())
+                                        .replaceWith((long) events.size())))
+                .convert().with(UniReactorConverters.toMono());
+    }
+
+    private Uni<Void> applyAll(Mutiny.Session session, List<OutboxEvent> events) {
+        Uni<Void> applied = Uni.createFrom().voidItem();
+        for (OutboxEvent event : events) {
+            applied = applied.chain(() -> apply(session, event));
+        }
+        return applied;
+    }
+
+    private Uni<Void> apply(Mutiny.Session session, OutboxEvent event) {
+        OrderStatus status = STATUS_EVENTS.get(event.getEventType());
+        if (status != null) {
+            return changeStatus(session, event.getAggregateId(), status, event.getCreatedAt());
+        }
+        if (OrderCreatedEvent.class.getSimpleName().equals(event.getEventType())) {
+            return created(session, read(event, OrderCreatedEvent.class));
+        }
+        if (OrderDiscountAppliedEvent.class.getSimpleName().equals(event.getEventType())) {
+            return discounted(session, read(event, OrderDiscountAppliedEvent.class));
+        }
+        return Uni.createFrom().voidItem();
+    }
+
+    private Uni<Void> created(Mutiny.Session session, OrderCreatedEvent event) {
+        if (event.customerId() == null) {
+            // Written before OrderCreatedEvent carried the customer; nothing to attribute it to
+            log.warn("Skipping OrderCreatedEvent without customer for order {}", event.orderId());
+            return Uni.createFrom().voidItem();
+        }
+        return session.find(OrderSummaryRecord.class, event.orderId()).chain(existing -> {
+            if (existing != null) {
+                return Uni.createFrom().voidItem();
+            }
+            OrderSummaryRecord order = new OrderSummaryRecord(event.orderId(), event.customerId(),
+                    event.totalAmount().toStorageUnits(),
+                    event.totalAmount().getCurrency(), event.itemCount(), event.occurredAt());
+            return session.persist(order)
+                    .chain(() -> stats(session, event.customerId()))
+                    .invoke(stats -> stats.recordCreated(order))
+                    .replaceWithVoid();
+        });
+    }
+
+    private Uni<Void> discounted(Mutiny.Session session, OrderDiscountAppliedEvent event) {
+        // Discounts applied while creating an order precede OrderCreatedEvent, which already carries the result
+        return session.find(OrderSummaryRecord.class, event.orderId()).chain(order -> {
+            if (order == null) {
+                return Uni.createFrom().voidItem();
+            }
+            long finalAmount = event.discountedAmount().toStorageUnits();
+            return stats(session, order.getCustomerId())
+                    .invoke(stats -> {
+                        stats.recordAmountChange(order, finalAmount, event.occurredAt());
+                        order.changeFinalAmount(finalAmount, event.occurredAt());
+                    })
+                    .replaceWithVoid();
+        });
+    }
+
+    private Uni<Void> changeStatus(Mutiny.Session session, String orderId, OrderStatus status, Instant at) {
+        return session.find(OrderSummaryRecord.class, orderId).chain(order -> {
+            if (order == null) {
+                return Uni.createFrom().voidItem();
+            }
+            return stats(session, order.getCustomerId())
+                    .invoke(stats -> {
+                        stats.recordStatusChange(order, status, at);
+                        order.changeStatus(status, at);
+                    })
+                    .replaceWithVoid();
+        });
+    }
+
+    private static Uni<CustomerOrderStatsRecord> stats(Mutiny.Session session, String customerId) {
+        return session.find(CustomerOrderStatsRecord.class, customerId)
+                .chain(stats -> stats != null
+                        ? Uni.createFrom().item(stats)
+                        : persist(session, new CustomerOrderStatsRecord(customerId)));
+    }
+
+    private static <T> Uni<T> persist(Mutiny.Session session, T entity) {
+        return session.persist(entity).replaceWith(entity);
+    }
+
+    private <T> T read(OutboxEvent event, Class<T> type) {
+        try {
+            return objectMapper.readValue(event.getPayload(), type);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Unreadable " + event.getEventType() + " payload in outbox row " + event.getId(), e);
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.example.order.adapter.out.persistence.projection;
+
+import com.example.common.domain.valueobject.CurrencyCodeConverter;
+import com.example.order.domain.model.OrderStatus;
+import com.example.order.domain.model.OrderStatusConverter;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * One row of {@code order_summary_view}: the state of an order as seen by {@link OrderProjector}. Amounts are
+ * {@link com.example.common.domain.valueobject.Money#toStorageUnits() storage units} of the currency, like the
+ * {@code orders} table.
+ */
+@Entity
+@Table(name = "order_summary_view")
+@Getter
+@NoArgsConstructor
+public class OrderSummaryRecord {
+
+    @Id
+    @Column(name = "order_id")
+    private String orderId;
+
+    @Column(name = "customer_id")
+    private String customerId;
+
+    @Convert(converter = OrderStatusConverter.class)
+    @Column(name = "status")
+    private OrderStatus status;
+
+    @Column(name = "final_amount")
+    private long finalAmount;
+
+    @Convert(converter = CurrencyCodeConverter.class)
+    @Column(name = "currency")
+    private String currency;
+
+    @Column(name = "item_count")
+    private int itemCount;
+
+    @Column(name = "created_at")
+    private Instant createdAt;
+
+    @Column(name = "updated_at")
+    private Instant updatedAt;
+
+    OrderSummaryRecord(String orderId, String customerId, long finalAmount, String currency, int itemCount,
+                       Instant createdAt) {
+        this.orderId = orderId;
+        this.customerId = customerId;
+        this.status = OrderStatus.PENDING;
+        this.finalAmount = finalAmount;
+        this.currency = currency;
+        this.itemCount = itemCount;
+        this.createdAt = createdAt;
+        this.updatedAt = createdAt;
+    }
+
+    void changeStatus(OrderStatus status, Instant at) {
+        this.status = status;
+        this.updatedAt = at;
+    }
+
+    void changeFinalAmount(long finalAmount, Instant at) {
+        this.finalAmount = finalAmount;
+        this.updatedAt = at;
+    }
+}
@@ -0,0 +1,20 @@
+package com.example.order.application.dto;
+
+import com.example.order.domain.model.OrderStatus;
+
+/**
+ * Command for transitioning every order matching a filter in one operation.
+ * Matching orders are streamed and processed in chunks of {@code chunkSize}.
+ */
+public record BulkTransitionCommand(
+    Action action,
+    String customerId,
+    OrderStatus status,
+    String reason,
+    int chunkSize
+) {
+    public enum Action {
+        CONFIRM,
+        CANCEL
+    }
+}
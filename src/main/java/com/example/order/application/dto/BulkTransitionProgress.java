@@ -0,0 +1,34 @@
+package com.example.order.application.dto;
+
+/**
+ * Progress report emitted after each processed chunk of a bulk transition.
+ * {@code lastOrderId} is the keyset position the next chunk resumes from.
+ */
+public record BulkTransitionProgress(
+    long processed,
+    long transitioned,
+    long skipped,
+    String lastOrderId,
+    boolean completed
+) {
+    public static BulkTransitionProgress initial() {
+        return new BulkTransitionProgress(0, 0, 0, null, false);
+    }
+
+    /**
+     * Advance the report by one chunk.
+     */
+    public BulkTransitionProgress advance(int chunkProcessed, int chunkTransitioned, String lastOrderId, boolean completed) {
+        return new BulkTransitionProgress(
+            processed + chunkProcessed,
+            transitioned + chunkTransitioned,
+            skipped + (chunkProcessed - chunkTransitioned),
+            lastOrderId,
+            completed
+        );
+    }
+
+    public BulkTransitionProgress complete() {
+        return new BulkTransitionProgress(processed, transitioned, skipped, lastOrderId, true);
+    }
+}
@@ -0,0 +1,27 @@
+package com.example.order.application.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record CommandStatusResult(
+    String commandId,
+    Status status,
+    String orderId,
+    String error
+) {
+    public enum Status {
+        PENDING, APPLIED, FAILED
+    }
+
+    public static CommandStatusResult pending(String commandId) {
+        return new CommandStatusResult(commandId, Status.PENDING, null, null);
+    }
+
+    public static CommandStatusResult applied(String commandId, String orderId) {
+        return new CommandStatusResult(commandId, Status.APPLIED, orderId, null);
+    }
+
+    public static CommandStatusResult failed(String commandId, String error) {
+        return new CommandStatusResult(commandId, Status.FAILED, null, error);
+    }
+}
@@ -0,0 +1,19 @@
+package com.example.order.application.dto;
+
+import java.time.Instant;
+
+/**
+ * Response recorded for an idempotency key, replayed verbatim for repeated requests.
+ * {@code requestFingerprint} identifies the request (method and path) the key was first used for.
+ */
+public record IdempotentResponse(
+    String requestFingerprint,
+    int status,
+    String contentType,
+    byte[] body,
+    Instant createdAt
+) {
+    public boolean isSuccessful() {
+        return status >= 200 && status < 300;
+    }
+}
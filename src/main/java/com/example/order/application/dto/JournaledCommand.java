@@ -0,0 +1,7 @@
+package com.example.order.application.dto;
+
+public record JournaledCommand(
+    String commandId,
+    long sequence,
+    CreateOrderCommand command
+) {}
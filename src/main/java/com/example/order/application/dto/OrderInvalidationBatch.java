@@ -0,0 +1,13 @@
+package com.example.order.application.dto;
+
+import java.util.Map;
+
+/**
+ * Orders whose cached read models went stale, as broadcast to every instance. {@code versions} maps each order
+ * id to the commit time, in epoch milliseconds, of its latest event in the batch.
+ */
+public record OrderInvalidationBatch(
+    String sourceNode,
+    long publishedAt,
+    Map<String, Long> versions
+) {}
@@ -1,5 +1,6 @@
 package com.example.order.application.dto;
 
+import com.example.common.domain.valueobject.Money;
 import com.example.order.domain.model.OrderStatus;
 
 import java.math.BigDecimal;
@@ -19,6 +20,16 @@ public record OrderListItemResult(
     Instant createdAt,
     Instant updatedAt
 ) {
+    /**
+     * List row whose final amount is stored in {@link Money#toStorageUnits() storage units} of {@code currency};
+     * the list query selects straight into this constructor.
+     */
+    public OrderListItemResult(String orderId, String customerId, OrderStatus status, Long storedFinalAmount,
+                               String currency, int itemCount, Instant createdAt, Instant updatedAt) {
+        this(orderId, customerId, status, Money.ofStorageUnits(storedFinalAmount, currency).getAmount(), currency,
+                itemCount, createdAt, updatedAt);
+    }
+
     /**
      * Get formatted amount with currency.
      */
@@ -0,0 +1,11 @@
+package com.example.order.application.dto;
+
+import java.math.BigDecimal;
+
+public record OrderQuoteResult(
+    BigDecimal totalAmount,
+    BigDecimal discountAmount,
+    BigDecimal finalAmount,
+    String currency,
+    int itemCount
+) {}
@@ -0,0 +1,11 @@
+package com.example.order.application.dto;
+
+import java.time.Instant;
+
+/**
+ * Just enough of a PENDING order to schedule its expiry.
+ */
+public record PendingOrderRef(
+    String orderId,
+    Instant createdAt
+) {}
@@ -0,0 +1,7 @@
+package com.example.order.application.dto;
+
+import java.util.List;
+
+public record QuoteOrderCommand(
+    List<CreateOrderCommand.OrderItemCommand> items
+) {}
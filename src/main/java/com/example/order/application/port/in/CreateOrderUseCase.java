@@ -6,4 +6,10 @@ import reactor.core.publisher.Mono;
 
 public interface CreateOrderUseCase {
     Mono<Order> handle(CreateOrderCommand command);
+
+    /**
+     * Creates the order under {@code orderId}, so a caller that may repeat the command can tell whether it
+     * already took effect.
+     */
+    Mono<Order> handle(String orderId, CreateOrderCommand command);
 }
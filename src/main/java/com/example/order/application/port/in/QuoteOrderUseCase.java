@@ -0,0 +1,9 @@
+package com.example.order.application.port.in;
+
+import com.example.order.application.dto.OrderQuoteResult;
+import com.example.order.application.dto.QuoteOrderCommand;
+import reactor.core.publisher.Mono;
+
+public interface QuoteOrderUseCase {
+    Mono<OrderQuoteResult> handle(QuoteOrderCommand command);
+}
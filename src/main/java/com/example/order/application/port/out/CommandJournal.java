@@ -0,0 +1,34 @@
+package com.example.order.application.port.out;
+
+import com.example.order.application.dto.CreateOrderCommand;
+import com.example.order.application.dto.JournaledCommand;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Durable, ordered log of accepted commands that have not been applied yet.
+ * Delivery is at-least-once: a command applied just before a crash, but not yet
+ * acknowledged, is handed out again after restart.
+ */
+public interface CommandJournal {
+
+    /**
+     * Durably appends the command. Completes empty when the journal has no room left.
+     */
+    Mono<JournaledCommand> append(CreateOrderCommand command);
+
+    /**
+     * Returns up to {@code maxCommands} commands following the last one handed out.
+     */
+    Flux<JournaledCommand> poll(int maxCommands);
+
+    /**
+     * Marks every command up to and including {@code sequence} as applied.
+     */
+    Mono<Void> acknowledge(long sequence);
+
+    /**
+     * Hands out unacknowledged commands again on the next {@link #poll(int)}.
+     */
+    void rewind();
+}
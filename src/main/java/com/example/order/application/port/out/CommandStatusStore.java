@@ -0,0 +1,16 @@
+package com.example.order.application.port.out;
+
+import com.example.order.application.dto.CommandStatusResult;
+import reactor.core.publisher.Mono;
+
+/**
+ * Durable outcomes of journaled commands, so their status outlives the instance that applied them.
+ */
+public interface CommandStatusStore {
+    Mono<CommandStatusResult> find(String commandId);
+
+    /**
+     * Records the outcome of a command, replacing any outcome recorded for it before.
+     */
+    Mono<Void> save(CommandStatusResult status);
+}
@@ -0,0 +1,9 @@
+package com.example.order.application.port.out;
+
+import com.example.order.application.dto.IdempotentResponse;
+import reactor.core.publisher.Mono;
+
+public interface IdempotencyStore {
+    Mono<IdempotentResponse> find(String idempotencyKey);
+    Mono<Void> save(String idempotencyKey, IdempotentResponse response);
+}
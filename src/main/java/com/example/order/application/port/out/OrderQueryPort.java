@@ -3,22 +3,80 @@ package com.example.order.application.port.out;
 import com.example.order.application.dto.CustomerOrderStatsResult;
 import com.example.order.application.dto.OrderListItemResult;
 import com.example.order.application.dto.OrderSummaryResult;
+import com.example.order.application.dto.PendingOrderRef;
 import com.example.order.domain.model.Order;
 import com.example.order.domain.model.OrderStatus;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.time.Instant;
+import java.util.Collection;
+
 public interface OrderQueryPort {
     Mono<Order> findById(String orderId);
     Flux<Order> findByCustomerId(String customerId);
     Flux<Order> findByStatus(OrderStatus status);
     Flux<Order> findAll(int page, int size);
+
+    /**
+     * Number of live orders, and of live orders in one status. Served from maintained counters rather than by
+     * counting rows, so they stay cheap however many orders there are.
+     */
     Mono<Long> count();
+    Mono<Long> countByStatus(OrderStatus status);
     
     Mono<OrderSummaryResult> findOrderSummary(String orderId);
+
+    /**
+     * Same as {@link #findOrderSummary} but read from the primary, never from a replica that may not have caught
+     * up with the latest write; for results kept beyond the request that read them.
+     */
+    Mono<OrderSummaryResult> findCurrentOrderSummary(String orderId);
     Flux<OrderListItemResult> findOrderList(int page, int size);
     Mono<CustomerOrderStatsResult> findCustomerStats(String customerId);
 
+    /*
+     * History variants: with includeHistory, orders moved to cold storage by archival are read as well.
+     * Without it they behave exactly like the methods above.
+     */
+    default Mono<Order> findById(String orderId, boolean includeHistory) { return findById(orderId); }
+    default Flux<Order> findByCustomerId(String customerId, boolean includeHistory) { return findByCustomerId(customerId); }
+    default Flux<Order> findByStatus(OrderStatus status, boolean includeHistory) { return findByStatus(status); }
+    default Flux<Order> findAll(int page, int size, boolean includeHistory) { return findAll(page, size); }
+    default Mono<Long> count(boolean includeHistory) { return count(); }
+    default Flux<OrderListItemResult> findOrderList(int page, int size, boolean includeHistory) { return findOrderList(page, size); }
+
+    /**
+     * Keyset-ordered page of the order listing, newest first by (createdAt, id), starting strictly before the
+     * given position (or from the newest order when {@code beforeCreatedAt} is null). Unlike
+     * {@link #findOrderList(int, int)} its cost does not grow with how deep the page is.
+     */
+    Flux<OrderListItemResult> findOrderListBefore(Instant beforeCreatedAt, String beforeId, int limit);
+
+    default Flux<OrderListItemResult> findOrderListBefore(Instant beforeCreatedAt, String beforeId, int limit,
+                                                          boolean includeHistory) {
+        return findOrderListBefore(beforeCreatedAt, beforeId, limit);
+    }
+
+    /**
+     * Keyset-ordered chunk of orders in the given status, optionally restricted to one customer.
+     * Orders are returned by ascending id, starting strictly after {@code afterId} (or from the beginning when null).
+     * They are read from the primary, since they are loaded to be transitioned and written back.
+     */
+    Flux<Order> findByFilterAfter(String customerId, OrderStatus status, String afterId, int limit);
+
+    /**
+     * Keyset-ordered chunk of PENDING order ids by ascending (createdAt, id), starting strictly after the given
+     * position (or from the beginning when {@code afterCreatedAt} is null), without loading the orders.
+     */
+    Flux<PendingOrderRef> findPendingAfter(Instant afterCreatedAt, String afterId, int limit);
+
+    /**
+     * The orders among {@code orderIds} that are still PENDING, in one query; ids of orders that moved on or no
+     * longer exist are left out. Read from the primary, since they are loaded to be transitioned and written back.
+     */
+    Flux<Order> findPendingByIds(Collection<String> orderIds);
+
     // Keep the new method names if preferred, but align with service expectations
     default Mono<OrderSummaryResult> findOrderSummaryById(String orderId) { return findOrderSummary(orderId); }
     default Flux<OrderSummaryResult> findOrdersByCustomerId(String customerId) { return Flux.empty(); }
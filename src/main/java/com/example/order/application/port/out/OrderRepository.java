@@ -3,8 +3,19 @@ package com.example.order.application.port.out;
 import com.example.order.domain.model.Order;
 import reactor.core.publisher.Mono;
 
+import java.util.List;
+
 public interface OrderRepository {
     Mono<Order> save(Order order);
+
+    /**
+     * Persist the status transitions of already stored orders together with their pending
+     * domain events, using one batched statement per (from, to) status pair. An order whose stored
+     * status is no longer the one it was loaded with has been changed concurrently; its transition
+     * and events are dropped. Emits the orders whose transitions were written.
+     */
+    Mono<List<Order>> saveAllStatusChanges(List<Order> orders);
+
     Mono<Order> findById(String orderId);
     Mono<Void> deleteById(String orderId);
 }
@@ -1,7 +1,6 @@
 package com.example.order.application.service;
 
 import com.example.order.application.dto.ApplyDiscountCommand;
-import com.example.order.application.port.out.OrderQueryPort;
 import com.example.order.domain.model.Order;
 import com.example.order.application.port.out.OrderRepository;
 import org.springframework.stereotype.Service;
@@ -11,15 +10,13 @@ import reactor.core.publisher.Mono;
 public class ApplyDiscountHandler {
 
     private final OrderRepository orderRepository;
-    private final OrderQueryPort queryPort;
 
-    public ApplyDiscountHandler(OrderRepository orderRepository, OrderQueryPort queryPort) {
+    public ApplyDiscountHandler(OrderRepository orderRepository) {
         this.orderRepository = orderRepository;
-        this.queryPort = queryPort;
     }
 
     public Mono<Order> handle(ApplyDiscountCommand command) {
-        return queryPort.findById(command.orderId())
+        return orderRepository.findById(command.orderId())
                 .switchIfEmpty(Mono.error(new IllegalArgumentException("Order not found: " + command.orderId())))
                 .flatMap(order -> {
                     order.applyDiscount(command.discountPercentage());
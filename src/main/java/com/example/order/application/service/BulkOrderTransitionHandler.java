@@ -0,0 +1,90 @@
+package com.example.order.application.service;
+
+import com.example.order.application.dto.BulkTransitionCommand;
+import com.example.order.application.dto.BulkTransitionProgress;
+import com.example.order.application.port.out.OrderQueryPort;
+import com.example.order.application.port.out.OrderRepository;
+import com.example.order.domain.exception.BusinessException;
+import com.example.order.domain.model.Order;
+import com.example.order.domain.model.OrderStatus;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Confirms or cancels every order matching a filter.
+ * Orders are read in keyset-ordered chunks, so only one chunk is held in memory at a time,
+ * and each chunk is written back with batched statements. A progress report is emitted per chunk.
+ */
+@Service
+public class BulkOrderTransitionHandler {
+
+    private static final int DEFAULT_CHUNK_SIZE = 500;
+    private static final int MAX_CHUNK_SIZE = 5000;
+    private static final String DEFAULT_CANCEL_REASON = "Bulk cancellation";
+
+    private final OrderRepository orderRepository;
+    private final OrderQueryPort queryPort;
+
+    public BulkOrderTransitionHandler(OrderRepository orderRepository, OrderQueryPort queryPort) {
+        this.orderRepository = orderRepository;
+        this.queryPort = queryPort;
+    }
+
+    public Flux<BulkTransitionProgress> handle(BulkTransitionCommand command) {
+        if (command.action() == null) {
+            return Flux.error(new IllegalArgumentException("Bulk action is required"));
+        }
+        int chunkSize = command.chunkSize() > 0 ? Math.min(command.chunkSize(), MAX_CHUNK_SIZE) : DEFAULT_CHUNK_SIZE;
+        OrderStatus status = command.status() != null ? command.status() : OrderStatus.PENDING;
+
+        return processChunk(command, status, null, chunkSize, BulkTransitionProgress.initial())
+                .expand(progress -> progress.completed()
+                        ? Mono.empty()
+                        : processChunk(command, status, progress.lastOrderId(), chunkSize, progress));
+    }
+
+    private Mono<BulkTransitionProgress> processChunk(BulkTransitionCommand command, OrderStatus status,
+                                                      String afterId, int chunkSize,
+                                                      BulkTransitionProgress progress) {
+        return queryPort.findByFilterAfter(command.customerId(), status, afterId, chunkSize)
+                .collectList()
+                .flatMap(chunk -> {
+                    if (chunk.isEmpty()) {
+                        return Mono.just(progress.complete());
+                    }
+
+                    List<Order> transitioned = new ArrayList<>(chunk.size());
+                    for (Order order : chunk) {
+                        if (apply(command, order)) {
+                            transitioned.add(order);
+                        }
+                    }
+
+                    String lastOrderId = chunk.get(chunk.size() - 1).getId();
+                    boolean completed = chunk.size() < chunkSize;
+                    if (transitioned.isEmpty()) {
+                        return Mono.just(progress.advance(chunk.size(), 0, lastOrderId, completed));
+                    }
+                    // Orders changed concurrently since they were read are not written and count as skipped
+                    return orderRepository.saveAllStatusChanges(transitioned)
+                            .map(saved -> progress.advance(chunk.size(), saved.size(), lastOrderId, completed));
+                });
+    }
+
+    private boolean apply(BulkTransitionCommand command, Order order) {
+        try {
+            switch (command.action()) {
+                case CONFIRM -> order.confirm();
+                case CANCEL -> order.cancel(command.reason() != null ? command.reason() : DEFAULT_CANCEL_REASON);
+            }
+            return true;
+        } catch (BusinessException e) {
+            // Orders that no longer allow the transition are skipped and reported
+            return false;
+        }
+    }
+}
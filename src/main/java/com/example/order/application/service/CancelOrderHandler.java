@@ -1,7 +1,6 @@
 package com.example.order.application.service;
 
 import com.example.order.application.dto.CancelOrderCommand;
-import com.example.order.application.port.out.OrderQueryPort;
 import com.example.order.domain.model.Order;
 import com.example.order.application.port.out.OrderRepository;
 import org.springframework.stereotype.Service;
@@ -11,15 +10,13 @@ import reactor.core.publisher.Mono;
 public class CancelOrderHandler {
 
     private final OrderRepository orderRepository;
-    private final OrderQueryPort queryPort;
 
-    public CancelOrderHandler(OrderRepository orderRepository, OrderQueryPort queryPort) {
+    public CancelOrderHandler(OrderRepository orderRepository) {
         this.orderRepository = orderRepository;
-        this.queryPort = queryPort;
     }
 
     public Mono<Order> handle(CancelOrderCommand command) {
-        return queryPort.findById(command.orderId())
+        return orderRepository.findById(command.orderId())
                 .switchIfEmpty(Mono.error(new IllegalArgumentException("Order not found: " + command.orderId())))
                 .flatMap(order -> {
                     order.cancel(command.reason());
@@ -2,9 +2,11 @@ package com.example.order.application.service;
 
 import com.example.order.application.port.in.CreateOrderUseCase;
 import com.example.order.application.dto.CreateOrderCommand;
+import com.example.order.domain.discount.DiscountPolicy;
 import com.example.order.domain.model.Order;
 import com.example.order.domain.model.OrderItem;
 import com.example.order.application.port.out.OrderRepository;
+import com.example.common.domain.model.TimeOrderedIdGenerator;
 import com.example.common.domain.valueobject.Email;
 import com.example.common.domain.valueobject.Money;
 import org.springframework.stereotype.Service;
@@ -18,13 +20,20 @@ import java.util.stream.Collectors;
 public class CreateOrderHandler implements CreateOrderUseCase {
 
     private final OrderRepository orderRepository;
+    private final DiscountPolicy discountPolicy;
 
-    public CreateOrderHandler(OrderRepository orderRepository) {
+    public CreateOrderHandler(OrderRepository orderRepository, DiscountPolicy discountPolicy) {
         this.orderRepository = orderRepository;
+        this.discountPolicy = discountPolicy;
     }
 
     @Override
     public Mono<Order> handle(CreateOrderCommand command) {
+        return handle(TimeOrderedIdGenerator.nextId(), command);
+    }
+
+    @Override
+    public Mono<Order> handle(String orderId, CreateOrderCommand command) {
         List<OrderItem> items = command.items().stream()
                 .map(item -> OrderItem.of(
                         item.productId(),
@@ -35,9 +44,11 @@ public class CreateOrderHandler implements CreateOrderUseCase {
                 .collect(Collectors.toList());
 
         Order order = Order.create(
+                orderId,
                 command.customerId(),
                 Email.of(command.customerEmail()),
-                items
+                items,
+                discountPolicy
         );
 
         // Repository now handles domain events automatically!
@@ -0,0 +1,133 @@
+package com.example.order.application.service;
+
+import com.example.order.application.dto.CommandStatusResult;
+import com.example.order.application.dto.CreateOrderCommand;
+import com.example.order.application.dto.JournaledCommand;
+import com.example.order.application.port.in.CreateOrderUseCase;
+import com.example.order.application.port.out.CommandJournal;
+import com.example.order.application.port.out.CommandStatusStore;
+import com.example.order.application.port.out.OrderRepository;
+import com.example.order.domain.exception.BusinessException;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Accepts order creation asynchronously.
+ * Commands are appended to the {@link CommandJournal} and acknowledged to the caller straight away;
+ * a scheduled drain applies them through {@link CreateOrderUseCase} in journal order. Commands that
+ * can never succeed (validation or business rule failures) are recorded as failed and acknowledged,
+ * while infrastructure failures leave them in the journal for the next drain.
+ * <p>
+ * Each command creates its order under the command id, so a command replayed after a crash finds the order
+ * it already created instead of creating another. Outcomes go to the {@link CommandStatusStore} before the
+ * command is acknowledged; pending statuses are only held in memory and restored for replayed commands as
+ * the drain picks them up again.
+ */
+@Service
+@ConditionalOnProperty(name = "order.journal.enabled", havingValue = "true")
+public class JournaledOrderCommandService {
+
+    private static final Logger log = LoggerFactory.getLogger(JournaledOrderCommandService.class);
+
+    private final CommandJournal commandJournal;
+    private final CommandStatusStore commandStatusStore;
+    private final CreateOrderUseCase createOrderUseCase;
+    private final OrderRepository orderRepository;
+    private final int batchSize;
+    private final Cache<String, CommandStatusResult> statuses;
+    private final AtomicBoolean draining = new AtomicBoolean();
+
+    public JournaledOrderCommandService(CommandJournal commandJournal,
+                                        CommandStatusStore commandStatusStore,
+                                        CreateOrderUseCase createOrderUseCase,
+                                        OrderRepository orderRepository,
+                                        @Value("${order.journal.batch-size:100}") int batchSize,
+                                        @Value("${order.journal.status-cache-size:100000}") long statusCacheSize,
+                                        @Value("${order.journal.status-retention:PT1H}") Duration statusRetention) {
+        this.commandJournal = commandJournal;
+        this.commandStatusStore = commandStatusStore;
+        this.createOrderUseCase = createOrderUseCase;
+        this.orderRepository = orderRepository;
+        this.batchSize = batchSize;
+        this.statuses = Caffeine.newBuilder()
+                .maximumSize(statusCacheSize)
+                .expireAfterWrite(statusRetention)
+                .build();
+    }
+
+    /**
+     * Journals the command. Completes empty when the journal is full and the caller should apply it directly.
+     */
+    public Mono<CommandStatusResult> submit(CreateOrderCommand command) {
+        return commandJournal.append(command)
+                .map(journaled -> {
+                    CommandStatusResult pending = CommandStatusResult.pending(journaled.commandId());
+                    statuses.asMap().putIfAbsent(journaled.commandId(), pending);
+                    return pending;
+                });
+    }
+
+    public Mono<CommandStatusResult> status(String commandId) {
+        CommandStatusResult cached = statuses.getIfPresent(commandId);
+        if (cached != null) {
+            return Mono.just(cached);
+        }
+        return commandStatusStore.find(commandId)
+                .doOnNext(status -> statuses.put(commandId, status));
+    }
+
+    @Scheduled(fixedDelayString = "${order.journal.drain-interval-ms:50}")
+    public void drain() {
+        if (!draining.compareAndSet(false, true)) {
+            return;
+        }
+        drainBatch()
+                .doFinally(signal -> draining.set(false))
+                .subscribe(
+                    applied -> {
+                        if (applied > 0) {
+                            log.debug("Applied {} journaled order commands", applied);
+                        }
+                    },
+                    error -> log.error("Failed to drain command journal", error)
+                );
+    }
+
+    Mono<Long> drainBatch() {
+        return commandJournal.poll(batchSize)
+                // Replayed after a restart, a command is pending again until applied
+                .doOnNext(journaled -> statuses.asMap().putIfAbsent(journaled.commandId(),
+                        CommandStatusResult.pending(journaled.commandId())))
+                .concatMap(this::apply)
+                .count()
+                .onErrorResume(error -> {
+                    log.warn("Journaled order command failed, retrying on next drain: {}", error.getMessage());
+                    commandJournal.rewind();
+                    return Mono.just(0L);
+                });
+    }
+
+    private Mono<JournaledCommand> apply(JournaledCommand journaled) {
+        String commandId = journaled.commandId();
+        return orderRepository.findById(commandId)
+                .switchIfEmpty(Mono.defer(() -> createOrderUseCase.handle(commandId, journaled.command())))
+                .map(order -> CommandStatusResult.applied(commandId, order.getId()))
+                .onErrorResume(error -> error instanceof BusinessException || error instanceof IllegalArgumentException,
+                        error -> Mono.just(CommandStatusResult.failed(commandId, error.getMessage())))
+                .flatMap(outcome -> commandStatusStore.save(outcome)
+                        .doOnSuccess(saved -> statuses.put(commandId, outcome)))
+                // Acknowledged one by one so a crash replays at most the command in flight
+                .then(Mono.defer(() -> commandJournal.acknowledge(journaled.sequence())))
+                .thenReturn(journaled);
+    }
+}
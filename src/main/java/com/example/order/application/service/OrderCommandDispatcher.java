@@ -0,0 +1,118 @@
+package com.example.order.application.service;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoSink;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Serializes commands per aggregate.
+ * Each command is routed by the hash of its aggregate id onto one of a fixed set of lanes.
+ * A lane runs its commands one at a time (including their asynchronous completion), while
+ * different lanes run in parallel. Lanes are lock-free: a queue plus a work-in-progress counter.
+ */
+@Component
+public class OrderCommandDispatcher {
+
+    private final Lane[] lanes;
+    private final Scheduler scheduler;
+    private final Timer waitTimer;
+
+    public OrderCommandDispatcher(MeterRegistry meterRegistry,
+                                  @Value("${order.command.lanes:0}") int laneCount) {
+        int count = laneCount > 0 ? laneCount : Runtime.getRuntime().availableProcessors() * 4;
+        this.scheduler = Schedulers.parallel();
+        this.waitTimer = Timer.builder("order.command.lane.wait")
+                .description("Time a command waits in its lane before it starts")
+                .register(meterRegistry);
+        this.lanes = new Lane[count];
+        for (int i = 0; i < count; i++) {
+            Lane lane = new Lane();
+            lanes[i] = lane;
+            Gauge.builder("order.command.lane.depth", lane, Lane::depth)
+                    .description("Commands queued or running in the lane")
+                    .tag("lane", String.valueOf(i))
+                    .register(meterRegistry);
+        }
+    }
+
+    /**
+     * Run {@code command} after every previously dispatched command for the same aggregate has completed.
+     */
+    public <T> Mono<T> dispatch(String aggregateId, Supplier<Mono<T>> command) {
+        Lane lane = lanes[Math.floorMod(aggregateId.hashCode(), lanes.length)];
+        return Mono.create(sink -> lane.submit(new Task<>(command, sink, System.nanoTime())));
+    }
+
+    private final class Lane {
+        private final Queue<Task<?>> queue = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger wip = new AtomicInteger();
+
+        void submit(Task<?> task) {
+            queue.offer(task);
+            if (wip.getAndIncrement() == 0) {
+                scheduler.schedule(this::runNext);
+            }
+        }
+
+        void runNext() {
+            Task<?> task = queue.poll();
+            waitTimer.record(System.nanoTime() - task.enqueuedAt, TimeUnit.NANOSECONDS);
+            task.run(this::onTaskDone);
+        }
+
+        void onTaskDone() {
+            if (wip.decrementAndGet() > 0) {
+                // Hop through the scheduler so synchronous completions cannot grow the stack
+                scheduler.schedule(this::runNext);
+            }
+        }
+
+        double depth() {
+            return wip.get();
+        }
+    }
+
+    private static final class Task<T> {
+        private final Supplier<Mono<T>> command;
+        private final MonoSink<T> sink;
+        private final long enqueuedAt;
+        private final AtomicBoolean cancelled = new AtomicBoolean();
+
+        Task(Supplier<Mono<T>> command, MonoSink<T> sink, long enqueuedAt) {
+            this.command = command;
+            this.sink = sink;
+            this.enqueuedAt = enqueuedAt;
+            sink.onCancel(() -> cancelled.set(true));
+        }
+
+        void run(Runnable onDone) {
+            if (cancelled.get()) {
+                onDone.run();
+                return;
+            }
+            Mono<T> result;
+            try {
+                result = command.get();
+            } catch (RuntimeException e) {
+                sink.error(e);
+                onDone.run();
+                return;
+            }
+            result.doFinally(signal -> onDone.run())
+                    .subscribe(sink::success, sink::error, sink::success);
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package com.example.order.application.service;
+
+import com.example.common.domain.model.HierarchicalTimingWheel;
+import com.example.order.application.dto.PendingOrderRef;
+import com.example.order.application.port.out.OrderQueryPort;
+import com.example.order.application.port.out.OrderRepository;
+import com.example.order.domain.event.OrderCreatedEvent;
+import com.example.order.domain.model.Order;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Cancels orders that are still PENDING {@code order.expiry.ttl} after creation.
+ * <p>
+ * Deadlines live in a {@link HierarchicalTimingWheel} keyed only by order id: at startup it is filled from a
+ * keyset scan over pending orders' creation times, afterwards from committed {@link OrderCreatedEvent}s. Timers
+ * are not removed when an order moves on; instead each batch of due ids is reloaded with one query that keeps
+ * only the orders still PENDING, which are cancelled and written with {@link OrderRepository#saveAllStatusChanges}.
+ * That write leaves alone any order confirmed or paid between the reload and the write.
+ */
+@Service
+@ConditionalOnProperty(name = "order.expiry.enabled", havingValue = "true")
+public class OrderExpiryScheduler {
+
+    private static final Logger log = LoggerFactory.getLogger(OrderExpiryScheduler.class);
+    private static final String EXPIRY_REASON = "Expired: not confirmed in time";
+    private static final int WHEEL_SIZE = 512;
+    private static final int WHEEL_LEVELS = 4;
+
+    private final OrderQueryPort queryPort;
+    private final OrderRepository orderRepository;
+    private final Duration ttl;
+    private final int batchSize;
+    private final int loadChunkSize;
+    private final Duration retryDelay;
+    private final HierarchicalTimingWheel<String> wheel;
+    private final AtomicBoolean expiring = new AtomicBoolean();
+
+    public OrderExpiryScheduler(OrderQueryPort queryPort,
+                                OrderRepository orderRepository,
+                                @Value("${order.expiry.ttl:PT30M}") Duration ttl,
+                                @Value("${order.expiry.tick-ms:1000}") long tickMillis,
+                                @Value("${order.expiry.batch-size:100}") int batchSize,
+                                @Value("${order.expiry.load-chunk-size:10000}") int loadChunkSize,
+                                @Value("${order.expiry.retry-delay:PT1M}") Duration retryDelay) {
+        this.queryPort = queryPort;
+        this.orderRepository = orderRepository;
+        this.ttl = ttl;
+        this.batchSize = batchSize;
+        this.loadChunkSize = loadChunkSize;
+        this.retryDelay = retryDelay;
+        this.wheel = new HierarchicalTimingWheel<>(Duration.ofMillis(tickMillis), WHEEL_SIZE, WHEEL_LEVELS,
+                System.currentTimeMillis());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadPendingOrders() {
+        loadPending()
+                .subscribe(
+                    loaded -> log.info("Scheduled expiry for {} pending orders", loaded),
+                    error -> log.error("Failed to load pending orders for expiry", error)
+                );
+    }
+
+    @EventListener
+    public void onOrderCreated(OrderCreatedEvent event) {
+        wheel.schedule(event.orderId(), event.occurredAt().plus(ttl).toEpochMilli());
+    }
+
+    @Scheduled(fixedDelayString = "${order.expiry.tick-ms:1000}")
+    public void expireDueOrders() {
+        if (!expiring.compareAndSet(false, true)) {
+            return;
+        }
+        List<String> due = new ArrayList<>();
+        wheel.advance(System.currentTimeMillis(), due::add);
+        expire(due)
+                .doFinally(signal -> expiring.set(false))
+                .subscribe(
+                    cancelled -> {
+                        if (cancelled > 0) {
+                            log.info("Cancelled {} expired pending orders", cancelled);
+                        }
+                    },
+                    error -> log.error("Failed to expire pending orders", error)
+                );
+    }
+
+    public long scheduledCount() {
+        return wheel.size();
+    }
+
+    Mono<Long> loadPending() {
+        return queryPort.findPendingAfter(null, null, loadChunkSize)
+                .collectList()
+                .expand(chunk -> {
+                    if (chunk.size() < loadChunkSize) {
+                        return Mono.empty();
+                    }
+                    PendingOrderRef last = chunk.get(chunk.size() - 1);
+                    return queryPort.findPendingAfter(last.createdAt(), last.orderId(), loadChunkSize).collectList();
+                })
+                .map(chunk -> {
+                    chunk.forEach(ref -> wheel.schedule(ref.orderId(), ref.createdAt().plus(ttl).toEpochMilli()));
+                    return (long) chunk.size();
+                })
+                .reduce(0L, Long::sum);
+    }
+
+    Mono<Long> expire(List<String> orderIds) {
+        return Flux.fromIterable(orderIds)
+                .buffer(batchSize)
+                .concatMap(this::expireBatch)
+                .reduce(0L, Long::sum);
+    }
+
+    private Mono<Long> expireBatch(List<String> orderIds) {
+        return queryPort.findPendingByIds(orderIds)
+                .doOnNext(order -> order.cancel(EXPIRY_REASON))
+                .collectList()
+                .flatMap(orders -> orderRepository.saveAllStatusChanges(orders))
+                .map(saved -> (long) saved.size())
+                .onErrorResume(error -> {
+                    // Keep the timers: the whole batch is tried again after the retry delay
+                    log.warn("Expiry batch of {} orders failed, retrying in {}: {}", orderIds.size(), retryDelay,
+                            error.getMessage());
+                    long retryAt = System.currentTimeMillis() + retryDelay.toMillis();
+                    orderIds.forEach(orderId -> wheel.schedule(orderId, retryAt));
+                    return Mono.just(0L);
+                });
+    }
+}
@@ -45,6 +45,11 @@ public interface OrderQueryHandler {
      */
     Mono<Long> count();
     
+    /**
+     * Count orders in one status.
+     */
+    Mono<Long> countByStatus(OrderStatus status);
+    
     /**
      * Find order list for list views.
      */
@@ -14,7 +14,8 @@ import reactor.core.publisher.Mono;
 
 /**
  * Query service implementation that delegates to repository.
- * Part of CQRS read model.
+ * Part of CQRS read model: customer statistics come from projection tables kept current from order events,
+ * so they trail writes by the projector's poll interval; other queries read the order tables directly.
  */
 @Service
 public class OrderQueryService implements OrderQueryHandler {
@@ -55,6 +56,11 @@ public class OrderQueryService implements OrderQueryHandler {
         return queryPort.count();
     }
     
+    @Override
+    public Mono<Long> countByStatus(OrderStatus status) {
+        return queryPort.countByStatus(status);
+    }
+    
     @Override
     public Flux<OrderListItemResult> findOrderList(int page, int size) {
         return queryPort.findOrderList(page, size);
@@ -0,0 +1,120 @@
+package com.example.order.application.service;
+
+import com.example.common.domain.valueobject.Money;
+import com.example.order.application.dto.OrderQuoteResult;
+import com.example.order.application.dto.QuoteOrderCommand;
+import com.example.order.application.port.in.QuoteOrderUseCase;
+import com.example.order.domain.discount.DiscountPolicy;
+import com.example.order.domain.exception.BusinessException;
+import com.example.order.domain.model.Order;
+import com.example.order.domain.model.OrderItem;
+import com.example.order.domain.model.OrderQuote;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Prices a cart without creating an order. Quotes are memoized by a hash of the normalized cart (lines sorted,
+ * same product and price folded together, product names ignored) together with the discount rule version,
+ * so reordered or split carts share an entry and a rule change never serves a stale price.
+ */
+@Service
+public class OrderQuoteHandler implements QuoteOrderUseCase {
+
+    private static final Comparator<OrderItem> CART_ORDER = Comparator
+            .comparing(OrderItem::getProductId, Comparator.nullsFirst(Comparator.<String>naturalOrder()))
+            .thenComparing(item -> item.getUnitPrice().getCurrency())
+            .thenComparing(item -> item.getUnitPrice().getAmount());
+
+    private final DiscountPolicy discountPolicy;
+    private final Cache<String, OrderQuoteResult> quotes;
+
+    public OrderQuoteHandler(DiscountPolicy discountPolicy,
+                             @Value("${order.quote.cache-size:100000}") long cacheSize,
+                             @Value("${order.quote.cache-ttl:PT10M}") Duration cacheTtl) {
+        this.discountPolicy = discountPolicy;
+        this.quotes = Caffeine.newBuilder()
+                .maximumSize(cacheSize)
+                .expireAfterWrite(cacheTtl)
+                .build();
+    }
+
+    @Override
+    public Mono<OrderQuoteResult> handle(QuoteOrderCommand command) {
+        return Mono.fromCallable(() -> quote(command));
+    }
+
+    OrderQuoteResult quote(QuoteOrderCommand command) {
+        if (command.items() == null || command.items().isEmpty()) {
+            throw new BusinessException("ORDER_001", "Order must contain at least one item");
+        }
+        List<OrderItem> items = command.items().stream()
+                .map(item -> OrderItem.of(
+                        item.productId(),
+                        item.productName(),
+                        item.quantity(),
+                        Money.of(item.unitPrice(), item.currency())
+                ))
+                .sorted(CART_ORDER)
+                .toList();
+        // Rules are read once: a swap between hashing and pricing only costs a cache miss on the next call
+        long rulesVersion = discountPolicy.version();
+        return quotes.get(cacheKey(items, rulesVersion), key -> toResult(Order.quote(items, discountPolicy)));
+    }
+
+    private static String cacheKey(List<OrderItem> sortedItems, long rulesVersion) {
+        StringBuilder cart = new StringBuilder(sortedItems.size() * 32).append(rulesVersion);
+        OrderItem previous = null;
+        long quantity = 0;
+        for (OrderItem item : sortedItems) {
+            if (previous != null && !sameLine(previous, item)) {
+                appendLine(cart, previous, quantity);
+                quantity = 0;
+            }
+            previous = item;
+            quantity += item.getQuantity();
+        }
+        appendLine(cart, previous, quantity);
+        return HexFormat.of().formatHex(sha256().digest(cart.toString().getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private static boolean sameLine(OrderItem a, OrderItem b) {
+        return Objects.equals(a.getProductId(), b.getProductId()) && a.getUnitPrice().equals(b.getUnitPrice());
+    }
+
+    private static void appendLine(StringBuilder cart, OrderItem item, long quantity) {
+        cart.append('\n').append(item.getProductId())
+            .append('\u0000').append(item.getUnitPrice().getAmount().stripTrailingZeros().toPlainString())
+            .append(' ').append(item.getUnitPrice().getCurrency())
+            .append(" x").append(quantity);
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is required on every JVM", e);
+        }
+    }
+
+    private static OrderQuoteResult toResult(OrderQuote quote) {
+        return new OrderQuoteResult(
+                quote.totalAmount().getAmount(),
+                quote.discountAmount() != null ? quote.discountAmount().getAmount() : null,
+                quote.finalAmount().getAmount(),
+                quote.totalAmount().getCurrency(),
+                quote.itemCount()
+        );
+    }
+}
@@ -0,0 +1,70 @@
+package com.example.order.application.service;
+
+import com.example.common.domain.event.DomainEvent;
+import com.example.order.application.dto.OrderSummaryResult;
+import com.example.order.application.port.out.OrderQueryPort;
+import com.github.benmanes.caffeine.cache.AsyncLoadingCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Collection;
+
+/**
+ * Read-through cache of {@link OrderQueryPort#findCurrentOrderSummary}. A summary only changes when its order
+ * raises a domain event, so entries are invalidated as soon as the persistence adapters publish that order's
+ * committed events; the TTL only bounds entries whose order changed by other means, such as archival.
+ * <p>
+ * Concurrent misses for one order share a single load. A load that was in flight when the order changed is
+ * dropped by the invalidation rather than cached. Loads read the primary: right after an invalidation a
+ * replica may still hold the pre-write summary, and caching it would serve it for a full TTL. The cache is
+ * bounded by weight, one unit per summary plus one per line, and reports hits, misses, loads and evictions
+ * as {@code cache.*} metrics named {@code order.summary}.
+ */
+@Component
+public class OrderSummaryCache {
+
+    private final AsyncLoadingCache<String, OrderSummaryResult> summaries;
+
+    public OrderSummaryCache(OrderQueryPort queryPort,
+                             MeterRegistry meterRegistry,
+                             @Value("${order.summary.cache-weight:200000}") long maximumWeight,
+                             @Value("${order.summary.cache-ttl:PT10M}") Duration ttl) {
+        this.summaries = Caffeine.newBuilder()
+                .maximumWeight(maximumWeight)
+                .<String, OrderSummaryResult>weigher((orderId, summary) -> 1 + summary.items().size())
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .buildAsync((orderId, executor) -> queryPort.findCurrentOrderSummary(orderId).toFuture());
+        CaffeineCacheMetrics.monitor(meterRegistry, summaries, "order.summary");
+    }
+
+    /**
+     * The summary of {@code orderId}, or empty when there is no such order. Misses are not cached.
+     */
+    public Mono<OrderSummaryResult> get(String orderId) {
+        // Cancelling one caller must not cancel the load other callers are waiting on
+        return Mono.fromFuture(() -> summaries.get(orderId), true);
+    }
+
+    @EventListener
+    public void onCommitted(DomainEvent event) {
+        summaries.synchronous().invalidate(event.aggregateId());
+    }
+
+    /**
+     * Drops the summaries of orders changed on another instance.
+     */
+    public void invalidateAll(Collection<String> orderIds) {
+        summaries.synchronous().invalidateAll(orderIds);
+    }
+
+    long estimatedSize() {
+        return summaries.synchronous().estimatedSize();
+    }
+}
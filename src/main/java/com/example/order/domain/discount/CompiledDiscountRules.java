@@ -0,0 +1,120 @@
+package com.example.order.domain.discount;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Immutable decision table built from a rule set. Rules of each criterion are sorted by threshold and their
+ * discounts prefix-summed, so the rules an order meets are always a prefix: evaluation is one binary search
+ * per criterion over primitive arrays, whatever the number of rules.
+ */
+final class CompiledDiscountRules {
+
+    private final long[] totalThresholds;
+    private final int[] totalDiscounts;
+    private final long[] itemThresholds;
+    private final int[] itemDiscounts;
+    private final int maxBasisPoints;
+    private final int ruleCount;
+    private final long version;
+
+    private CompiledDiscountRules(long[] totalThresholds, int[] totalDiscounts, long[] itemThresholds,
+                                  int[] itemDiscounts, int maxBasisPoints, int ruleCount, long version) {
+        this.totalThresholds = totalThresholds;
+        this.totalDiscounts = totalDiscounts;
+        this.itemThresholds = itemThresholds;
+        this.itemDiscounts = itemDiscounts;
+        this.maxBasisPoints = maxBasisPoints;
+        this.ruleCount = ruleCount;
+        this.version = version;
+    }
+
+    static CompiledDiscountRules compile(List<DiscountRule> rules, BigDecimal maxPercent, long version) {
+        long[][] byTotal = table(rules, DiscountRule.Criterion.MIN_TOTAL);
+        long[][] byItems = table(rules, DiscountRule.Criterion.MIN_ITEMS);
+        return new CompiledDiscountRules(byTotal[0], prefixSums(byTotal[1]), byItems[0], prefixSums(byItems[1]),
+                basisPoints(maxPercent, "maximum discount"), rules.size(), version);
+    }
+
+    int evaluate(long totalHundredths, long itemCount) {
+        int basisPoints = totalDiscounts[countAtOrBelow(totalThresholds, totalHundredths)]
+                + itemDiscounts[countAtOrBelow(itemThresholds, itemCount)];
+        return Math.min(basisPoints, maxBasisPoints);
+    }
+
+    int ruleCount() {
+        return ruleCount;
+    }
+
+    long version() {
+        return version;
+    }
+
+    /**
+     * Returns [thresholds, discounts] for one criterion, sorted by threshold.
+     */
+    private static long[][] table(List<DiscountRule> rules, DiscountRule.Criterion criterion) {
+        long[][] entries = rules.stream()
+                .filter(rule -> rule.criterion() == criterion)
+                .map(rule -> new long[] {threshold(rule), basisPoints(rule.percent(), rule.name())})
+                .sorted((a, b) -> Long.compare(a[0], b[0]))
+                .toArray(long[][]::new);
+        long[] thresholds = new long[entries.length];
+        long[] discounts = new long[entries.length];
+        for (int i = 0; i < entries.length; i++) {
+            thresholds[i] = entries[i][0];
+            discounts[i] = entries[i][1];
+        }
+        return new long[][] {thresholds, discounts};
+    }
+
+    private static int[] prefixSums(long[] discounts) {
+        int[] sums = new int[discounts.length + 1];
+        for (int i = 0; i < discounts.length; i++) {
+            sums[i + 1] = Math.toIntExact(sums[i] + discounts[i]);
+        }
+        return sums;
+    }
+
+    private static long threshold(DiscountRule rule) {
+        try {
+            return rule.criterion() == DiscountRule.Criterion.MIN_TOTAL
+                    ? rule.threshold().movePointRight(2).longValueExact()
+                    : rule.threshold().longValueExact();
+        } catch (ArithmeticException e) {
+            throw new IllegalArgumentException("Rule threshold has too many decimals: " + rule.name());
+        }
+    }
+
+    private static int basisPoints(BigDecimal percent, String what) {
+        try {
+            return percent.movePointRight(2).intValueExact();
+        } catch (ArithmeticException e) {
+            throw new IllegalArgumentException("At most two decimals allowed in percent of " + what);
+        }
+    }
+
+    /**
+     * Number of thresholds that are {@code <= value}, i.e. the index one past the last matching rule.
+     */
+    private static int countAtOrBelow(long[] thresholds, long value) {
+        int low = 0;
+        int high = thresholds.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (thresholds[mid] <= value) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    @Override
+    public String toString() {
+        return "CompiledDiscountRules[totalThresholds=" + Arrays.toString(totalThresholds)
+                + ", itemThresholds=" + Arrays.toString(itemThresholds) + ", maxBasisPoints=" + maxBasisPoints + "]";
+    }
+}
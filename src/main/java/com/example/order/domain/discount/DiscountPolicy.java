@@ -0,0 +1,25 @@
+package com.example.order.domain.discount;
+
+/**
+ * Decides the automatic discount for a new order.
+ */
+public interface DiscountPolicy {
+
+    /**
+     * Grants no automatic discount.
+     */
+    DiscountPolicy NONE = (totalHundredths, itemCount) -> 0;
+
+    /**
+     * Returns the discount in basis points (1/100 of a percent) for an order whose total is
+     * {@code totalHundredths} hundredths of the currency unit and which holds {@code itemCount} units.
+     */
+    int discountBasisPoints(long totalHundredths, int itemCount);
+
+    /**
+     * Changes whenever the rules change, so results derived from an earlier rule set can be told apart.
+     */
+    default long version() {
+        return 0L;
+    }
+}
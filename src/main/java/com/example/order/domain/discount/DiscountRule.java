@@ -0,0 +1,58 @@
+package com.example.order.domain.discount;
+
+import java.math.BigDecimal;
+import java.util.Locale;
+import java.util.Objects;
+
+/**
+ * One automatic discount: orders meeting {@code threshold} for the rule's {@link Criterion} get {@code percent}
+ * off. Every matching rule applies, so discounts add up to the engine's cap.
+ * <p>
+ * The configuration form is {@code name:criterion:threshold:percent}, e.g. {@code vip:min-total:1000.00:10}.
+ */
+public record DiscountRule(String name, Criterion criterion, BigDecimal threshold, BigDecimal percent) {
+
+    public enum Criterion {
+        /** Order total at or above the threshold, in currency units with at most two decimals. */
+        MIN_TOTAL("min-total"),
+        /** Sum of line quantities at or above the threshold, a whole number. */
+        MIN_ITEMS("min-items");
+
+        private final String key;
+
+        Criterion(String key) {
+            this.key = key;
+        }
+
+        static Criterion fromKey(String key) {
+            for (Criterion criterion : values()) {
+                if (criterion.key.equals(key.toLowerCase(Locale.ROOT))) {
+                    return criterion;
+                }
+            }
+            throw new IllegalArgumentException("Unknown discount criterion: " + key);
+        }
+    }
+
+    public DiscountRule {
+        Objects.requireNonNull(name, "Rule name cannot be null");
+        Objects.requireNonNull(criterion, "Rule criterion cannot be null");
+        Objects.requireNonNull(threshold, "Rule threshold cannot be null");
+        Objects.requireNonNull(percent, "Rule percent cannot be null");
+        if (threshold.signum() < 0) {
+            throw new IllegalArgumentException("Rule threshold cannot be negative: " + name);
+        }
+        if (percent.signum() <= 0 || percent.compareTo(BigDecimal.valueOf(100)) > 0) {
+            throw new IllegalArgumentException("Rule percent must be in (0, 100]: " + name);
+        }
+    }
+
+    public static DiscountRule parse(String spec) {
+        String[] parts = spec.trim().split(":");
+        if (parts.length != 4) {
+            throw new IllegalArgumentException("Discount rule must be name:criterion:threshold:percent, got: " + spec);
+        }
+        return new DiscountRule(parts[0], Criterion.fromKey(parts[1]),
+                new BigDecimal(parts[2]), new BigDecimal(parts[3]));
+    }
+}
@@ -0,0 +1,42 @@
+package com.example.order.domain.discount;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * {@link DiscountPolicy} backed by a compiled rule set. Rules are compiled once, off the order path, and
+ * published with a single reference swap, so {@link #replaceRules} never blocks or tears a running
+ * evaluation and evaluation itself neither locks nor allocates.
+ */
+public final class DiscountRuleEngine implements DiscountPolicy {
+
+    private final AtomicLong versions = new AtomicLong();
+    private final AtomicReference<CompiledDiscountRules> rules;
+
+    public DiscountRuleEngine(List<DiscountRule> rules, BigDecimal maxPercent) {
+        this.rules = new AtomicReference<>(CompiledDiscountRules.compile(rules, maxPercent, versions.incrementAndGet()));
+    }
+
+    @Override
+    public int discountBasisPoints(long totalHundredths, int itemCount) {
+        return rules.get().evaluate(totalHundredths, itemCount);
+    }
+
+    /**
+     * Compiles and atomically installs a new rule set. Invalid rules throw and leave the current set in place.
+     */
+    public void replaceRules(List<DiscountRule> newRules, BigDecimal maxPercent) {
+        rules.set(CompiledDiscountRules.compile(newRules, maxPercent, versions.incrementAndGet()));
+    }
+
+    @Override
+    public long version() {
+        return rules.get().version();
+    }
+
+    public int ruleCount() {
+        return rules.get().ruleCount();
+    }
+}
@@ -8,4 +8,9 @@ public record OrderCancelledEvent(
     String orderId,
     String reason,
     Instant occurredAt
-) implements DomainEvent {}
\ No newline at end of file
+) implements DomainEvent {
+    @Override
+    public String aggregateId() {
+        return orderId;
+    }
+}
\ No newline at end of file
@@ -4,10 +4,26 @@ import com.example.common.domain.event.DomainEvent;
 
 import com.example.common.domain.valueobject.Money;
 import java.time.Instant;
+import java.util.List;
 
+/**
+ * Carries the order's lines, so an event-sourced order can be rebuilt from its stream alone. Events recorded
+ * before the lines were added have {@code lines} null.
+ */
 public record OrderCreatedEvent(
     String orderId,
+    String customerId,
     String customerEmail,
     Money totalAmount,
+    int itemCount,
+    List<Line> lines,
     Instant occurredAt
-) implements DomainEvent {}
\ No newline at end of file
+) implements DomainEvent {
+    @Override
+    public String aggregateId() {
+        return orderId;
+    }
+
+    public record Line(String productId, String productName, int quantity, Money unitPrice) {
+    }
+}
@@ -0,0 +1,18 @@
+package com.example.order.domain.event;
+
+import com.example.common.domain.event.DomainEvent;
+
+import java.time.Instant;
+
+/**
+ * Tombstone closing an event-sourced order's stream; the order is no longer found once it is recorded.
+ */
+public record OrderDeletedEvent(
+    String orderId,
+    Instant occurredAt
+) implements DomainEvent {
+    @Override
+    public String aggregateId() {
+        return orderId;
+    }
+}
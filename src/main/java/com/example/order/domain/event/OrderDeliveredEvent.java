@@ -0,0 +1,15 @@
+package com.example.order.domain.event;
+
+import com.example.common.domain.event.DomainEvent;
+
+import java.time.Instant;
+
+public record OrderDeliveredEvent(
+    String orderId,
+    Instant occurredAt
+) implements DomainEvent {
+    @Override
+    public String aggregateId() {
+        return orderId;
+    }
+}
@@ -0,0 +1,17 @@
+package com.example.order.domain.event;
+
+import com.example.common.domain.event.DomainEvent;
+
+import com.example.common.domain.valueobject.Money;
+import java.time.Instant;
+
+public record OrderDiscountAppliedEvent(
+    String orderId,
+    Money discountedAmount,
+    Instant occurredAt
+) implements DomainEvent {
+    @Override
+    public String aggregateId() {
+        return orderId;
+    }
+}
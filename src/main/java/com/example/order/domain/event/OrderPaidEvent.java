@@ -7,4 +7,9 @@ import java.time.Instant;
 public record OrderPaidEvent(
     String orderId,
     Instant occurredAt
-) implements DomainEvent {}
\ No newline at end of file
+) implements DomainEvent {
+    @Override
+    public String aggregateId() {
+        return orderId;
+    }
+}
\ No newline at end of file
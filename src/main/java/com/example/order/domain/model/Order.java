@@ -1,14 +1,24 @@
 package com.example.order.domain.model;
 
 import com.example.common.domain.event.DomainEvent;
+import com.example.common.domain.event.StoredEvent;
 import com.example.common.domain.model.BaseEntity;
+import com.example.common.domain.model.TimeOrderedIdGenerator;
 import com.example.order.domain.event.OrderCancelledEvent;
 import com.example.order.domain.event.OrderConfirmedEvent;
 import com.example.order.domain.event.OrderCreatedEvent;
+import com.example.order.domain.event.OrderDeletedEvent;
+import com.example.order.domain.event.OrderDeliveredEvent;
+import com.example.order.domain.event.OrderDiscountAppliedEvent;
 import com.example.order.domain.event.OrderPaidEvent;
+import com.example.order.domain.event.OrderShippedEvent;
+import com.example.common.domain.valueobject.CurrencyCodeConverter;
 import com.example.common.domain.valueobject.Email;
 import com.example.common.domain.valueobject.Money;
+import com.example.common.domain.valueobject.MoneyAccumulator;
+import com.example.order.domain.discount.DiscountPolicy;
 import com.example.order.domain.exception.BusinessException;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
@@ -17,11 +27,13 @@ import lombok.AccessLevel;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 import java.math.BigDecimal;
+import java.math.RoundingMode;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.UUID;
+import java.util.Map;
 
 @Entity
 @Table(name = "orders")
@@ -31,16 +43,12 @@ import java.util.UUID;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Order extends BaseEntity<Order> {
     
-    private static final BigDecimal VIP_THRESHOLD = new BigDecimal("1000.00");
-    private static final BigDecimal VIP_DISCOUNT = new BigDecimal("0.10");
-    private static final BigDecimal BULK_THRESHOLD = new BigDecimal("10");
-    private static final BigDecimal BULK_DISCOUNT = new BigDecimal("0.05");
-    private static final BigDecimal FIRST_ORDER_DISCOUNT = new BigDecimal("0.03");
-    private static final BigDecimal MAX_DISCOUNT = new BigDecimal("0.15");
-    
     private static final BigDecimal MIN_PRICE = new BigDecimal("0.01");
     private static final BigDecimal MAX_PRICE = new BigDecimal("10000.00");
 
+    // Below this many lines a plain loop beats the fork/join overhead of a parallel reduction
+    private static final int PARALLEL_PRICING_THRESHOLD = 10_000;
+
     @Id
     @EqualsAndHashCode.Include
     private String id;
@@ -57,32 +65,74 @@ public class Order extends BaseEntity<Order> {
     @OneToMany(mappedBy = "order", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<OrderItem> items = new ArrayList<>();
 
-    @Enumerated(EnumType.STRING)
+    @Convert(converter = OrderStatusConverter.class)
     private OrderStatus status;
 
     @Embedded
     @AttributeOverrides({
-        @AttributeOverride(name = "amount", column = @Column(name = "total_amount")),
+        @AttributeOverride(name = "storedAmount", column = @Column(name = "total_amount")),
         @AttributeOverride(name = "currency", column = @Column(name = "currency"))
     })
+    @Convert(attributeName = "currency", converter = CurrencyCodeConverter.class)
     private Money totalAmount;
 
     @Embedded
     @AttributeOverrides({
-        @AttributeOverride(name = "amount", column = @Column(name = "discount_amount")),
+        @AttributeOverride(name = "storedAmount", column = @Column(name = "discount_amount")),
         @AttributeOverride(name = "currency", column = @Column(name = "discount_currency"))
     })
+    @Convert(attributeName = "currency", converter = CurrencyCodeConverter.class)
     private Money discountAmount;
 
+    /**
+     * Version of the last event in this order's stream when it was loaded; only used by event-sourced persistence.
+     */
+    @Transient
+    @JsonIgnore
+    private long streamVersion;
+
+    /**
+     * Optimistic lock for state-based persistence: a save of an order loaded before another save committed
+     * fails instead of overwriting it, which also keeps {@link #persistedStatus} true to the stored row.
+     */
+    @Version
+    @JsonIgnore
+    private Long version;
+
+    /**
+     * Status as last read from or written to the {@code orders} table, null for an order never saved; lets
+     * state-based persistence tell which status a save moves the order out of.
+     */
+    @Transient
+    @JsonIgnore
+    private OrderStatus persistedStatus;
+
+    /**
+     * Sum of line quantities. Lines never change after creation, so this is stored once and lets list queries
+     * skip the {@code items} collection.
+     */
+    @Column(name = "item_count")
+    private int itemCount;
+
+    /**
+     * {@link #getFinalAmount()} in {@link Money#toStorageUnits() storage units} of the currency of
+     * {@link #totalAmount}, stored for list queries and kept current by every change to the total or discount.
+     */
+    @Column(name = "final_amount")
+    @JsonIgnore
+    @Getter(AccessLevel.NONE)
+    private Long listedFinalAmount;
+
     private Order(String id, String customerId, Email customerEmail, List<OrderItem> items) {
         this.id = id;
         this.customerId = customerId;
         this.customerEmail = customerEmail;
-        this.items = new ArrayList<>(items);
+        this.items = mergeLines(items);
         this.items.forEach(item -> item.setOrder(this));
         this.status = OrderStatus.PENDING;
         calculateTotal();
         validatePrice();
+        syncListedFinalAmount();
     }
 
     private Order(String id, String customerId, Email customerEmail, OrderStatus status,
@@ -96,27 +146,64 @@ public class Order extends BaseEntity<Order> {
         this.items.forEach(item -> item.setOrder(this));
         this.totalAmount = totalAmount;
         this.discountAmount = discountAmount;
+        this.itemCount = this.items.stream().mapToInt(OrderItem::getQuantity).sum();
         this.createdAt = createdAt;
         this.updatedAt = updatedAt;
+        syncListedFinalAmount();
     }
     
+    /**
+     * Creates an order without automatic discount; the configured rules are applied by passing them as the
+     * {@link DiscountPolicy}.
+     */
     public static Order create(String customerId, Email customerEmail, List<OrderItem> items) {
+        return create(customerId, customerEmail, items, DiscountPolicy.NONE);
+    }
+
+    public static Order create(String customerId, Email customerEmail, List<OrderItem> items,
+                               DiscountPolicy discountPolicy) {
+        return create(TimeOrderedIdGenerator.nextId(), customerId, customerEmail, items, discountPolicy);
+    }
+
+    /**
+     * Creates an order under an id chosen by the caller, which must be unique and time-ordered like
+     * {@link TimeOrderedIdGenerator#nextId()}.
+     */
+    public static Order create(String orderId, String customerId, Email customerEmail, List<OrderItem> items,
+                               DiscountPolicy discountPolicy) {
         if (items == null || items.isEmpty()) {
             throw new BusinessException("ORDER_001", "Order must contain at least one item");
         }
-        String orderId = UUID.randomUUID().toString();
         Order order = new Order(orderId, customerId, customerEmail, items);
-        order.applyAutoDiscount();
+        order.applyAutoDiscount(discountPolicy);
         
         order.registerEvent(new OrderCreatedEvent(
                 orderId,
+                customerId,
                 customerEmail.getValue(),
                 order.getFinalAmount(),
+                order.getItemCount(),
+                order.items.stream()
+                        .map(item -> new OrderCreatedEvent.Line(item.getProductId(), item.getProductName(),
+                                item.getQuantity(), item.getUnitPrice()))
+                        .toList(),
                 Instant.now()
         ));
         return order;
     }
 
+    /**
+     * Prices a cart exactly as {@link #create} would, without assigning an id or registering events.
+     */
+    public static OrderQuote quote(List<OrderItem> items, DiscountPolicy discountPolicy) {
+        if (items == null || items.isEmpty()) {
+            throw new BusinessException("ORDER_001", "Order must contain at least one item");
+        }
+        Order draft = new Order(null, null, null, items);
+        draft.applyAutoDiscount(discountPolicy);
+        return new OrderQuote(draft.totalAmount, draft.discountAmount, draft.getItemCount());
+    }
+
     private void validatePrice() {
         if (totalAmount == null) return;
         BigDecimal amount = totalAmount.getAmount();
@@ -125,30 +212,29 @@ public class Order extends BaseEntity<Order> {
         }
     }
 
-    public void applyAutoDiscount() {
-        BigDecimal discount = BigDecimal.ZERO;
-        if (isVipCustomer()) discount = discount.add(VIP_DISCOUNT);
-        if (isBulkOrder()) discount = discount.add(BULK_DISCOUNT);
-        
-        BigDecimal finalPercentage = discount.min(MAX_DISCOUNT);
-        if (finalPercentage.compareTo(BigDecimal.ZERO) > 0) {
-            applyDiscount(finalPercentage);
+    public void applyAutoDiscount(DiscountPolicy discountPolicy) {
+        // validatePrice() bounds the total, so hundredths always fit in a long
+        long totalHundredths = totalAmount.getAmount().movePointRight(2).setScale(0, RoundingMode.FLOOR).longValue();
+        int basisPoints = discountPolicy.discountBasisPoints(totalHundredths, getItemCount());
+        if (basisPoints > 0) {
+            // Part of creation: OrderCreatedEvent already carries the discounted amount
+            requirePending();
+            this.discountAmount = this.totalAmount.discount(BigDecimal.valueOf(basisPoints, 4));
+            syncListedFinalAmount();
         }
     }
 
-    private boolean isVipCustomer() {
-        return totalAmount.getAmount().compareTo(VIP_THRESHOLD) >= 0;
-    }
-
-    private boolean isBulkOrder() {
-        return getItemCount() >= BULK_THRESHOLD.intValue();
+    public void applyDiscount(BigDecimal percentage) {
+        requirePending();
+        this.discountAmount = this.totalAmount.discount(percentage);
+        syncListedFinalAmount();
+        this.registerEvent(new OrderDiscountAppliedEvent(this.id, this.discountAmount, Instant.now()));
     }
 
-    public void applyDiscount(BigDecimal percentage) {
+    private void requirePending() {
         if (status != OrderStatus.PENDING) {
             throw new BusinessException("ORDER_002", "Can only apply discount to pending orders");
         }
-        this.discountAmount = this.totalAmount.discount(percentage);
     }
     
     public void confirm() {
@@ -172,6 +258,7 @@ public class Order extends BaseEntity<Order> {
             throw new BusinessException("ORDER_006", "Can only ship paid orders");
         }
         this.status = OrderStatus.SHIPPED;
+        this.registerEvent(new OrderShippedEvent(this.id, Instant.now()));
     }
     
     public void deliver() {
@@ -179,6 +266,7 @@ public class Order extends BaseEntity<Order> {
             throw new BusinessException("ORDER_007", "Can only deliver shipped orders");
         }
         this.status = OrderStatus.DELIVERED;
+        this.registerEvent(new OrderDeliveredEvent(this.id, Instant.now()));
     }
     
     public void cancel(String reason) {
@@ -189,19 +277,52 @@ public class Order extends BaseEntity<Order> {
         this.registerEvent(new OrderCancelledEvent(this.id, reason, Instant.now()));
     }
     
+    /**
+     * Folds lines for the same product at the same unit price into one line, keeping first-seen order.
+     */
+    private static List<OrderItem> mergeLines(List<OrderItem> lines) {
+        Map<LineKey, OrderItem> merged = new LinkedHashMap<>(lines.size() * 4 / 3 + 1);
+        for (OrderItem line : lines) {
+            merged.merge(new LineKey(line.getProductId(), line.getUnitPrice()), line, OrderItem::mergedWith);
+        }
+        return new ArrayList<>(merged.size() == lines.size() ? lines : merged.values());
+    }
+
+    private record LineKey(String productId, Money unitPrice) {
+    }
+
     private void calculateTotal() {
-        this.totalAmount = items.stream()
-            .map(OrderItem::calculateSubtotal)
-            .reduce(Money::add)
-            .orElse(Money.zero("USD"));
+        if (items.isEmpty()) {
+            this.totalAmount = Money.zero("USD");
+            this.itemCount = 0;
+            return;
+        }
+        String currency = items.get(0).getUnitPrice().getCurrency();
+        if (items.size() >= PARALLEL_PRICING_THRESHOLD) {
+            this.totalAmount = items.parallelStream()
+                .collect(() -> new MoneyAccumulator(currency),
+                         (total, item) -> total.add(item.getUnitPrice(), item.getQuantity()),
+                         MoneyAccumulator::combine)
+                .toMoney();
+            this.itemCount = items.parallelStream().mapToInt(OrderItem::getQuantity).sum();
+            return;
+        }
+        MoneyAccumulator total = new MoneyAccumulator(currency);
+        int quantity = 0;
+        for (OrderItem item : items) {
+            total.add(item.getUnitPrice(), item.getQuantity());
+            quantity += item.getQuantity();
+        }
+        this.totalAmount = total.toMoney();
+        this.itemCount = quantity;
     }
     
     public Money getFinalAmount() {
         return discountAmount != null ? discountAmount : totalAmount;
     }
     
-    public int getItemCount() {
-        return items.stream().mapToInt(OrderItem::getQuantity).sum();
+    private void syncListedFinalAmount() {
+        this.listedFinalAmount = totalAmount != null ? getFinalAmount().toStorageUnits() : null;
     }
 
     public static Order reconstitute(String id, String customerId, Email customerEmail,
@@ -211,4 +332,64 @@ public class Order extends BaseEntity<Order> {
         return new Order(id, customerId, customerEmail, status, items,
                         totalAmount, discountAmount, createdAt, updatedAt);
     }
+
+    /**
+     * Rebuilds an order from the first event of its stream, for streams without a snapshot to start from.
+     * {@link OrderCreatedEvent#totalAmount()} is the amount after any discount applied while creating it.
+     */
+    public static Order fromCreatedEvent(StoredEvent stored) {
+        if (!(stored.event() instanceof OrderCreatedEvent created)) {
+            throw new IllegalStateException("Stream of order " + stored.aggregateId() + " does not start with its creation");
+        }
+        if (created.lines() == null) {
+            throw new IllegalStateException("OrderCreatedEvent of order " + created.orderId() + " has no lines to rebuild from");
+        }
+        List<OrderItem> items = created.lines().stream()
+                .map(line -> OrderItem.of(line.productId(), line.productName(), line.quantity(), line.unitPrice()))
+                .toList();
+        Order order = new Order(created.orderId(), created.customerId(), Email.of(created.customerEmail()), items);
+        if (!created.totalAmount().equals(order.totalAmount)) {
+            order.discountAmount = created.totalAmount();
+            order.syncListedFinalAmount();
+        }
+        order.createdAt = created.occurredAt();
+        order.updatedAt = created.occurredAt();
+        order.streamVersion = stored.version();
+        return order;
+    }
+
+    /**
+     * Applies an already recorded event on top of a snapshot. Transitions were validated when the
+     * event was first raised, so nothing is checked and no event is registered.
+     */
+    public void replay(StoredEvent stored) {
+        DomainEvent event = stored.event();
+        if (event instanceof OrderConfirmedEvent) {
+            this.status = OrderStatus.CONFIRMED;
+        } else if (event instanceof OrderPaidEvent) {
+            this.status = OrderStatus.PAID;
+        } else if (event instanceof OrderShippedEvent) {
+            this.status = OrderStatus.SHIPPED;
+        } else if (event instanceof OrderDeliveredEvent) {
+            this.status = OrderStatus.DELIVERED;
+        } else if (event instanceof OrderCancelledEvent) {
+            this.status = OrderStatus.CANCELLED;
+        } else if (event instanceof OrderDiscountAppliedEvent discountApplied) {
+            this.discountAmount = discountApplied.discountedAmount();
+            syncListedFinalAmount();
+        } else if (event instanceof OrderDeletedEvent) {
+            this.deletedAt = event.occurredAt();
+        }
+        this.updatedAt = event.occurredAt();
+        this.streamVersion = stored.version();
+    }
+
+    public void markStreamVersion(long version) {
+        this.streamVersion = version;
+    }
+
+    @PostLoad
+    public void markPersisted() {
+        this.persistedStatus = status;
+    }
 }
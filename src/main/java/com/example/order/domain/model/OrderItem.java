@@ -1,6 +1,8 @@
 package com.example.order.domain.model;
 
+import com.example.common.domain.valueobject.CurrencyCodeConverter;
 import com.example.common.domain.valueobject.Money;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
 import lombok.*;
 
@@ -11,12 +13,15 @@ import lombok.*;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Builder
 public class OrderItem {
+    // Pooled sequence: ids are handed out in blocks of 50 so line inserts can be batched
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "order_items_seq")
+    @SequenceGenerator(name = "order_items_seq", sequenceName = "order_items_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "order_id")
+    @JsonIgnore
     private Order order;
 
     @Column(name = "product_id")
@@ -29,9 +34,10 @@ public class OrderItem {
     
     @Embedded
     @AttributeOverrides({
-        @AttributeOverride(name = "amount", column = @Column(name = "unit_price")),
+        @AttributeOverride(name = "storedAmount", column = @Column(name = "unit_price")),
         @AttributeOverride(name = "currency", column = @Column(name = "currency"))
     })
+    @Convert(attributeName = "currency", converter = CurrencyCodeConverter.class)
     private Money unitPrice;
     
     public static OrderItem of(String productId, String productName, int quantity, Money unitPrice) {
@@ -46,6 +52,10 @@ public class OrderItem {
                 .build();
     }
     
+    OrderItem mergedWith(OrderItem other) {
+        return OrderItem.of(productId, productName, Math.addExact(quantity, other.quantity), unitPrice);
+    }
+
     public Money calculateSubtotal() {
         return unitPrice.multiply(quantity);
     }
@@ -0,0 +1,14 @@
+package com.example.order.domain.model;
+
+import com.example.common.domain.valueobject.Money;
+
+/**
+ * Price of a cart as {@link Order#create} would compute it. {@code discountAmount} is the discounted total,
+ * or null when no automatic discount applies.
+ */
+public record OrderQuote(Money totalAmount, Money discountAmount, int itemCount) {
+
+    public Money finalAmount() {
+        return discountAmount != null ? discountAmount : totalAmount;
+    }
+}
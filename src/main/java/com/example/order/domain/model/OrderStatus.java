@@ -1,10 +1,33 @@
 package com.example.order.domain.model;
 
+/**
+ * Order lifecycle states. Each state has a stable storage code that never changes,
+ * so the enum can be reordered or extended without rewriting stored rows.
+ */
 public enum OrderStatus {
-    PENDING,
-    CONFIRMED,
-    PAID,
-    SHIPPED,
-    DELIVERED,
-    CANCELLED
+    PENDING(1),
+    CONFIRMED(2),
+    PAID(3),
+    SHIPPED(4),
+    DELIVERED(5),
+    CANCELLED(6);
+
+    private final short code;
+
+    OrderStatus(int code) {
+        this.code = (short) code;
+    }
+
+    public short code() {
+        return code;
+    }
+
+    public static OrderStatus fromCode(short code) {
+        for (OrderStatus status : values()) {
+            if (status.code == code) {
+                return status;
+            }
+        }
+        throw new IllegalArgumentException("Unknown order status code: " + code);
+    }
 }
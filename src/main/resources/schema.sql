@@ -1,8 +1,19 @@
 -- Drop tables if they exist
+DROP TABLE IF EXISTS replication_heartbeat;
+DROP TABLE IF EXISTS order_counters;
+DROP TABLE IF EXISTS customer_order_stats;
+DROP TABLE IF EXISTS order_summary_view;
+DROP TABLE IF EXISTS order_items_archive;
+DROP TABLE IF EXISTS orders_archive;
 DROP TABLE IF EXISTS order_items;
 DROP TABLE IF EXISTS outbox;
+DROP TABLE IF EXISTS idempotency_keys;
+DROP TABLE IF EXISTS command_statuses;
+DROP TABLE IF EXISTS order_snapshots;
+DROP TABLE IF EXISTS event_store_checkpoints;
 DROP TABLE IF EXISTS orders;
 DROP TABLE IF EXISTS users;
+DROP SEQUENCE IF EXISTS order_items_seq;
 
 -- Users table
 CREATE TABLE users (
@@ -15,27 +26,37 @@ CREATE TABLE users (
 );
 
 -- Orders table
+-- Compact row format: status holds OrderStatus codes, amounts are BIGINT counts of the currency's
+-- minor unit (cents for USD, yen for JPY, fils for BHD; ten-thousandths for currencies without one)
+-- and currencies are ISO 4217 numeric codes (840 = USD). item_count and final_amount are
+-- denormalized from the lines and discount so order lists never touch order_items.
 CREATE TABLE orders (
     id VARCHAR(36) PRIMARY KEY,
     customer_id VARCHAR(255) NOT NULL,
     customer_email VARCHAR(255) NOT NULL,
-    status VARCHAR(20) NOT NULL,
-    total_amount DECIMAL(19, 2) NOT NULL,
-    currency VARCHAR(3) NOT NULL DEFAULT 'USD',
-    discount_amount DECIMAL(19, 2),
+    status SMALLINT NOT NULL,
+    total_amount BIGINT NOT NULL,
+    currency SMALLINT NOT NULL DEFAULT 840,
+    discount_amount BIGINT,
+    discount_currency SMALLINT,
+    item_count INT NOT NULL,
+    final_amount BIGINT NOT NULL,
+    version BIGINT NOT NULL DEFAULT 0,
     created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
     updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
 );
 
--- Order items table
+-- Order items table (ids come from a pooled sequence, allocation size 50)
+CREATE SEQUENCE order_items_seq START WITH 1 INCREMENT BY 50;
+
 CREATE TABLE order_items (
-    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    id BIGINT PRIMARY KEY,
     order_id VARCHAR(36) NOT NULL,
     product_id VARCHAR(255) NOT NULL,
     product_name VARCHAR(255) NOT NULL,
     quantity INT NOT NULL,
-    unit_price DECIMAL(19, 2) NOT NULL,
-    currency VARCHAR(3) NOT NULL DEFAULT 'USD',
+    unit_price BIGINT NOT NULL,
+    currency SMALLINT NOT NULL DEFAULT 840,
     FOREIGN KEY (order_id) REFERENCES orders(id) ON DELETE CASCADE
 );
 
@@ -46,14 +67,129 @@ CREATE TABLE outbox (
     event_type VARCHAR(255) NOT NULL,
     payload CLOB NOT NULL,
     created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
-    processed BOOLEAN NOT NULL DEFAULT FALSE
+    processed BOOLEAN NOT NULL DEFAULT FALSE,
+    projected BOOLEAN NOT NULL DEFAULT FALSE
+);
+
+-- Cold storage for DELIVERED/CANCELLED orders moved out by OrderArchiver; same columns, no foreign keys
+CREATE TABLE orders_archive (
+    id VARCHAR(36) PRIMARY KEY,
+    customer_id VARCHAR(255) NOT NULL,
+    customer_email VARCHAR(255) NOT NULL,
+    status SMALLINT NOT NULL,
+    total_amount BIGINT NOT NULL,
+    currency SMALLINT NOT NULL,
+    discount_amount BIGINT,
+    discount_currency SMALLINT,
+    item_count INT NOT NULL,
+    final_amount BIGINT NOT NULL,
+    created_at TIMESTAMP NOT NULL,
+    updated_at TIMESTAMP NOT NULL,
+    archived_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE TABLE order_items_archive (
+    id BIGINT PRIMARY KEY,
+    order_id VARCHAR(36) NOT NULL,
+    product_id VARCHAR(255) NOT NULL,
+    product_name VARCHAR(255) NOT NULL,
+    quantity INT NOT NULL,
+    unit_price BIGINT NOT NULL,
+    currency SMALLINT NOT NULL
+);
+
+-- Recorded responses for Idempotency-Key replays
+CREATE TABLE idempotency_keys (
+    idempotency_key VARCHAR(100) PRIMARY KEY,
+    request_fingerprint VARCHAR(255) NOT NULL,
+    response_status INT NOT NULL,
+    content_type VARCHAR(100),
+    response_body BLOB,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+-- Outcomes of journaled order commands, looked up by GET /api/orders/commands/{commandId}
+CREATE TABLE command_statuses (
+    command_id VARCHAR(36) PRIMARY KEY,
+    status VARCHAR(16) NOT NULL,
+    order_id VARCHAR(36),
+    error VARCHAR(1000),
+    recorded_at TIMESTAMP NOT NULL
+);
+
+-- Insert-only snapshots for event-sourced orders
+CREATE TABLE order_snapshots (
+    order_id VARCHAR(36) NOT NULL,
+    version BIGINT NOT NULL,
+    payload CLOB NOT NULL,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY (order_id, version)
 );
 
+-- How far EventStoreOutboxRelay has copied the event store into the outbox
+CREATE TABLE event_store_checkpoints (
+    name VARCHAR(100) PRIMARY KEY,
+    next_offset BIGINT NOT NULL,
+    updated_at TIMESTAMP NOT NULL
+);
+
+-- Read-model projections maintained by OrderProjector from the outbox; amounts in minor units as above
+CREATE TABLE order_summary_view (
+    order_id VARCHAR(36) PRIMARY KEY,
+    customer_id VARCHAR(255) NOT NULL,
+    status SMALLINT NOT NULL,
+    final_amount BIGINT NOT NULL,
+    currency SMALLINT NOT NULL,
+    item_count INT NOT NULL,
+    created_at TIMESTAMP NOT NULL,
+    updated_at TIMESTAMP NOT NULL
+);
+
+CREATE TABLE customer_order_stats (
+    customer_id VARCHAR(255) PRIMARY KEY,
+    pending_orders BIGINT NOT NULL DEFAULT 0,
+    confirmed_orders BIGINT NOT NULL DEFAULT 0,
+    paid_orders BIGINT NOT NULL DEFAULT 0,
+    shipped_orders BIGINT NOT NULL DEFAULT 0,
+    delivered_orders BIGINT NOT NULL DEFAULT 0,
+    cancelled_orders BIGINT NOT NULL DEFAULT 0,
+    total_spent BIGINT NOT NULL DEFAULT 0,
+    total_items BIGINT NOT NULL DEFAULT 0,
+    currency SMALLINT,
+    mixed_currencies BOOLEAN NOT NULL DEFAULT FALSE,
+    updated_at TIMESTAMP
+);
+
+-- Striped live order counts per status; a status's count is the sum of its rows
+CREATE TABLE order_counters (
+    status SMALLINT NOT NULL,
+    stripe SMALLINT NOT NULL,
+    order_count BIGINT NOT NULL,
+    PRIMARY KEY (status, stripe)
+);
+
+-- Single row written on the primary and read back from the replica to measure replication lag
+CREATE TABLE replication_heartbeat (
+    id INT PRIMARY KEY,
+    beat_millis BIGINT NOT NULL
+);
+
+INSERT INTO replication_heartbeat (id, beat_millis) VALUES (1, 0);
+
 -- Indexes for better query performance
-CREATE INDEX idx_orders_customer_id ON orders(customer_id);
-CREATE INDEX idx_orders_status ON orders(status);
-CREATE INDEX idx_orders_created_at ON orders(created_at);
+-- Covering indexes for the grouped customer statistics query
+CREATE INDEX idx_orders_customer_status ON orders(customer_id, status, final_amount, item_count, currency);
+CREATE INDEX idx_orders_status_updated_at ON orders(status, updated_at);
+CREATE INDEX idx_orders_created_at_id ON orders(created_at, id);
 CREATE INDEX idx_order_items_order_id ON order_items(order_id);
 CREATE INDEX idx_order_items_product_id ON order_items(product_id);
+CREATE INDEX idx_orders_archive_customer_status ON orders_archive(customer_id, status, final_amount, item_count, currency);
+CREATE INDEX idx_orders_archive_status ON orders_archive(status);
+CREATE INDEX idx_orders_archive_created_at_id ON orders_archive(created_at, id);
+CREATE INDEX idx_order_items_archive_order_id ON order_items_archive(order_id);
 CREATE INDEX idx_outbox_processed ON outbox(processed);
 CREATE INDEX idx_outbox_created_at ON outbox(created_at);
+CREATE INDEX idx_outbox_projected ON outbox(aggregate_type, projected, id);
+CREATE INDEX idx_idempotency_keys_created_at ON idempotency_keys(created_at);
+CREATE INDEX idx_command_statuses_recorded_at ON command_statuses(recorded_at);
+CREATE INDEX idx_order_summary_view_customer_id ON order_summary_view(customer_id);
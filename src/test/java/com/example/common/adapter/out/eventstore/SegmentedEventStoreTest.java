@@ -0,0 +1,132 @@
+package com.example.common.adapter.out.eventstore;
+
+import com.example.common.domain.event.StoredEvent;
+import com.example.order.domain.event.OrderCancelledEvent;
+import com.example.order.domain.event.OrderConfirmedEvent;
+import com.example.order.domain.event.OrderPaidEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import reactor.test.StepVerifier;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SegmentedEventStoreTest {
+
+    private static final int SMALL_SEGMENT = 1024;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void shouldLoadAggregateEventsWithVersions() throws IOException {
+        SegmentedEventStore store = open(64 * 1024);
+        store.save(new OrderConfirmedEvent("order-1", Instant.now())).block();
+        store.save(new OrderConfirmedEvent("order-2", Instant.now())).block();
+        store.save(new OrderPaidEvent("order-1", Instant.now())).block();
+
+        StepVerifier.create(store.loadEvents("order-1"))
+                .assertNext(stored -> {
+                    assertThat(stored.offset()).isZero();
+                    assertThat(stored.version()).isEqualTo(1);
+                    assertThat(stored.event()).isInstanceOf(OrderConfirmedEvent.class);
+                })
+                .assertNext(stored -> {
+                    assertThat(stored.offset()).isEqualTo(2);
+                    assertThat(stored.version()).isEqualTo(2);
+                    assertThat(stored.event()).isInstanceOf(OrderPaidEvent.class);
+                })
+                .verifyComplete();
+
+        StepVerifier.create(store.loadEvents("order-1", 1))
+                .assertNext(stored -> assertThat(stored.version()).isEqualTo(2))
+                .verifyComplete();
+        store.close();
+    }
+
+    @Test
+    void shouldRollSegmentsAndStreamGlobalRange() throws IOException {
+        SegmentedEventStore store = open(SMALL_SEGMENT);
+        for (int i = 0; i < 50; i++) {
+            store.append(new OrderConfirmedEvent("order-" + i, Instant.now()));
+        }
+
+        assertThat(segmentFiles()).hasSizeGreaterThan(1);
+        assertThat(store.loadRange(10, 20).map(StoredEvent::offset).collectList().block())
+                .hasSize(20)
+                .startsWith(10L)
+                .endsWith(29L)
+                .isSorted();
+        store.close();
+    }
+
+    @Test
+    void shouldRebuildIndexesAndDropTornRecordOnRestart() throws IOException {
+        SegmentedEventStore store = open(64 * 1024);
+        store.append(new OrderConfirmedEvent("order-1", Instant.now()));
+        store.append(new OrderPaidEvent("order-1", Instant.now()));
+        store.close();
+
+        Path segment = segmentFiles().get(0);
+        try (RandomAccessFile file = new RandomAccessFile(segment.toFile(), "rw")) {
+            long position = file.length() - 1;
+            file.seek(position);
+            while (file.read() == 0) {
+                file.seek(--position);
+            }
+            file.seek(position);
+            file.write('x');
+        }
+
+        SegmentedEventStore reopened = open(64 * 1024);
+
+        assertThat(reopened.loadEvents("order-1").collectList().block())
+                .extracting(StoredEvent::version)
+                .containsExactly(1L);
+        assertThat(reopened.append(new OrderCancelledEvent("order-1", "changed mind", Instant.now()))).isEqualTo(1);
+        reopened.close();
+    }
+
+    @Test
+    void shouldCompactSealedSegmentsAndKeepOffsets() throws IOException {
+        SegmentedEventStore store = open(SMALL_SEGMENT);
+        for (int i = 0; i < 30; i++) {
+            store.append(new OrderConfirmedEvent(i % 2 == 0 ? "keep-" + i : "drop-" + i, Instant.now()));
+        }
+
+        int dropped = store.compact(stored -> !stored.aggregateId().startsWith("drop-"));
+
+        assertThat(dropped).isPositive();
+        assertThat(store.loadEvents("drop-1").collectList().block()).isEmpty();
+        assertThat(store.loadEvents("keep-2").map(StoredEvent::offset).collectList().block()).containsExactly(2L);
+        store.close();
+
+        SegmentedEventStore reopened = open(SMALL_SEGMENT);
+        assertThat(reopened.loadRange(0, 100).map(StoredEvent::offset).collectList().block())
+                .hasSize(30 - dropped)
+                .isSorted()
+                .contains(0L, 2L, 4L);
+        assertThat(reopened.append(new OrderConfirmedEvent("keep-30", Instant.now()))).isEqualTo(30);
+        reopened.close();
+    }
+
+    private SegmentedEventStore open(int segmentSize) {
+        return new SegmentedEventStore(objectMapper, directory.toString(), segmentSize);
+    }
+
+    private List<Path> segmentFiles() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(path -> path.toString().endsWith(".segment")).sorted().toList();
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.example.common.adapter.out.persistence;
+
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GroupCommitterTest {
+
+    @Test
+    void shouldCommitLoneWriteDirectly() {
+        AtomicInteger batchCommits = new AtomicInteger();
+        GroupCommitter<String> committer = new GroupCommitter<>(
+                item -> Mono.just(item + "-saved"),
+                items -> {
+                    batchCommits.incrementAndGet();
+                    return Mono.just(items);
+                },
+                16, Duration.ofMillis(1), 1);
+
+        StepVerifier.create(committer.submit("a"))
+                .expectNext("a-saved")
+                .verifyComplete();
+
+        assertThat(batchCommits).hasValue(0);
+    }
+
+    @Test
+    void shouldCoalesceWritesArrivingWhileCommitIsInFlight() {
+        List<Integer> batchSizes = new CopyOnWriteArrayList<>();
+        GroupCommitter<String> committer = new GroupCommitter<>(
+                item -> Mono.just(item).delayElement(Duration.ofMillis(200)),
+                items -> {
+                    batchSizes.add(items.size());
+                    return Mono.just(items.stream().map(item -> item + "-batched").toList());
+                },
+                16, Duration.ofMillis(20), 1);
+
+        Mono<String> first = committer.submit("first");
+        List<String> results = Flux.merge(first, Flux.range(0, 10).delaySubscription(Duration.ofMillis(50))
+                        .flatMap(i -> committer.submit("item-" + i)))
+                .collectList()
+                .block(Duration.ofSeconds(5));
+
+        assertThat(results).hasSize(11).contains("first", "item-0-batched", "item-9-batched");
+        assertThat(batchSizes).hasSizeLessThan(10);
+        assertThat(batchSizes.stream().mapToInt(Integer::intValue).sum()).isEqualTo(10);
+    }
+
+    @Test
+    void shouldFailOnlyTheOffendingWriteWhenSharedCommitFails() {
+        GroupCommitter<String> committer = new GroupCommitter<>(
+                item -> "bad".equals(item)
+                        ? Mono.error(new IllegalStateException("rejected"))
+                        : Mono.just(item).delayElement(Duration.ofMillis(100)),
+                items -> Mono.error(new IllegalStateException("shared commit failed")),
+                16, Duration.ofMillis(20), 1);
+
+        Mono<String> blocker = committer.submit("blocker");
+        Mono<String> good = committer.submit("good").delaySubscription(Duration.ofMillis(20));
+        Mono<String> bad = committer.submit("bad").delaySubscription(Duration.ofMillis(20));
+
+        StepVerifier.create(Flux.merge(blocker, good, bad.onErrorResume(e -> Mono.just("failed:" + e.getMessage()))).collectList())
+                .assertNext(results -> assertThat(results).containsExactlyInAnyOrder("blocker", "good", "failed:rejected"))
+                .verifyComplete();
+    }
+}
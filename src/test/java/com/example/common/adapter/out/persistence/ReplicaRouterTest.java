@@ -0,0 +1,83 @@
+package com.example.common.adapter.out.persistence;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.hibernate.reactive.mutiny.Mutiny;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ExtendWith(MockitoExtension.class)
+class ReplicaRouterTest {
+
+    @Mock
+    private Mutiny.SessionFactory primary;
+
+    @Mock
+    private Mutiny.SessionFactory replica;
+
+    private SimpleMeterRegistry meterRegistry;
+    private ReplicaRouter router;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        router = new ReplicaRouter(primary, Optional.of(replica), meterRegistry, Duration.ofMillis(200));
+        router.observeReplicaPosition(1_000);
+    }
+
+    @Test
+    void shouldReadFromReplicaWithoutToken() {
+        StepVerifier.create(router.forRead())
+            .expectNext(replica)
+            .verifyComplete();
+    }
+
+    @Test
+    void shouldReadFromReplicaOnceItHasPassedTheToken() {
+        StepVerifier.create(router.forRead().contextWrite(context -> context.put(ReplicaRouter.CONSISTENCY_TOKEN, 1_000L)))
+            .expectNext(replica)
+            .verifyComplete();
+    }
+
+    @Test
+    void shouldWaitForReplicaToCatchUpWithToken() {
+        StepVerifier.create(router.forRead().contextWrite(context -> context.put(ReplicaRouter.CONSISTENCY_TOKEN, 2_000L)))
+            .then(() -> router.observeReplicaPosition(2_000))
+            .expectNext(replica)
+            .verifyComplete();
+
+        assertThat(meterRegistry.get("db.replica.fallbacks").counter().count()).isZero();
+    }
+
+    @Test
+    void shouldFallBackToPrimaryWhenReplicaStaysBehind() {
+        StepVerifier.create(router.forRead().contextWrite(context -> context.put(ReplicaRouter.CONSISTENCY_TOKEN, 2_000L)))
+            .expectNext(primary)
+            .verifyComplete();
+
+        assertThat(meterRegistry.get("db.replica.fallbacks").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void shouldServePrimaryReadsFromPrimaryEvenWhenReplicaIsFresh() {
+        StepVerifier.create(router.primary())
+            .expectNext(primary)
+            .verifyComplete();
+    }
+
+    @Test
+    void shouldAlwaysReadFromPrimaryWithoutReplica() {
+        StepVerifier.create(ReplicaRouter.primaryOnly(primary).forRead()
+                .contextWrite(context -> context.put(ReplicaRouter.CONSISTENCY_TOKEN, Long.MAX_VALUE)))
+            .expectNext(primary)
+            .verifyComplete();
+    }
+}
@@ -0,0 +1,83 @@
+package com.example.common.adapter.out.persistence.outbox;
+
+import io.smallrye.mutiny.Uni;
+import jakarta.persistence.Column;
+import jakarta.persistence.Id;
+import org.hibernate.reactive.mutiny.Mutiny;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.test.StepVerifier;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.BiFunction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.RETURNS_SELF;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class OutboxRepositoryTest {
+
+    @Mock
+    private Mutiny.SessionFactory sessionFactory;
+
+    @Mock
+    private Mutiny.Session session;
+
+    @Test
+    void shouldInsertEveryMappedColumnButTheGeneratedId() {
+        List<String> mapped = Arrays.stream(OutboxEvent.class.getDeclaredFields())
+            .filter(field -> !Modifier.isStatic(field.getModifiers()) && !field.isAnnotationPresent(Id.class))
+            .map(OutboxRepositoryTest::columnName)
+            .toList();
+
+        assertThat(OutboxRepository.INSERT_COLUMNS).containsExactlyInAnyOrderElementsOf(mapped);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldBindOneValuePerColumnAndRow() {
+        Mutiny.Query<Object> query = mock(Mutiny.Query.class, RETURNS_SELF);
+        doReturn(query).when(session).createNativeQuery(anyString());
+        when(query.executeUpdate()).thenReturn(Uni.createFrom().item(2));
+        when(sessionFactory.withTransaction(any(BiFunction.class))).thenAnswer(invocation ->
+            ((BiFunction<Mutiny.Session, Mutiny.Transaction, Uni<?>>) invocation.getArgument(0)).apply(session, null));
+
+        StepVerifier.create(new OutboxRepository(sessionFactory).saveAll(List.of(event("order-1"), event("order-2"))))
+            .verifyComplete();
+
+        ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+        verify(session).createNativeQuery(sql.capture());
+        assertThat(sql.getValue()).isEqualTo("insert into outbox (aggregate_type, aggregate_id, event_type, payload, "
+            + "created_at, processed, projected) values (?, ?, ?, ?, ?, ?, ?), (?, ?, ?, ?, ?, ?, ?)");
+        verify(query).setParameter(7, false);
+        verify(query).setParameter(14, false);
+    }
+
+    private static String columnName(Field field) {
+        Column column = field.getAnnotation(Column.class);
+        return column != null && !column.name().isEmpty() ? column.name() : field.getName();
+    }
+
+    private static OutboxEvent event(String aggregateId) {
+        return OutboxEvent.builder()
+            .aggregateType("Order")
+            .aggregateId(aggregateId)
+            .eventType("OrderCreatedEvent")
+            .payload("{}")
+            .createdAt(Instant.now())
+            .build();
+    }
+}
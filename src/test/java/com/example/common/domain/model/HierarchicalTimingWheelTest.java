@@ -0,0 +1,76 @@
+package com.example.common.domain.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HierarchicalTimingWheelTest {
+
+    @Test
+    void shouldFireOnlyOnceDeadlinePassed() {
+        HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(Duration.ofMillis(10), 8, 3, 0);
+        List<String> fired = new ArrayList<>();
+        wheel.schedule("a", 25);
+        wheel.schedule("b", 100);
+
+        wheel.advance(20, fired::add);
+        assertThat(fired).isEmpty();
+
+        wheel.advance(30, fired::add);
+        assertThat(fired).containsExactly("a");
+        assertThat(wheel.size()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldFireOverdueTimersImmediately() {
+        HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(Duration.ofMillis(10), 8, 3, 1_000);
+        List<String> fired = new ArrayList<>();
+        wheel.schedule("late", 500);
+
+        wheel.advance(1_000, fired::add);
+
+        assertThat(fired).containsExactly("late");
+    }
+
+    @Test
+    void shouldCascadeAcrossLevelsAndBeyondTopSpan() {
+        // 4 slots x 2 levels spans 16 ticks; later deadlines are parked and re-placed
+        HierarchicalTimingWheel<Long> wheel = new HierarchicalTimingWheel<>(Duration.ofMillis(1), 4, 2, 0);
+        SplittableRandom random = new SplittableRandom(7);
+        List<Long> deadlines = new ArrayList<>();
+        for (int i = 0; i < 2_000; i++) {
+            long deadline = random.nextLong(1, 300);
+            deadlines.add(deadline);
+            wheel.schedule(deadline, deadline);
+        }
+
+        List<Long> fired = new ArrayList<>();
+        for (long now = 0; now <= 300; now++) {
+            long at = now;
+            wheel.advance(now, deadline -> {
+                assertThat(deadline).isEqualTo(at);
+                fired.add(deadline);
+            });
+        }
+
+        assertThat(fired).containsExactlyInAnyOrderElementsOf(deadlines);
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    void shouldCatchUpAfterLongPause() {
+        HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(Duration.ofSeconds(1), 64, 4, 0);
+        List<String> fired = new ArrayList<>();
+        wheel.schedule("hour", 3_600_000);
+        wheel.schedule("day", 86_400_000);
+
+        wheel.advance(90_000_000, fired::add);
+
+        assertThat(fired).containsExactlyInAnyOrder("hour", "day");
+    }
+}
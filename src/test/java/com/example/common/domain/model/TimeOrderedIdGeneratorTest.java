@@ -0,0 +1,54 @@
+package com.example.common.domain.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TimeOrderedIdGeneratorTest {
+
+    @Test
+    void shouldGenerateVersion7Uuids() {
+        UUID uuid = TimeOrderedIdGenerator.nextUuid();
+
+        assertThat(uuid.version()).isEqualTo(7);
+        assertThat(uuid.variant()).isEqualTo(2);
+        assertThat(TimeOrderedIdGenerator.nextId()).hasSize(36);
+    }
+
+    @Test
+    void shouldGenerateIdsInSortedOrder() {
+        List<String> ids = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            ids.add(TimeOrderedIdGenerator.nextId());
+        }
+
+        assertThat(ids).isSorted();
+    }
+
+    @Test
+    void shouldEncodeCreationTimestamp() {
+        long before = System.currentTimeMillis();
+        String id = TimeOrderedIdGenerator.nextId();
+        long after = System.currentTimeMillis();
+
+        // The counter may carry a few milliseconds ahead under heavy generation
+        assertThat(TimeOrderedIdGenerator.timestampOf(id)).isBetween(before, after + 1_000);
+    }
+
+    @Test
+    void shouldGenerateUniqueIdsAcrossThreads() {
+        Set<String> ids = ConcurrentHashMap.newKeySet();
+
+        IntStream.range(0, 100_000).parallel()
+            .forEach(i -> ids.add(TimeOrderedIdGenerator.nextId()));
+
+        assertThat(ids).hasSize(100_000);
+    }
+}
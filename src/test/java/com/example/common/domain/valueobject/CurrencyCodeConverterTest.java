@@ -0,0 +1,23 @@
+package com.example.common.domain.valueobject;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CurrencyCodeConverterTest {
+
+    private final CurrencyCodeConverter currencies = new CurrencyCodeConverter();
+
+    @Test
+    void shouldPassNullsThrough() {
+        assertThat(currencies.convertToDatabaseColumn(null)).isNull();
+        assertThat(currencies.convertToEntityAttribute(null)).isNull();
+    }
+
+    @Test
+    void shouldStoreCurrencyAsIsoNumericCode() {
+        assertThat(currencies.convertToDatabaseColumn("USD")).isEqualTo((short) 840);
+        assertThat(currencies.convertToEntityAttribute((short) 840)).isEqualTo("USD");
+        assertThat(currencies.convertToEntityAttribute(currencies.convertToDatabaseColumn("JPY"))).isEqualTo("JPY");
+    }
+}
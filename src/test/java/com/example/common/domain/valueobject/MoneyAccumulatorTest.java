@@ -0,0 +1,53 @@
+package com.example.common.domain.valueobject;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MoneyAccumulatorTest {
+
+    @Test
+    void shouldSumLineTotals() {
+        Money total = new MoneyAccumulator("USD")
+            .add(Money.of(new BigDecimal("19.99"), "USD"), 3)
+            .add(Money.of(new BigDecimal("0.05"), "USD"))
+            .toMoney();
+
+        assertThat(total).isEqualTo(Money.of(new BigDecimal("60.02"), "USD"));
+    }
+
+    @Test
+    void shouldReturnZeroWhenEmpty() {
+        assertThat(new MoneyAccumulator("USD").toMoney()).isEqualTo(Money.zero("USD"));
+    }
+
+    @Test
+    void shouldStayExactOnOverflowAndFractionalAmounts() {
+        Money huge = Money.ofMinor(Long.MAX_VALUE, "USD");
+        Money fractional = Money.of(new BigDecimal("0.001"), "USD");
+
+        Money total = new MoneyAccumulator("USD").add(huge, 2).add(fractional).toMoney();
+
+        BigDecimal expected = BigDecimal.valueOf(Long.MAX_VALUE, 2).multiply(BigDecimal.valueOf(2))
+            .add(new BigDecimal("0.001"));
+        assertThat(total.getAmount()).isEqualByComparingTo(expected);
+    }
+
+    @Test
+    void shouldCombinePartialSums() {
+        MoneyAccumulator left = new MoneyAccumulator("USD").add(Money.of(10, "USD"), 2);
+        MoneyAccumulator right = new MoneyAccumulator("USD").add(Money.of(new BigDecimal("0.005"), "USD"));
+
+        assertThat(left.combine(right).toMoney().getAmount()).isEqualByComparingTo("20.005");
+    }
+
+    @Test
+    void shouldRejectCurrencyMismatch() {
+        assertThatThrownBy(() -> new MoneyAccumulator("USD").add(Money.of(1, "EUR")))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("Currency mismatch");
+    }
+}
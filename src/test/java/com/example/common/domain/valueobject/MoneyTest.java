@@ -126,4 +126,91 @@ class MoneyTest {
         
         assertThat(money.toString()).contains("100.5").contains("USD");
     }
+
+    @Test
+    void shouldRoundDiscountHalfUpToMinorUnit() {
+        Money money = Money.of(new BigDecimal("10.05"), "USD");
+
+        Money result = money.discount(new BigDecimal("0.5"));
+
+        assertThat(result.getAmount()).isEqualTo(new BigDecimal("5.03"));
+    }
+
+    @Test
+    void shouldKeepDiscountScaleBoundedWhenChained() {
+        Money money = Money.of(99.99, "USD");
+
+        Money result = money.discount(new BigDecimal("0.07")).discount(new BigDecimal("0.03"));
+
+        assertThat(result.getAmount().scale()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldFallBackToDecimalInsteadOfOverflowing() {
+        Money large = Money.ofMinor(Long.MAX_VALUE, "USD");
+
+        Money sum = large.add(Money.ofMinor(1, "USD"));
+        Money product = large.multiply(2);
+
+        assertThat(sum.getAmount()).isEqualByComparingTo(new BigDecimal(Long.MAX_VALUE).add(BigDecimal.ONE).movePointLeft(2));
+        assertThat(product.getAmount()).isEqualByComparingTo(new BigDecimal(Long.MAX_VALUE).multiply(BigDecimal.TWO).movePointLeft(2));
+    }
+
+    @Test
+    void shouldKeepExtraFractionDigitsWithoutRounding() {
+        Money money = Money.of(10.005, "USD");
+
+        assertThat(money.getAmount()).isEqualByComparingTo(new BigDecimal("10.005"));
+        assertThat(money.add(Money.of(0.005, "USD")).getAmount()).isEqualByComparingTo(new BigDecimal("10.01"));
+    }
+
+    @Test
+    void shouldSupportCurrenciesWithoutMinorUnit() {
+        Money money = Money.of(new BigDecimal("1.23456"), "XAU");
+
+        assertThat(money.multiply(2).getAmount()).isEqualByComparingTo(new BigDecimal("2.46912"));
+        assertThat(Money.of(1500, "JPY").getAmount()).isEqualTo(new BigDecimal("1500"));
+    }
+
+    @Test
+    void shouldTreatNumericallyEqualAmountsAsEqual() {
+        Money fromDouble = Money.of(100.5, "USD");
+        Money fromDecimal = Money.of(new BigDecimal("100.500"), "USD");
+        Money fromMinor = Money.ofMinor(10050, "USD");
+
+        assertThat(fromDouble).isEqualTo(fromDecimal).isEqualTo(fromMinor);
+        assertThat(fromDouble.hashCode()).isEqualTo(fromDecimal.hashCode()).isEqualTo(fromMinor.hashCode());
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"ABC", "usd", "US"})
+    void shouldRejectUnsupportedCurrencies(String currency) {
+        assertThatThrownBy(() -> Money.of(new BigDecimal("1.00"), currency))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("Unsupported currency");
+        assertThatThrownBy(() -> Money.zero(currency)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+        "123.45, USD, 12345",
+        "7, USD, 700",
+        "1500, JPY, 1500",
+        "1.234, BHD, 1234",
+        "0.005, KWD, 5",
+        "1.2345, XAU, 12345"
+    })
+    void shouldStoreAmountsInTheCurrencysMinorUnit(String amount, String currency, long units) {
+        Money money = Money.of(new BigDecimal(amount), currency);
+
+        assertThat(money.toStorageUnits()).isEqualTo(units);
+        assertThat(Money.ofStorageUnits(units, currency)).isEqualTo(money);
+    }
+
+    @Test
+    void shouldRoundDigitsBeyondTheMinorUnitHalfUpWhenStored() {
+        assertThat(Money.of(new BigDecimal("0.125"), "USD").toStorageUnits()).isEqualTo(13L);
+        assertThat(Money.of(new BigDecimal("1.5"), "JPY").toStorageUnits()).isEqualTo(2L);
+        assertThat(Money.of(new BigDecimal("1.23456"), "XAU").toStorageUnits()).isEqualTo(12346L);
+    }
 }
@@ -0,0 +1,65 @@
+package com.example.order.adapter.config;
+
+import com.example.order.domain.discount.DiscountRuleEngine;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.mock.env.MockEnvironment;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DiscountRuleRefresherTest {
+
+    private MockEnvironment environment;
+    private DiscountRuleEngine engine;
+    private DiscountRuleRefresher refresher;
+
+    @BeforeEach
+    void setUp() {
+        environment = new MockEnvironment();
+        DiscountRuleProperties properties = bind();
+        engine = new DiscountRuleConfig().discountRuleEngine(properties);
+        refresher = new DiscountRuleRefresher(engine, environment, properties);
+    }
+
+    @Test
+    void shouldDefaultToVipAndBulkRules() {
+        assertThat(engine.ruleCount()).isEqualTo(2);
+        assertThat(engine.discountBasisPoints(100_000, 10)).isEqualTo(1500);
+        assertThat(engine.discountBasisPoints(5_000, 1)).isZero();
+    }
+
+    @Test
+    void shouldLeaveUnchangedRulesAlone() {
+        long version = engine.version();
+
+        assertThat(refresher.refresh()).isFalse();
+        assertThat(engine.version()).isEqualTo(version);
+    }
+
+    @Test
+    void shouldInstallChangedRules() {
+        environment.setProperty("order.discount.rules", "all:min-items:1:2, bulk:min-items:10:5");
+        environment.setProperty("order.discount.max-percent", "5");
+
+        assertThat(refresher.refresh()).isTrue();
+        assertThat(engine.ruleCount()).isEqualTo(2);
+        assertThat(engine.discountBasisPoints(5_000, 1)).isEqualTo(200);
+        assertThat(engine.discountBasisPoints(100_000, 10)).isEqualTo(500);
+        assertThat(refresher.refresh()).isFalse();
+    }
+
+    @Test
+    void shouldKeepCurrentRulesWhenChangedRulesAreInvalid() {
+        long version = engine.version();
+        environment.setProperty("order.discount.rules", "vip:first-order:0:3");
+
+        assertThat(refresher.refresh()).isFalse();
+        assertThat(engine.version()).isEqualTo(version);
+        assertThat(engine.discountBasisPoints(100_000, 10)).isEqualTo(1500);
+    }
+
+    private DiscountRuleProperties bind() {
+        return Binder.get(environment).bindOrCreate("order.discount", DiscountRuleProperties.class);
+    }
+}
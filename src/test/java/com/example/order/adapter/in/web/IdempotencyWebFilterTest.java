@@ -0,0 +1,220 @@
+package com.example.order.adapter.in.web;
+
+import com.example.order.application.dto.IdempotentResponse;
+import com.example.order.application.port.out.IdempotencyStore;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class IdempotencyWebFilterTest {
+
+    private InMemoryIdempotencyStore store;
+    private IdempotencyWebFilter filter;
+    private AtomicInteger executions;
+
+    @BeforeEach
+    void setUp() {
+        store = new InMemoryIdempotencyStore();
+        filter = new IdempotencyWebFilter(store);
+        executions = new AtomicInteger();
+    }
+
+    @Test
+    void shouldReplayStoredResponseForRepeatedKey() {
+        MockServerWebExchange first = exchange("/api/orders", "key-001");
+        MockServerWebExchange second = exchange("/api/orders", "key-001");
+
+        StepVerifier.create(filter.filter(first, createdChain(Duration.ZERO))).verifyComplete();
+        StepVerifier.create(filter.filter(second, createdChain(Duration.ZERO))).verifyComplete();
+
+        assertThat(executions.get()).isEqualTo(1);
+        assertThat(second.getResponse().getStatusCode()).isEqualTo(HttpStatus.CREATED);
+        assertThat(second.getResponse().getHeaders().getFirst(IdempotencyWebFilter.REPLAYED_HEADER)).isEqualTo("true");
+        StepVerifier.create(second.getResponse().getBodyAsString())
+            .expectNext("{\"orderId\":\"order-001\"}")
+            .verifyComplete();
+    }
+
+    @Test
+    void shouldCoalesceConcurrentRequestsWithSameKey() {
+        MockServerWebExchange first = exchange("/api/orders", "key-002");
+        MockServerWebExchange second = exchange("/api/orders", "key-002");
+
+        Mono<Void> both = Mono.when(
+            filter.filter(first, createdChain(Duration.ofMillis(100))),
+            filter.filter(second, createdChain(Duration.ofMillis(100)))
+        );
+
+        StepVerifier.create(both).verifyComplete();
+
+        assertThat(executions.get()).isEqualTo(1);
+        assertThat(first.getResponse().getStatusCode()).isEqualTo(HttpStatus.CREATED);
+        assertThat(second.getResponse().getStatusCode()).isEqualTo(HttpStatus.CREATED);
+    }
+
+    @Test
+    void shouldRejectKeyReusedForDifferentCommand() {
+        StepVerifier.create(filter.filter(exchange("/api/orders", "key-003"), createdChain(Duration.ZERO)))
+            .verifyComplete();
+
+        MockServerWebExchange reused = exchange("/api/orders/order-001/confirm", "key-003");
+        StepVerifier.create(filter.filter(reused, createdChain(Duration.ZERO))).verifyComplete();
+
+        assertThat(executions.get()).isEqualTo(1);
+        assertThat(reused.getResponse().getStatusCode()).isEqualTo(HttpStatus.UNPROCESSABLE_ENTITY);
+    }
+
+    @Test
+    void shouldRejectKeyReusedWithDifferentBody() {
+        StepVerifier.create(filter.filter(exchange("/api/orders", "key-005", "{\"quantity\":1}"),
+                createdChain(Duration.ZERO)))
+            .verifyComplete();
+
+        MockServerWebExchange reused = exchange("/api/orders", "key-005", "{\"quantity\":2}");
+        StepVerifier.create(filter.filter(reused, createdChain(Duration.ZERO))).verifyComplete();
+
+        assertThat(executions.get()).isEqualTo(1);
+        assertThat(reused.getResponse().getStatusCode()).isEqualTo(HttpStatus.UNPROCESSABLE_ENTITY);
+    }
+
+    @Test
+    void shouldPassBodyOnToTheChain() {
+        WebFilterChain echoing = exchange -> DataBufferUtils.join(exchange.getRequest().getBody())
+            .map(buffer -> buffer.toString(StandardCharsets.UTF_8))
+            .flatMap(body -> {
+                exchange.getResponse().setStatusCode(HttpStatus.CREATED);
+                return exchange.getResponse().writeWith(Mono.just(exchange.getResponse().bufferFactory()
+                    .wrap(body.getBytes(StandardCharsets.UTF_8))));
+            });
+        MockServerWebExchange exchange = exchange("/api/orders", "key-006", "{\"quantity\":1}");
+
+        StepVerifier.create(filter.filter(exchange, echoing)).verifyComplete();
+
+        StepVerifier.create(exchange.getResponse().getBodyAsString())
+            .expectNext("{\"quantity\":1}")
+            .verifyComplete();
+    }
+
+    @Test
+    void shouldRunRequestWhoseInFlightExecutionWasCancelled() {
+        MockServerWebExchange abandoned = exchange("/api/orders", "key-007");
+        MockServerWebExchange waiting = exchange("/api/orders", "key-007");
+        Disposable first = filter.filter(abandoned, createdChain(Duration.ofSeconds(10))).subscribe();
+
+        StepVerifier.create(filter.filter(waiting, createdChain(Duration.ZERO)))
+            .then(first::dispose)
+            .expectComplete()
+            .verify(Duration.ofSeconds(5));
+
+        assertThat(executions.get()).isEqualTo(1);
+        assertThat(waiting.getResponse().getStatusCode()).isEqualTo(HttpStatus.CREATED);
+        assertThat(store.responses).containsKey("key-007");
+    }
+
+    @Test
+    void shouldPassThroughRequestsWithoutKey() {
+        MockServerWebExchange first = exchange("/api/orders", null);
+        MockServerWebExchange second = exchange("/api/orders", null);
+
+        StepVerifier.create(filter.filter(first, createdChain(Duration.ZERO))).verifyComplete();
+        StepVerifier.create(filter.filter(second, createdChain(Duration.ZERO))).verifyComplete();
+
+        assertThat(executions.get()).isEqualTo(2);
+        assertThat(store.responses).isEmpty();
+    }
+
+    @Test
+    void shouldStreamKeyedBulkTransitionsAsTheyProgress() {
+        Sinks.Many<String> progress = Sinks.many().unicast().onBackpressureBuffer();
+        WebFilterChain streaming = exchange -> {
+            executions.incrementAndGet();
+            exchange.getResponse().getHeaders().setContentType(MediaType.APPLICATION_NDJSON);
+            return exchange.getResponse().writeWith(progress.asFlux()
+                .map(line -> exchange.getResponse().bufferFactory().wrap(line.getBytes(StandardCharsets.UTF_8))));
+        };
+        MockServerWebExchange exchange = exchange("/api/orders/bulk/confirm", "key-008", "{\"orderIds\":[]}");
+        Disposable running = filter.filter(exchange, streaming).subscribe();
+
+        progress.tryEmitNext("{\"processed\":1}\n");
+
+        // The first line is out while the stream is still open
+        StepVerifier.create(exchange.getResponse().getBody().map(buffer -> buffer.toString(StandardCharsets.UTF_8)))
+            .expectNext("{\"processed\":1}\n")
+            .thenCancel()
+            .verify(Duration.ofSeconds(5));
+        progress.tryEmitComplete();
+        running.dispose();
+
+        assertThat(executions.get()).isEqualTo(1);
+        assertThat(store.responses).isEmpty();
+    }
+
+    @Test
+    void shouldNotRecordFailedResponses() {
+        WebFilterChain failing = exchange -> {
+            executions.incrementAndGet();
+            exchange.getResponse().setStatusCode(HttpStatus.INTERNAL_SERVER_ERROR);
+            return exchange.getResponse().setComplete();
+        };
+
+        StepVerifier.create(filter.filter(exchange("/api/orders", "key-004"), failing)).verifyComplete();
+        StepVerifier.create(filter.filter(exchange("/api/orders", "key-004"), failing)).verifyComplete();
+
+        assertThat(executions.get()).isEqualTo(2);
+        assertThat(store.responses).isEmpty();
+    }
+
+    private MockServerWebExchange exchange(String path, String key) {
+        return exchange(path, key, null);
+    }
+
+    private MockServerWebExchange exchange(String path, String key, String body) {
+        MockServerHttpRequest.BodyBuilder request = MockServerHttpRequest.post(path);
+        if (key != null) {
+            request.header(IdempotencyWebFilter.IDEMPOTENCY_KEY_HEADER, key);
+        }
+        return MockServerWebExchange.from(body != null ? request.body(body) : request.build());
+    }
+
+    private WebFilterChain createdChain(Duration latency) {
+        return exchange -> Mono.delay(latency).then(Mono.defer(() -> {
+            executions.incrementAndGet();
+            exchange.getResponse().setStatusCode(HttpStatus.CREATED);
+            exchange.getResponse().getHeaders().setContentType(MediaType.APPLICATION_JSON);
+            byte[] body = "{\"orderId\":\"order-001\"}".getBytes(StandardCharsets.UTF_8);
+            return exchange.getResponse().writeWith(Mono.just(exchange.getResponse().bufferFactory().wrap(body)));
+        }));
+    }
+
+    private static final class InMemoryIdempotencyStore implements IdempotencyStore {
+        private final Map<String, IdempotentResponse> responses = new ConcurrentHashMap<>();
+
+        @Override
+        public Mono<IdempotentResponse> find(String idempotencyKey) {
+            return Mono.justOrEmpty(responses.get(idempotencyKey));
+        }
+
+        @Override
+        public Mono<Void> save(String idempotencyKey, IdempotentResponse response) {
+            responses.put(idempotencyKey, response);
+            return Mono.empty();
+        }
+    }
+}
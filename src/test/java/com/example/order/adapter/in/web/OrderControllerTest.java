@@ -0,0 +1,87 @@
+package com.example.order.adapter.in.web;
+
+import com.example.order.application.dto.ApplyDiscountCommand;
+import com.example.order.application.port.in.CreateOrderUseCase;
+import com.example.order.application.port.in.QuoteOrderUseCase;
+import com.example.order.application.port.out.OrderQueryPort;
+import com.example.order.application.service.ApplyDiscountHandler;
+import com.example.order.application.service.BulkOrderTransitionHandler;
+import com.example.order.application.service.CancelOrderHandler;
+import com.example.order.application.service.ConfirmOrderHandler;
+import com.example.order.application.service.JournaledOrderCommandService;
+import com.example.order.application.service.OrderCommandDispatcher;
+import com.example.order.application.service.OrderSummaryCache;
+import com.example.order.application.service.PayOrderHandler;
+import com.example.order.domain.model.Order;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class OrderControllerTest {
+
+    @Mock
+    private ApplyDiscountHandler applyDiscountHandler;
+
+    @Mock
+    private ObjectProvider<JournaledOrderCommandService> journaledCommandService;
+
+    private OrderController controller;
+
+    @BeforeEach
+    void setUp() {
+        controller = new OrderController(
+            mock(CreateOrderUseCase.class),
+            mock(QuoteOrderUseCase.class),
+            mock(ConfirmOrderHandler.class),
+            mock(PayOrderHandler.class),
+            mock(CancelOrderHandler.class),
+            applyDiscountHandler,
+            mock(BulkOrderTransitionHandler.class),
+            new OrderCommandDispatcher(new SimpleMeterRegistry(), 4),
+            mock(OrderQueryPort.class),
+            mock(OrderSummaryCache.class),
+            journaledCommandService
+        );
+    }
+
+    @Test
+    void shouldApplyDiscountToTheOrderInThePath() {
+        Order order = mock(Order.class);
+        when(applyDiscountHandler.handle(any(ApplyDiscountCommand.class))).thenReturn(Mono.just(order));
+
+        StepVerifier.create(controller.applyDiscount("order-001", new ApplyDiscountCommand(null, BigDecimal.TEN)))
+            .assertNext(response -> assertThat(response.getData()).isSameAs(order))
+            .verifyComplete();
+
+        ArgumentCaptor<ApplyDiscountCommand> captor = ArgumentCaptor.forClass(ApplyDiscountCommand.class);
+        verify(applyDiscountHandler).handle(captor.capture());
+        assertThat(captor.getValue().orderId()).isEqualTo("order-001");
+        assertThat(captor.getValue().discountPercentage()).isEqualByComparingTo(BigDecimal.TEN);
+    }
+
+    @Test
+    void shouldRejectDiscountNamingAnotherOrderThanThePath() {
+        StepVerifier.create(controller.applyDiscount("order-001", new ApplyDiscountCommand("order-002", BigDecimal.TEN)))
+            .expectError(IllegalArgumentException.class)
+            .verify();
+
+        verify(applyDiscountHandler, never()).handle(any());
+    }
+}
@@ -0,0 +1,28 @@
+package com.example.order.adapter.in.web.dto;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class OrderListCursorTest {
+
+    @Test
+    void shouldRoundTripPositionThroughOpaqueToken() {
+        OrderListCursor cursor = new OrderListCursor(Instant.parse("2024-03-01T12:00:00.123456Z"),
+            "0190a1b2-c3d4-7e5f-8a9b-0c1d2e3f4a5b");
+
+        String token = cursor.encode();
+
+        assertThat(token).doesNotContain(cursor.orderId()).doesNotContain("=");
+        assertThat(OrderListCursor.decode(token)).isEqualTo(cursor);
+    }
+
+    @Test
+    void shouldRejectMalformedToken() {
+        assertThatThrownBy(() -> OrderListCursor.decode("not a cursor"))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,139 @@
+package com.example.order.adapter.out.journal;
+
+import com.example.order.application.dto.CreateOrderCommand;
+import com.example.order.application.dto.JournaledCommand;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import reactor.test.StepVerifier;
+
+import java.io.RandomAccessFile;
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MappedCommandJournalTest {
+
+    private static final int CAPACITY = 64 * 1024;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void shouldHandOutAppendedCommandsInOrder() throws Exception {
+        MappedCommandJournal journal = open();
+
+        JournaledCommand first = journal.append(command("customer-1")).block();
+        JournaledCommand second = journal.append(command("customer-2")).block();
+
+        StepVerifier.create(journal.poll(10))
+                .assertNext(polled -> {
+                    assertThat(polled.commandId()).isEqualTo(first.commandId());
+                    assertThat(polled.command().customerId()).isEqualTo("customer-1");
+                    assertThat(polled.command().items().get(0).unitPrice()).isEqualByComparingTo("12.50");
+                })
+                .assertNext(polled -> assertThat(polled.sequence()).isEqualTo(second.sequence()))
+                .verifyComplete();
+        journal.close();
+    }
+
+    @Test
+    void shouldReplayOnlyUnacknowledgedCommandsAfterRestart() throws Exception {
+        MappedCommandJournal journal = open();
+        journal.append(command("customer-1")).block();
+        journal.append(command("customer-2")).block();
+        journal.append(command("customer-3")).block();
+        List<JournaledCommand> polled = journal.poll(10).collectList().block();
+        journal.acknowledge(polled.get(0).sequence()).block();
+        journal.close();
+
+        MappedCommandJournal reopened = open();
+
+        assertThat(reopened.poll(10).collectList().block())
+                .extracting(replayed -> replayed.command().customerId())
+                .containsExactly("customer-2", "customer-3");
+        JournaledCommand next = reopened.append(command("customer-4")).block();
+        assertThat(next.sequence()).isGreaterThan(polled.get(2).sequence());
+        reopened.close();
+    }
+
+    @Test
+    void shouldDropTornRecordDuringRecovery() throws Exception {
+        MappedCommandJournal journal = open();
+        journal.append(command("customer-1")).block();
+        journal.append(command("customer-2")).block();
+        journal.close();
+
+        try (RandomAccessFile file = new RandomAccessFile(directory.resolve("order-commands.journal").toFile(), "rw")) {
+            long lastByte = lastNonZeroByte(file);
+            file.seek(lastByte);
+            file.write(file.read() ^ 0xFF);
+        }
+
+        MappedCommandJournal reopened = open();
+
+        assertThat(reopened.poll(10).collectList().block())
+                .extracting(replayed -> replayed.command().customerId())
+                .containsExactly("customer-1");
+        reopened.close();
+    }
+
+    @Test
+    void shouldRedeliverCommandsAfterRewind() throws Exception {
+        MappedCommandJournal journal = open();
+        journal.append(command("customer-1")).block();
+
+        assertThat(journal.poll(10).collectList().block()).hasSize(1);
+        assertThat(journal.poll(10).collectList().block()).isEmpty();
+
+        journal.rewind();
+
+        assertThat(journal.poll(10).collectList().block()).hasSize(1);
+        journal.close();
+    }
+
+    @Test
+    void shouldWrapAroundOnceEverythingIsAcknowledged() throws Exception {
+        MappedCommandJournal journal = open();
+        int appended = 0;
+        while (journal.append(command("customer-" + appended)).block() != null) {
+            appended++;
+        }
+        assertThat(appended).isPositive();
+
+        List<JournaledCommand> polled = journal.poll(Integer.MAX_VALUE).collectList().block();
+        assertThat(polled).hasSize(appended);
+        journal.acknowledge(polled.get(polled.size() - 1).sequence()).block();
+
+        JournaledCommand wrapped = journal.append(command("customer-wrapped")).block();
+
+        assertThat(wrapped).isNotNull();
+        assertThat(journal.poll(10).collectList().block())
+                .extracting(replayed -> replayed.command().customerId())
+                .containsExactly("customer-wrapped");
+        journal.close();
+    }
+
+    private MappedCommandJournal open() {
+        return new MappedCommandJournal(objectMapper, directory.toString(), CAPACITY);
+    }
+
+    private static long lastNonZeroByte(RandomAccessFile file) throws Exception {
+        long position = file.length() - 1;
+        file.seek(position);
+        while (position > 0 && file.read() == 0) {
+            file.seek(--position);
+        }
+        return position;
+    }
+
+    private static CreateOrderCommand command(String customerId) {
+        return new CreateOrderCommand(customerId, customerId + "@example.com", List.of(
+                new CreateOrderCommand.OrderItemCommand("prod-001", "Product A", 2, new BigDecimal("12.50"), "USD")
+        ));
+    }
+}
@@ -0,0 +1,82 @@
+package com.example.order.adapter.out.messaging;
+
+import com.example.order.application.dto.OrderInvalidationBatch;
+import com.example.order.domain.event.OrderConfirmedEvent;
+import com.example.order.domain.event.OrderPaidEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.amqp.core.AmqpTemplate;
+
+import java.time.Instant;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class OrderInvalidationPublisherTest {
+
+    @Mock
+    private AmqpTemplate amqpTemplate;
+
+    private SimpleMeterRegistry meterRegistry;
+    private OrderInvalidationPublisher publisher;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        publisher = new OrderInvalidationPublisher(amqpTemplate, meterRegistry, "order.cache.invalidation", "node-a", 3);
+    }
+
+    @Test
+    void shouldCoalesceEventsForOneOrderIntoItsLatestVersion() {
+        Instant confirmedAt = Instant.ofEpochMilli(1_000);
+        Instant paidAt = Instant.ofEpochMilli(2_000);
+
+        publisher.onCommitted(new OrderPaidEvent("order-001", paidAt));
+        publisher.onCommitted(new OrderConfirmedEvent("order-001", confirmedAt));
+        publisher.onCommitted(new OrderConfirmedEvent("order-002", confirmedAt));
+        publisher.flush();
+
+        OrderInvalidationBatch batch = sentBatch();
+        assertThat(batch.sourceNode()).isEqualTo("node-a");
+        assertThat(batch.versions()).isEqualTo(Map.of("order-001", 2_000L, "order-002", 1_000L));
+        assertThat(meterRegistry.get("order.cache.invalidation.coalesced").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void shouldFlushAsSoonAsBatchIsFull() {
+        Instant now = Instant.now();
+
+        publisher.onCommitted(new OrderConfirmedEvent("order-001", now));
+        publisher.onCommitted(new OrderConfirmedEvent("order-002", now));
+        verify(amqpTemplate, never()).convertAndSend(any(String.class), any(String.class), any(Object.class));
+
+        publisher.onCommitted(new OrderConfirmedEvent("order-003", now));
+
+        assertThat(sentBatch().versions()).containsOnlyKeys("order-001", "order-002", "order-003");
+        assertThat(publisher.pendingCount()).isZero();
+    }
+
+    @Test
+    void shouldNotPublishWhenNothingIsPending() {
+        publisher.flush();
+
+        verify(amqpTemplate, never()).convertAndSend(any(String.class), any(String.class), any(Object.class));
+    }
+
+    private OrderInvalidationBatch sentBatch() {
+        ArgumentCaptor<Object> message = ArgumentCaptor.forClass(Object.class);
+        verify(amqpTemplate, timeout(1000)).convertAndSend(eq("order.cache.invalidation"), eq(""), message.capture());
+        return (OrderInvalidationBatch) message.getValue();
+    }
+}
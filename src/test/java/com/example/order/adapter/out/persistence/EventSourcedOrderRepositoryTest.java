@@ -0,0 +1,165 @@
+package com.example.order.adapter.out.persistence;
+
+import com.example.common.domain.event.DomainEvent;
+import com.example.common.domain.event.StoredEvent;
+import com.example.common.domain.port.DomainEventStore;
+import com.example.common.domain.valueobject.Email;
+import com.example.common.domain.valueobject.Money;
+import com.example.order.domain.event.OrderConfirmedEvent;
+import com.example.order.domain.event.OrderDeletedEvent;
+import com.example.order.domain.model.Order;
+import com.example.order.domain.model.OrderItem;
+import com.example.order.domain.model.OrderStatus;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.smallrye.mutiny.Uni;
+import org.hibernate.reactive.mutiny.Mutiny;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class EventSourcedOrderRepositoryTest {
+
+    @Mock
+    private Mutiny.SessionFactory sessionFactory;
+
+    @Mock
+    private DomainEventStore eventStore;
+
+    @Mock
+    private EventStoreOutboxRelay outboxRelay;
+
+    @Mock
+    private ApplicationEventPublisher committedEvents;
+
+    private EventSourcedOrderRepository repository;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        repository = new EventSourcedOrderRepository(sessionFactory, eventStore, outboxRelay, committedEvents,
+            new ObjectMapper().findAndRegisterModules(), 50);
+        // No snapshot: the creation snapshot write failed after the append
+        lenient().when(sessionFactory.withSession(any(Function.class))).thenReturn(Uni.createFrom().nullItem());
+    }
+
+    @Test
+    void shouldReplayWholeStreamWhenNoSnapshotExists() {
+        Order created = order();
+        created.confirm();
+        when(eventStore.loadEvents(created.getId())).thenReturn(stream(created));
+
+        StepVerifier.create(repository.findById(created.getId()))
+            .assertNext(order -> {
+                assertThat(order.getStatus()).isEqualTo(OrderStatus.CONFIRMED);
+                assertThat(order.getItems()).hasSize(1);
+                assertThat(order.getStreamVersion()).isEqualTo(2);
+            })
+            .verifyComplete();
+    }
+
+    @Test
+    void shouldNotFindOrderWithoutEvents() {
+        when(eventStore.loadEvents("missing")).thenReturn(Flux.empty());
+
+        StepVerifier.create(repository.findById("missing")).verifyComplete();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldDeleteByAppendingTombstone() {
+        Order created = order();
+        when(eventStore.loadEvents(created.getId())).thenReturn(stream(created));
+        when(eventStore.append(eq(created.getId()), eq(1L), anyList())).thenReturn(Mono.just(2L));
+
+        StepVerifier.create(repository.deleteById(created.getId())).verifyComplete();
+
+        ArgumentCaptor<List<DomainEvent>> appended = ArgumentCaptor.forClass(List.class);
+        verify(eventStore).append(eq(created.getId()), eq(1L), appended.capture());
+        assertThat(appended.getValue()).singleElement().isInstanceOf(OrderDeletedEvent.class);
+        verify(committedEvents).publishEvent(any(OrderDeletedEvent.class));
+        verify(outboxRelay).requestRun();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldLeaveOrdersChangedSinceTheyWereLoadedOutOfBatchTransitions() {
+        Order stale = loaded(order());
+        Order current = loaded(order());
+        stale.confirm();
+        current.confirm();
+        when(eventStore.append(eq(stale.getId()), eq(1L), anyList()))
+            .thenReturn(Mono.error(new IllegalStateException("Expected version 1 but found 2")));
+        when(eventStore.append(eq(current.getId()), eq(1L), anyList())).thenReturn(Mono.just(2L));
+
+        StepVerifier.create(repository.saveAllStatusChanges(List.of(stale, current)))
+            .assertNext(saved -> assertThat(saved).containsExactly(current))
+            .verifyComplete();
+
+        verify(committedEvents).publishEvent(any(OrderConfirmedEvent.class));
+        verify(outboxRelay).requestRun();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldLeavePublishingToTheRelay() {
+        Order loaded = loaded(order());
+        loaded.confirm();
+        when(eventStore.append(eq(loaded.getId()), eq(1L), anyList())).thenReturn(Mono.just(2L));
+
+        StepVerifier.create(repository.save(loaded))
+            .assertNext(saved -> assertThat(saved.getStreamVersion()).isEqualTo(2))
+            .verifyComplete();
+
+        verify(outboxRelay).requestRun();
+        assertThat(loaded.getRawEvents()).isEmpty();
+    }
+
+    @Test
+    void shouldNotFindDeletedOrder() {
+        Order created = order();
+        StoredEvent tombstone = new StoredEvent(2, created.getId(), 2, new OrderDeletedEvent(created.getId(), Instant.now()));
+        when(eventStore.loadEvents(created.getId())).thenReturn(stream(created).concatWithValues(tombstone));
+
+        StepVerifier.create(repository.findById(created.getId())).verifyComplete();
+    }
+
+    private static Flux<StoredEvent> stream(Order order) {
+        List<Object> events = List.copyOf(order.getRawEvents());
+        return Flux.range(0, events.size())
+            .map(i -> new StoredEvent(i + 1, order.getId(), i + 1, (DomainEvent) events.get(i)));
+    }
+
+    /**
+     * The order as loaded after its creation was appended as version 1.
+     */
+    private static Order loaded(Order created) {
+        created.markStreamVersion(1);
+        created.clearEvents();
+        return created;
+    }
+
+    private static Order order() {
+        return Order.create("customer-001", Email.of("test@example.com"),
+            List.of(OrderItem.of("prod-001", "Product A", 2, Money.of(50, "USD"))));
+    }
+}
@@ -0,0 +1,117 @@
+package com.example.order.adapter.out.persistence;
+
+import com.example.common.domain.event.DomainEvent;
+import com.example.common.domain.event.StoredEvent;
+import com.example.common.domain.port.DomainEventPublisher;
+import com.example.common.domain.port.DomainEventStore;
+import com.example.order.domain.event.OrderDeletedEvent;
+import io.smallrye.mutiny.Uni;
+import org.hibernate.reactive.mutiny.Mutiny;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Instant;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class EventStoreOutboxRelayTest {
+
+    @Mock
+    private Mutiny.SessionFactory sessionFactory;
+
+    @Mock
+    private Mutiny.Session session;
+
+    @Mock
+    private DomainEventStore eventStore;
+
+    @Mock
+    private DomainEventPublisher eventPublisher;
+
+    private EventStoreOutboxRelay relay;
+
+    @BeforeEach
+    void setUp() {
+        relay = new EventStoreOutboxRelay(sessionFactory, eventStore, eventPublisher, 2, "order-outbox");
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldPublishFromTheCheckpointAndMoveItPastEachBatch() {
+        when(eventStore.loadRange(7L, 2)).thenReturn(Flux.just(stored(7), stored(9)));
+        when(eventStore.loadRange(10L, 2)).thenReturn(Flux.just(stored(10)));
+        when(eventPublisher.publishAll(anyList())).thenReturn(Mono.empty());
+        when(session.merge(any(EventStoreCheckpointRecord.class)))
+            .thenAnswer(invocation -> Uni.createFrom().item(invocation.getArgument(0)));
+        when(sessionFactory.withTransaction(any(BiFunction.class))).thenAnswer(invocation ->
+            ((BiFunction<Mutiny.Session, Mutiny.Transaction, Uni<?>>) invocation.getArgument(0)).apply(session, null));
+        // The second batch starts where the first one moved the checkpoint
+        when(sessionFactory.withSession(any(Function.class)))
+            .thenReturn(Uni.createFrom().item(checkpoint(7L)), Uni.createFrom().item(checkpoint(10L)));
+
+        StepVerifier.create(relay.relay())
+            .expectNext(3L)
+            .verifyComplete();
+
+        ArgumentCaptor<EventStoreCheckpointRecord> saved = ArgumentCaptor.forClass(EventStoreCheckpointRecord.class);
+        verify(session, times(2)).merge(saved.capture());
+        assertThat(saved.getAllValues()).extracting(EventStoreCheckpointRecord::getNextOffset).containsExactly(10L, 11L);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldKeepTheCheckpointWhenPublishingFails() {
+        checkpointAt(0L);
+        when(eventStore.loadRange(0L, 2)).thenReturn(Flux.just(stored(0)));
+        when(eventPublisher.publishAll(anyList())).thenReturn(Mono.error(new IllegalStateException("outbox down")));
+
+        StepVerifier.create(relay.relay())
+            .expectError(IllegalStateException.class)
+            .verify();
+
+        verify(sessionFactory, never()).withTransaction(any(BiFunction.class));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldStartFromTheBeginningWithoutCheckpoint() {
+        when(sessionFactory.withSession(any(Function.class))).thenReturn(Uni.createFrom().nullItem());
+        when(eventStore.loadRange(0L, 2)).thenReturn(Flux.empty());
+
+        StepVerifier.create(relay.relay())
+            .expectNext(0L)
+            .verifyComplete();
+
+        verify(eventPublisher, never()).publishAll(anyList());
+    }
+
+    @SuppressWarnings("unchecked")
+    private void checkpointAt(long nextOffset) {
+        when(sessionFactory.withSession(any(Function.class))).thenReturn(Uni.createFrom().item(checkpoint(nextOffset)));
+    }
+
+    private static EventStoreCheckpointRecord checkpoint(long nextOffset) {
+        return new EventStoreCheckpointRecord("order-outbox", nextOffset, Instant.now());
+    }
+
+    private static StoredEvent stored(long offset) {
+        DomainEvent event = new OrderDeletedEvent("order-" + offset, Instant.now());
+        return new StoredEvent(offset, event.aggregateId(), 1, event);
+    }
+}
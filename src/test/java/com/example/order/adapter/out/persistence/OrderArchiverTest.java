@@ -0,0 +1,119 @@
+package com.example.order.adapter.out.persistence;
+
+import com.example.order.domain.model.OrderStatus;
+import io.smallrye.mutiny.Uni;
+import org.hibernate.reactive.mutiny.Mutiny;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.stubbing.Answer;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiFunction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.RETURNS_SELF;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class OrderArchiverTest {
+
+    private static final Instant CUTOFF = Instant.parse("2024-01-01T00:00:00Z");
+
+    @Mock
+    private Mutiny.SessionFactory sessionFactory;
+
+    @Mock
+    private Mutiny.Session session;
+
+    @Mock
+    private OrderCounters orderCounters;
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldStopAtTheFirstShortBatch() {
+        when(sessionFactory.withTransaction(any(BiFunction.class))).thenReturn(
+            Uni.createFrom().item(2L),
+            Uni.createFrom().item(2L),
+            Uni.createFrom().item(1L));
+
+        StepVerifier.create(archiver(2, 10).archive(CUTOFF))
+            .expectNext(5L)
+            .verifyComplete();
+
+        verify(sessionFactory, times(3)).withTransaction(any(BiFunction.class));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldStopAtTheBatchCapWhileBatchesComeBackFull() {
+        when(sessionFactory.withTransaction(any(BiFunction.class))).thenReturn(Uni.createFrom().item(2L));
+
+        StepVerifier.create(archiver(2, 3).archive(CUTOFF))
+            .expectNext(6L)
+            .verifyComplete();
+
+        verify(sessionFactory, times(3)).withTransaction(any(BiFunction.class));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldMoveLinesBeforeOrdersAndReduceTheLiveCounts() {
+        Mutiny.Query<Object[]> select = mock(Mutiny.Query.class, RETURNS_SELF);
+        Mutiny.Query<Object> mutation = mock(Mutiny.Query.class, RETURNS_SELF);
+        doReturn(select).when(session).createNativeQuery(anyString(), eq(Object[].class));
+        doReturn(mutation).when(session).createNativeQuery(anyString());
+        when(select.getResultList()).thenReturn(Uni.createFrom().item(List.of(
+            new Object[]{"order-1", OrderStatus.DELIVERED.code()},
+            new Object[]{"order-2", OrderStatus.CANCELLED.code()})));
+        when(mutation.executeUpdate()).thenReturn(Uni.createFrom().item(2));
+        when(orderCounters.record(any(), any())).thenReturn(Uni.createFrom().voidItem());
+        when(sessionFactory.withTransaction(any(BiFunction.class))).thenAnswer(inTransaction());
+
+        StepVerifier.create(archiver(10, 5).archive(CUTOFF))
+            .expectNext(2L)
+            .verifyComplete();
+
+        ArgumentCaptor<String> statements = ArgumentCaptor.forClass(String.class);
+        verify(session, times(4)).createNativeQuery(statements.capture());
+        assertThat(statements.getAllValues()).satisfiesExactly(
+            sql -> assertThat(sql).startsWith("insert into order_items_archive").endsWith("where order_id in (?, ?)"),
+            sql -> assertThat(sql).startsWith("insert into orders_archive").endsWith("where id in (?, ?)"),
+            sql -> assertThat(sql).isEqualTo("delete from order_items where order_id in (?, ?)"),
+            sql -> assertThat(sql).isEqualTo("delete from orders where id in (?, ?)"));
+        verify(mutation, times(4)).setParameter(1, "order-1");
+        verify(mutation, times(4)).setParameter(2, "order-2");
+        verify(select).setParameter(3, CUTOFF);
+        verify(orderCounters).record(session, Map.of(OrderStatus.DELIVERED, -1L, OrderStatus.CANCELLED, -1L));
+    }
+
+    @Test
+    void shouldBuildOnePlaceholderPerValue() {
+        assertThat(OrderArchiver.inList(1)).isEqualTo("(?)");
+        assertThat(OrderArchiver.inList(3)).isEqualTo("(?, ?, ?)");
+    }
+
+    private OrderArchiver archiver(int batchSize, int maxBatchesPerRun) {
+        return new OrderArchiver(sessionFactory, orderCounters, Duration.ofDays(30), batchSize, Duration.ZERO,
+            maxBatchesPerRun);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Answer<Uni<?>> inTransaction() {
+        return invocation -> ((BiFunction<Mutiny.Session, Mutiny.Transaction, Uni<?>>) invocation.getArgument(0))
+            .apply(session, null);
+    }
+}
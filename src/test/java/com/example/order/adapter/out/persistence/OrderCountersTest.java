@@ -0,0 +1,67 @@
+package com.example.order.adapter.out.persistence;
+
+import com.example.common.domain.valueobject.Email;
+import com.example.common.domain.valueobject.Money;
+import com.example.order.domain.model.Order;
+import com.example.order.domain.model.OrderItem;
+import com.example.order.domain.model.OrderStatus;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class OrderCountersTest {
+
+    @Test
+    void shouldCountNewOrdersInTheirStatus() {
+        assertThat(OrderCounters.statusChanges(List.of(order(), order())))
+            .isEqualTo(Map.of(OrderStatus.PENDING, 2L));
+    }
+
+    @Test
+    void shouldMoveChangedOrdersOutOfTheirPersistedStatus() {
+        Order confirmed = persisted(order());
+        confirmed.confirm();
+        Order cancelled = persisted(order());
+        cancelled.cancel("changed mind");
+
+        assertThat(OrderCounters.statusChanges(List.of(confirmed, cancelled)))
+            .isEqualTo(Map.of(OrderStatus.PENDING, -2L, OrderStatus.CONFIRMED, 1L, OrderStatus.CANCELLED, 1L));
+    }
+
+    @Test
+    void shouldIgnoreOrdersSavedWithoutStatusChange() {
+        Order discounted = persisted(order());
+        discounted.applyDiscount(new BigDecimal("0.10"));
+
+        assertThat(OrderCounters.statusChanges(List.of(discounted))).isEmpty();
+    }
+
+    @Test
+    void shouldCorrectStatusesWhoseStripesDoNotAddUpToTheRecount() {
+        List<Object[]> counterRows = List.of(
+            new Object[]{OrderStatus.PENDING.code(), 0, 5L},
+            new Object[]{OrderStatus.PENDING.code(), 1, 2L},
+            new Object[]{OrderStatus.CONFIRMED.code(), 0, 3L},
+            new Object[]{OrderStatus.CANCELLED.code(), 0, 1L});
+
+        Map<OrderStatus, Long> corrections = OrderCounters.corrections(counterRows,
+            Map.of(OrderStatus.PENDING, 6L, OrderStatus.CONFIRMED, 3L, OrderStatus.PAID, 2L));
+
+        assertThat(corrections).isEqualTo(Map.of(
+            OrderStatus.PENDING, -1L, OrderStatus.PAID, 2L, OrderStatus.CANCELLED, -1L));
+    }
+
+    private static Order persisted(Order order) {
+        order.markPersisted();
+        return order;
+    }
+
+    private static Order order() {
+        return Order.create("customer-1", Email.of("customer@example.com"),
+            List.of(OrderItem.of("prod-001", "Product A", 1, Money.of(10, "USD"))));
+    }
+}
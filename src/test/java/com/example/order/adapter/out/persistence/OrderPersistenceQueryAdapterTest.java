@@ -0,0 +1,266 @@
+package com.example.order.adapter.out.persistence;
+
+import com.example.common.adapter.out.persistence.ReplicaRouter;
+import com.example.common.domain.valueobject.Email;
+import com.example.common.domain.valueobject.Money;
+import com.example.order.application.dto.CustomerOrderStatsResult;
+import com.example.order.domain.exception.BusinessException;
+import com.example.order.domain.model.Order;
+import com.example.order.domain.model.OrderItem;
+import com.example.order.domain.model.OrderStatus;
+import io.smallrye.mutiny.Uni;
+import org.hibernate.reactive.mutiny.Mutiny;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.stubbing.Answer;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.RETURNS_SELF;
+import static org.mockito.Mockito.atMost;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class OrderPersistenceQueryAdapterTest {
+
+    @Mock
+    private Mutiny.SessionFactory sessionFactory;
+
+    @Mock
+    private OrderCounters orderCounters;
+
+    @Mock
+    private Mutiny.Session session;
+
+    private static final Instant T0 = Instant.parse("2024-01-01T00:00:00Z");
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldFetchNextChunkOnlyAsDemandReachesIt() {
+        List<Order> orders = IntStream.range(0, 5).mapToObj(i -> order()).toList();
+        when(sessionFactory.withSession(any(Function.class))).thenReturn(
+            Uni.createFrom().item(orders.subList(0, 2)),
+            Uni.createFrom().item(orders.subList(2, 4)),
+            Uni.createFrom().item(orders.subList(4, 5)));
+        OrderPersistenceQueryAdapter adapter = new OrderPersistenceQueryAdapter(ReplicaRouter.primaryOnly(sessionFactory), orderCounters, true, 2);
+
+        StepVerifier.create(adapter.findByStatus(OrderStatus.PENDING), 1)
+            .expectNext(orders.get(0))
+            .then(() -> verify(sessionFactory, atMost(2)).withSession(any(Function.class)))
+            .thenRequest(Long.MAX_VALUE)
+            .expectNextSequence(orders.subList(1, 5))
+            .verifyComplete();
+
+        verify(sessionFactory, times(3)).withSession(any(Function.class));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldStopAtPageSizeAcrossChunks() {
+        List<Order> orders = IntStream.range(0, 4).mapToObj(i -> order()).toList();
+        when(sessionFactory.withSession(any(Function.class))).thenReturn(
+            Uni.createFrom().item(orders.subList(0, 2)),
+            Uni.createFrom().item(orders.subList(2, 3)));
+        OrderPersistenceQueryAdapter adapter = new OrderPersistenceQueryAdapter(ReplicaRouter.primaryOnly(sessionFactory), orderCounters, true, 2);
+
+        StepVerifier.create(adapter.findAll(0, 3))
+            .expectNextSequence(orders.subList(0, 3))
+            .verifyComplete();
+
+        verify(sessionFactory, times(2)).withSession(any(Function.class));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldMapArchivedRowsToOrdersWhenTheLiveTableHasNone() {
+        Mutiny.Query<Object[]> orders = nativeQuery("select id, customer_id");
+        Mutiny.Query<Object[]> items = nativeQuery("select order_id");
+        when(session.find(Order.class, "order-9")).thenReturn(Uni.createFrom().nullItem());
+        when(orders.getResultList()).thenReturn(Uni.createFrom().item(List.<Object[]>of(new Object[]{
+            "order-9", "customer-1", "customer@example.com", OrderStatus.DELIVERED.code(), 2500L, (short) 840,
+            250L, (short) 840, Timestamp.from(T0), Timestamp.from(T0.plusSeconds(60)), 3, 2250L})));
+        when(items.getResultList()).thenReturn(Uni.createFrom().item(List.of(
+            new Object[]{"order-9", "prod-001", "Product A", 2, 1000L, (short) 840},
+            new Object[]{"order-9", "prod-002", "Product B", 1, 500L, (short) 840})));
+        when(sessionFactory.withSession(any(Function.class))).thenAnswer(inSession());
+
+        StepVerifier.create(adapter(10).findById("order-9", true))
+            .assertNext(order -> {
+                assertThat(order.getId()).isEqualTo("order-9");
+                assertThat(order.getCustomerId()).isEqualTo("customer-1");
+                assertThat(order.getCustomerEmail().getValue()).isEqualTo("customer@example.com");
+                assertThat(order.getStatus()).isEqualTo(OrderStatus.DELIVERED);
+                assertThat(order.getTotalAmount()).isEqualTo(Money.of(new BigDecimal("25.00"), "USD"));
+                assertThat(order.getDiscountAmount()).isEqualTo(Money.of(new BigDecimal("2.50"), "USD"));
+                assertThat(order.getItems()).extracting(OrderItem::getProductId).containsExactly("prod-001", "prod-002");
+                assertThat(order.getItems().get(0).getUnitPrice()).isEqualTo(Money.of(10, "USD"));
+                assertThat(order.getItemCount()).isEqualTo(3);
+                assertThat(order.getCreatedAt()).isEqualTo(T0);
+                assertThat(order.getUpdatedAt()).isEqualTo(T0.plusSeconds(60));
+            })
+            .verifyComplete();
+        verify(orders).setParameter(1, "order-9");
+        verify(items).setParameter(1, "order-9");
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldContinueArchivedChunksAfterTheLastOrderSeen() {
+        Mutiny.Query<Order> live = liveQuery();
+        Mutiny.Query<Object[]> orders = nativeQuery("select id, customer_id");
+        Mutiny.Query<Object[]> items = nativeQuery("select order_id");
+        when(live.getResultList()).thenReturn(Uni.createFrom().item(List.of()));
+        when(orders.getResultList()).thenReturn(
+            Uni.createFrom().item(List.of(archivedRow("a-1", T0), archivedRow("a-2", T0))),
+            Uni.createFrom().item(List.<Object[]>of(archivedRow("a-3", T0))));
+        when(items.getResultList()).thenReturn(Uni.createFrom().item(List.of()));
+        when(sessionFactory.withSession(any(Function.class))).thenAnswer(inSession());
+
+        StepVerifier.create(adapter(2).findByCustomerId("customer-1", true).map(Order::getId))
+            .expectNext("a-1", "a-2", "a-3")
+            .verifyComplete();
+
+        verify(session).createNativeQuery(
+            "select " + OrderArchiver.ORDER_COLUMNS + " from orders_archive where customer_id = ? order by id", Object[].class);
+        verify(session).createNativeQuery(
+            "select " + OrderArchiver.ORDER_COLUMNS + " from orders_archive where customer_id = ? and id > ? order by id",
+            Object[].class);
+        verify(orders, times(2)).setParameter(1, "customer-1");
+        verify(orders).setParameter(2, "a-2");
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldPageThroughLiveAndArchivedOrdersNewestFirst() {
+        Mutiny.Query<Order> live = liveQuery();
+        Mutiny.Query<Object[]> orders = nativeQuery("select id, customer_id");
+        Mutiny.Query<Object[]> items = nativeQuery("select order_id");
+        when(live.getResultList()).thenReturn(Uni.createFrom().item(List.of(
+            liveOrder("live-5", T0.plusSeconds(5)), liveOrder("live-3", T0.plusSeconds(3)),
+            liveOrder("live-1", T0.plusSeconds(1)))));
+        when(orders.getResultList()).thenReturn(Uni.createFrom().item(List.of(
+            archivedRow("archived-4", T0.plusSeconds(4)), archivedRow("archived-2", T0.plusSeconds(2)))));
+        when(items.getResultList()).thenReturn(Uni.createFrom().item(List.of()));
+        when(sessionFactory.withSession(any(Function.class))).thenAnswer(inSession());
+
+        StepVerifier.create(adapter(10).findAll(1, 2, true).map(Order::getId))
+            .expectNext("live-3", "archived-2")
+            .verifyComplete();
+
+        // Page 1 of size 2 lies within the newest 4 orders of each tier
+        verify(live).setMaxResults(4);
+        verify(orders).setMaxResults(4);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldCountLiveAndArchivedOrders() {
+        Mutiny.Query<Long> archived = mock(Mutiny.Query.class, RETURNS_SELF);
+        doReturn(archived).when(session).createNativeQuery("select count(*) from orders_archive", Long.class);
+        when(archived.getSingleResult()).thenReturn(Uni.createFrom().item(5L));
+        when(orderCounters.count(null)).thenReturn(Mono.just(7L));
+        when(sessionFactory.withSession(any(Function.class))).thenAnswer(inSession());
+
+        StepVerifier.create(adapter(10).count(true))
+            .expectNext(12L)
+            .verifyComplete();
+    }
+
+    @Test
+    void shouldFoldStatsRowsPerStatusAndCurrency() {
+        CustomerOrderStatsResult stats = OrderPersistenceQueryAdapter.toCustomerStats("customer-1", List.of(
+            statsRow(OrderStatus.PENDING, 840, 2, 3000, 3),
+            statsRow(OrderStatus.DELIVERED, 840, 1, 1000, 1),
+            statsRow(OrderStatus.CANCELLED, 978, 1, 500, 2)));
+
+        assertThat(stats.totalOrders()).isEqualTo(4);
+        assertThat(stats.activeOrders()).isEqualTo(2);
+        assertThat(stats.completedOrders()).isEqualTo(1);
+        assertThat(stats.cancelledOrders()).isEqualTo(1);
+        assertThat(stats.totalSpent()).isEqualByComparingTo("40.00");
+        assertThat(stats.averageOrderValue()).isEqualByComparingTo("13.33");
+        assertThat(stats.totalItemsOrdered()).isEqualTo(4);
+        assertThat(stats.currency()).isEqualTo("USD");
+        assertThat(stats.ordersByStatus()).containsEntry(OrderStatus.PENDING, 2L).containsEntry(OrderStatus.PAID, 0L);
+    }
+
+    @Test
+    void shouldScaleStatsAmountsByTheCurrencysMinorUnit() {
+        CustomerOrderStatsResult stats = OrderPersistenceQueryAdapter.toCustomerStats("customer-1", List.of(
+            statsRow(OrderStatus.PAID, 392, 1, 1500, 1)));
+
+        assertThat(stats.totalSpent()).isEqualByComparingTo("1500");
+        assertThat(stats.currency()).isEqualTo("JPY");
+    }
+
+    @Test
+    void shouldRejectCustomersBilledInSeveralCurrencies() {
+        assertThatThrownBy(() -> OrderPersistenceQueryAdapter.toCustomerStats("customer-1", List.of(
+                statsRow(OrderStatus.PENDING, 840, 1, 1000, 1),
+                statsRow(OrderStatus.PENDING, 978, 1, 1000, 1))))
+            .isInstanceOf(BusinessException.class)
+            .hasMessageContaining("EUR, USD");
+    }
+
+    private OrderPersistenceQueryAdapter adapter(int fetchSize) {
+        return new OrderPersistenceQueryAdapter(ReplicaRouter.primaryOnly(sessionFactory), orderCounters, true, fetchSize);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Answer<Uni<?>> inSession() {
+        return invocation -> ((Function<Mutiny.Session, Uni<?>>) invocation.getArgument(0)).apply(session);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Mutiny.Query<Order> liveQuery() {
+        Mutiny.Query<Order> query = mock(Mutiny.Query.class, RETURNS_SELF);
+        doReturn(query).when(session).createQuery(anyString(), eq(Order.class));
+        return query;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Mutiny.Query<Object[]> nativeQuery(String sqlPrefix) {
+        Mutiny.Query<Object[]> query = mock(Mutiny.Query.class, RETURNS_SELF);
+        doReturn(query).when(session).createNativeQuery(startsWith(sqlPrefix), eq(Object[].class));
+        return query;
+    }
+
+    private static Object[] statsRow(OrderStatus status, int currency, long orders, long amount, long items) {
+        return new Object[]{status.code(), (short) currency, orders, amount, items};
+    }
+
+    private static Object[] archivedRow(String id, Instant createdAt) {
+        return new Object[]{id, "customer-1", "customer@example.com", OrderStatus.DELIVERED.code(), 1000L, (short) 840,
+            null, null, Timestamp.from(createdAt), Timestamp.from(createdAt), 1, 1000L};
+    }
+
+    private static Order liveOrder(String id, Instant createdAt) {
+        return Order.reconstitute(id, "customer-1", Email.of("customer@example.com"), OrderStatus.DELIVERED,
+            List.of(OrderItem.of("prod-001", "Product A", 1, Money.of(10, "USD"))), Money.of(10, "USD"), null,
+            createdAt, createdAt);
+    }
+
+    private static Order order() {
+        return Order.create("customer-1", Email.of("customer@example.com"),
+            List.of(OrderItem.of("prod-001", "Product A", 1, Money.of(10, "USD"))));
+    }
+}
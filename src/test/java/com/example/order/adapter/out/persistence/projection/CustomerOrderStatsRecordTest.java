@@ -0,0 +1,122 @@
+package com.example.order.adapter.out.persistence.projection;
+
+import com.example.order.application.dto.CustomerOrderStatsResult;
+import com.example.order.domain.exception.BusinessException;
+import com.example.order.domain.model.OrderStatus;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CustomerOrderStatsRecordTest {
+
+    private static final Instant NOW = Instant.parse("2024-01-01T00:00:00Z");
+
+    @Test
+    void shouldFillEveryFieldFromProjectedOrders() {
+        CustomerOrderStatsRecord stats = new CustomerOrderStatsRecord("customer-1");
+        OrderSummaryRecord delivered = created(stats, "order-1", 10_000, 2);
+        OrderSummaryRecord cancelled = created(stats, "order-2", 5_000, 1);
+        created(stats, "order-3", 2_000, 3);
+
+        move(stats, delivered, OrderStatus.CONFIRMED);
+        move(stats, delivered, OrderStatus.PAID);
+        move(stats, delivered, OrderStatus.SHIPPED);
+        move(stats, delivered, OrderStatus.DELIVERED);
+        move(stats, cancelled, OrderStatus.CANCELLED);
+
+        CustomerOrderStatsResult result = stats.toResult();
+
+        assertThat(result.totalOrders()).isEqualTo(3);
+        assertThat(result.activeOrders()).isEqualTo(1);
+        assertThat(result.completedOrders()).isEqualTo(1);
+        assertThat(result.cancelledOrders()).isEqualTo(1);
+        assertThat(result.totalSpent()).isEqualByComparingTo(new BigDecimal("120.00"));
+        assertThat(result.averageOrderValue()).isEqualByComparingTo(new BigDecimal("60.00"));
+        assertThat(result.totalItemsOrdered()).isEqualTo(5);
+        assertThat(result.currency()).isEqualTo("USD");
+        assertThat(result.ordersByStatus())
+            .containsEntry(OrderStatus.PENDING, 1L)
+            .containsEntry(OrderStatus.DELIVERED, 1L)
+            .containsEntry(OrderStatus.CANCELLED, 1L)
+            .containsEntry(OrderStatus.PAID, 0L);
+    }
+
+    @Test
+    void shouldAdjustSpentWhenOrderIsRepriced() {
+        CustomerOrderStatsRecord stats = new CustomerOrderStatsRecord("customer-1");
+        OrderSummaryRecord order = created(stats, "order-1", 10_000, 1);
+
+        stats.recordAmountChange(order, 9_000, NOW);
+        order.changeFinalAmount(9_000, NOW);
+
+        assertThat(stats.toResult().totalSpent()).isEqualByComparingTo(new BigDecimal("90.00"));
+    }
+
+    @Test
+    void shouldIgnoreRepeatedStatus() {
+        CustomerOrderStatsRecord stats = new CustomerOrderStatsRecord("customer-1");
+        OrderSummaryRecord order = created(stats, "order-1", 10_000, 1);
+        move(stats, order, OrderStatus.CANCELLED);
+
+        move(stats, order, OrderStatus.CANCELLED);
+
+        assertThat(stats.count(OrderStatus.CANCELLED)).isEqualTo(1);
+        assertThat(stats.toResult().totalSpent()).isEqualByComparingTo(BigDecimal.ZERO);
+    }
+
+    @Test
+    void shouldRejectStatsOnceBilledOrdersSpanSeveralCurrencies() {
+        CustomerOrderStatsRecord stats = new CustomerOrderStatsRecord("customer-1");
+        created(stats, "order-1", 10_000, 1);
+        created(stats, "order-2", 5_000, 1, "JPY");
+
+        assertThatThrownBy(stats::toResult)
+            .isInstanceOf(BusinessException.class)
+            .matches(ex -> ((BusinessException) ex).getErrorCode().equals("ORDER_011"));
+    }
+
+    @Test
+    void shouldStartOverInNewCurrencyWhenEveryEarlierOrderWasCancelled() {
+        CustomerOrderStatsRecord stats = new CustomerOrderStatsRecord("customer-1");
+        move(stats, created(stats, "order-1", 10_000, 1), OrderStatus.CANCELLED);
+        created(stats, "order-2", 5_000, 2, "JPY");
+
+        CustomerOrderStatsResult result = stats.toResult();
+
+        assertThat(result.currency()).isEqualTo("JPY");
+        assertThat(result.totalSpent()).isEqualByComparingTo(new BigDecimal("5000"));
+        assertThat(result.cancelledOrders()).isEqualTo(1);
+        assertThat(result.totalItemsOrdered()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldReturnZerosForUnknownCustomer() {
+        CustomerOrderStatsResult result = new CustomerOrderStatsRecord("nobody").toResult();
+
+        assertThat(result.totalOrders()).isZero();
+        assertThat(result.totalSpent()).isEqualByComparingTo(BigDecimal.ZERO);
+        assertThat(result.ordersByStatus()).hasSize(OrderStatus.values().length).containsValue(0L);
+    }
+
+    private static OrderSummaryRecord created(CustomerOrderStatsRecord stats, String orderId, long finalAmount,
+                                              int itemCount) {
+        return created(stats, orderId, finalAmount, itemCount, "USD");
+    }
+
+    private static OrderSummaryRecord created(CustomerOrderStatsRecord stats, String orderId, long finalAmount,
+                                              int itemCount, String currency) {
+        OrderSummaryRecord order = new OrderSummaryRecord(orderId, stats.getCustomerId(), finalAmount, currency,
+                itemCount, NOW);
+        stats.recordCreated(order);
+        return order;
+    }
+
+    private static void move(CustomerOrderStatsRecord stats, OrderSummaryRecord order, OrderStatus status) {
+        stats.recordStatusChange(order, status, NOW);
+        order.changeStatus(status, NOW);
+    }
+}
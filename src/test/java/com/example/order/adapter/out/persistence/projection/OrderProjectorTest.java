@@ -0,0 +1,89 @@
+package com.example.order.adapter.out.persistence.projection;
+
+import com.example.common.adapter.out.persistence.outbox.OutboxEvent;
+import com.example.common.domain.valueobject.Money;
+import com.example.order.domain.event.OrderCreatedEvent;
+import com.example.order.domain.exception.BusinessException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.smallrye.mutiny.Uni;
+import org.hibernate.reactive.mutiny.Mutiny;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.test.StepVerifier;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.function.BiFunction;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.RETURNS_SELF;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class OrderProjectorTest {
+
+    private static final Instant NOW = Instant.parse("2024-01-01T00:00:00Z");
+
+    @Mock
+    private Mutiny.SessionFactory sessionFactory;
+
+    @Mock
+    private Mutiny.Session session;
+
+    @Mock
+    private ObjectMapper objectMapper;
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldRejectStatsOfCustomerWithOrdersInSeveralCurrencies() throws Exception {
+        CustomerOrderStatsRecord stats = new CustomerOrderStatsRecord("customer-1");
+        OutboxEvent inDollars = outboxRow(1L, "order-1");
+        OutboxEvent inYen = outboxRow(2L, "order-2");
+        when(objectMapper.readValue("order-1", OrderCreatedEvent.class))
+            .thenReturn(created("order-1", Money.of(100, "USD")));
+        when(objectMapper.readValue("order-2", OrderCreatedEvent.class))
+            .thenReturn(created("order-2", Money.of(5_000, "JPY")));
+
+        Mutiny.SelectionQuery<OutboxEvent> select = mock(Mutiny.SelectionQuery.class, RETURNS_SELF);
+        Mutiny.MutationQuery mark = mock(Mutiny.MutationQuery.class, RETURNS_SELF);
+        doReturn(select).when(session).createQuery(anyString(), eq(OutboxEvent.class));
+        when(select.getResultList()).thenReturn(Uni.createFrom().item(List.of(inDollars, inYen)));
+        when(session.createMutationQuery(anyString())).thenReturn(mark);
+        when(mark.executeUpdate()).thenReturn(Uni.createFrom().item(2));
+        when(session.find(eq(OrderSummaryRecord.class), any())).thenReturn(Uni.createFrom().nullItem());
+        when(session.find(CustomerOrderStatsRecord.class, "customer-1")).thenReturn(Uni.createFrom().item(stats));
+        when(session.persist(any())).thenReturn(Uni.createFrom().voidItem());
+        when(sessionFactory.withTransaction(any(BiFunction.class))).thenAnswer(invocation ->
+            ((BiFunction<Mutiny.Session, Mutiny.Transaction, Uni<?>>) invocation.getArgument(0)).apply(session, null));
+
+        StepVerifier.create(new OrderProjector(sessionFactory, objectMapper, 10).catchUp())
+            .expectNext(2L)
+            .verifyComplete();
+
+        assertThatThrownBy(stats::toResult)
+            .isInstanceOf(BusinessException.class)
+            .matches(ex -> ((BusinessException) ex).getErrorCode().equals("ORDER_011"));
+    }
+
+    private static OutboxEvent outboxRow(long id, String orderId) {
+        return OutboxEvent.builder()
+            .id(id)
+            .aggregateType("Order")
+            .aggregateId(orderId)
+            .eventType(OrderCreatedEvent.class.getSimpleName())
+            .payload(orderId)
+            .createdAt(NOW)
+            .build();
+    }
+
+    private static OrderCreatedEvent created(String orderId, Money total) {
+        return new OrderCreatedEvent(orderId, "customer-1", "customer@example.com", total, 1, List.of(), NOW);
+    }
+}
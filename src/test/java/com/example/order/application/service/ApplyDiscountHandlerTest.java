@@ -2,7 +2,6 @@ package com.example.order.application.service;
 
 import com.example.order.application.dto.ApplyDiscountCommand;
 import com.example.order.application.port.out.OrderRepository;
-import com.example.order.application.port.out.OrderQueryPort;
 import com.example.order.domain.model.Order;
 import com.example.common.domain.valueobject.Email;
 import com.example.common.domain.valueobject.Money;
@@ -32,9 +31,6 @@ class ApplyDiscountHandlerTest {
     @Mock
     private OrderRepository commandPort;
 
-    @Mock
-    private OrderQueryPort queryPort;
-
     @InjectMocks
     private ApplyDiscountHandler handler;
 
@@ -44,7 +40,7 @@ class ApplyDiscountHandlerTest {
         String orderId = "order-001";
         Order order = createOrder(orderId, OrderStatus.PENDING, Money.of(100, "USD"));
 
-        when(queryPort.findById(orderId)).thenReturn(Mono.just(order));
+        when(commandPort.findById(orderId)).thenReturn(Mono.just(order));
         when(commandPort.save(any())).thenReturn(Mono.just(order));
 
         // When & Then
@@ -59,7 +55,7 @@ class ApplyDiscountHandlerTest {
     void shouldThrowExceptionWhenOrderNotFound() {
         // Given
         String orderId = "invalid-order";
-        when(queryPort.findById(orderId)).thenReturn(Mono.empty());
+        when(commandPort.findById(orderId)).thenReturn(Mono.empty());
 
         // When & Then
         StepVerifier.create(handler.handle(new ApplyDiscountCommand(orderId, new BigDecimal("0.1"))))
@@ -75,7 +71,7 @@ class ApplyDiscountHandlerTest {
         String orderId = "order-001";
         Order order = createOrder(orderId, OrderStatus.CONFIRMED, Money.of(100, "USD"));
 
-        when(queryPort.findById(orderId)).thenReturn(Mono.just(order));
+        when(commandPort.findById(orderId)).thenReturn(Mono.just(order));
 
         // When & Then
         StepVerifier.create(handler.handle(new ApplyDiscountCommand(orderId, new BigDecimal("0.1"))))
@@ -92,7 +88,7 @@ class ApplyDiscountHandlerTest {
         String orderId = "order-001";
         Order order = createOrder(orderId, OrderStatus.PENDING, Money.of(100, "USD"));
 
-        when(queryPort.findById(orderId)).thenReturn(Mono.just(order));
+        when(commandPort.findById(orderId)).thenReturn(Mono.just(order));
 
         // When & Then - negative discount
         StepVerifier.create(handler.handle(new ApplyDiscountCommand(orderId, new BigDecimal("-0.1"))))
@@ -0,0 +1,168 @@
+package com.example.order.application.service;
+
+import com.example.order.application.dto.BulkTransitionCommand;
+import com.example.order.application.port.out.OrderQueryPort;
+import com.example.order.application.port.out.OrderRepository;
+import com.example.order.domain.model.Order;
+import com.example.common.domain.valueobject.Email;
+import com.example.common.domain.valueobject.Money;
+import com.example.order.domain.model.OrderStatus;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class BulkOrderTransitionHandlerTest {
+
+    @Mock
+    private OrderRepository commandPort;
+
+    @Mock
+    private OrderQueryPort queryPort;
+
+    @InjectMocks
+    private BulkOrderTransitionHandler handler;
+
+    @Test
+    void shouldConfirmMatchingOrdersChunkByChunk() {
+        // Given
+        Order first = createOrder("order-001", OrderStatus.PENDING);
+        Order second = createOrder("order-002", OrderStatus.PENDING);
+        Order third = createOrder("order-003", OrderStatus.PENDING);
+
+        when(queryPort.findByFilterAfter("customer-001", OrderStatus.PENDING, null, 2))
+            .thenReturn(Flux.just(first, second));
+        when(queryPort.findByFilterAfter("customer-001", OrderStatus.PENDING, "order-002", 2))
+            .thenReturn(Flux.just(third));
+        when(commandPort.saveAllStatusChanges(anyList())).thenAnswer(invocation -> Mono.just(invocation.getArgument(0)));
+
+        BulkTransitionCommand command = new BulkTransitionCommand(
+            BulkTransitionCommand.Action.CONFIRM, "customer-001", OrderStatus.PENDING, null, 2);
+
+        // When & Then
+        StepVerifier.create(handler.handle(command))
+            .assertNext(progress -> {
+                assertThat(progress.processed()).isEqualTo(2);
+                assertThat(progress.transitioned()).isEqualTo(2);
+                assertThat(progress.completed()).isFalse();
+            })
+            .assertNext(progress -> {
+                assertThat(progress.processed()).isEqualTo(3);
+                assertThat(progress.transitioned()).isEqualTo(3);
+                assertThat(progress.completed()).isTrue();
+            })
+            .verifyComplete();
+
+        assertThat(List.of(first, second, third))
+            .extracting(Order::getStatus)
+            .containsOnly(OrderStatus.CONFIRMED);
+        verify(commandPort, times(2)).saveAllStatusChanges(anyList());
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    void shouldSkipOrdersThatCannotTransition() {
+        // Given
+        Order pending = createOrder("order-001", OrderStatus.PENDING);
+        Order delivered = createOrder("order-002", OrderStatus.DELIVERED);
+
+        when(queryPort.findByFilterAfter(isNull(), any(), isNull(), any(Integer.class)))
+            .thenReturn(Flux.just(pending, delivered));
+        when(commandPort.saveAllStatusChanges(anyList())).thenAnswer(invocation -> Mono.just(invocation.getArgument(0)));
+
+        BulkTransitionCommand command = new BulkTransitionCommand(
+            BulkTransitionCommand.Action.CANCEL, null, OrderStatus.PENDING, "Cleanup", 10);
+
+        // When & Then
+        StepVerifier.create(handler.handle(command))
+            .assertNext(progress -> {
+                assertThat(progress.transitioned()).isEqualTo(1);
+                assertThat(progress.skipped()).isEqualTo(1);
+                assertThat(progress.completed()).isTrue();
+            })
+            .verifyComplete();
+
+        ArgumentCaptor<List<Order>> captor = ArgumentCaptor.forClass(List.class);
+        verify(commandPort).saveAllStatusChanges(captor.capture());
+        assertThat(captor.getValue()).containsExactly(pending);
+    }
+
+    @Test
+    void shouldCountOrdersChangedConcurrentlyAsSkipped() {
+        // Given
+        Order first = createOrder("order-001", OrderStatus.PENDING);
+        Order second = createOrder("order-002", OrderStatus.PENDING);
+
+        when(queryPort.findByFilterAfter(isNull(), any(), isNull(), any(Integer.class)))
+            .thenReturn(Flux.just(first, second));
+        // order-002 was paid after it was read, so only order-001 is written
+        when(commandPort.saveAllStatusChanges(anyList())).thenReturn(Mono.just(List.of(first)));
+
+        BulkTransitionCommand command = new BulkTransitionCommand(
+            BulkTransitionCommand.Action.CANCEL, null, OrderStatus.PENDING, null, 10);
+
+        // When & Then
+        StepVerifier.create(handler.handle(command))
+            .assertNext(progress -> {
+                assertThat(progress.processed()).isEqualTo(2);
+                assertThat(progress.transitioned()).isEqualTo(1);
+                assertThat(progress.skipped()).isEqualTo(1);
+                assertThat(progress.completed()).isTrue();
+            })
+            .verifyComplete();
+    }
+
+    @Test
+    void shouldCompleteWithoutWritesWhenNothingMatches() {
+        // Given
+        when(queryPort.findByFilterAfter(any(), any(), any(), any(Integer.class))).thenReturn(Flux.empty());
+
+        BulkTransitionCommand command = new BulkTransitionCommand(
+            BulkTransitionCommand.Action.CONFIRM, null, null, null, 0);
+
+        // When & Then
+        StepVerifier.create(handler.handle(command))
+            .assertNext(progress -> {
+                assertThat(progress.processed()).isZero();
+                assertThat(progress.completed()).isTrue();
+            })
+            .verifyComplete();
+
+        verify(commandPort, never()).saveAllStatusChanges(anyList());
+    }
+
+    private Order createOrder(String orderId, OrderStatus status) {
+        return Order.reconstitute(
+            orderId,
+            "customer-001",
+            Email.of("test@example.com"),
+            status,
+            List.of(),
+            Money.of(100, "USD"),
+            null,
+            Instant.now(),
+            Instant.now()
+        );
+    }
+}
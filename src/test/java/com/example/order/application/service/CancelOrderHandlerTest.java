@@ -2,7 +2,6 @@ package com.example.order.application.service;
 
 import com.example.order.application.dto.CancelOrderCommand;
 import com.example.order.application.port.out.OrderRepository;
-import com.example.order.application.port.out.OrderQueryPort;
 import com.example.order.domain.model.Order;
 import com.example.common.domain.valueobject.Email;
 import com.example.common.domain.valueobject.Money;
@@ -31,9 +30,6 @@ class CancelOrderHandlerTest {
     @Mock
     private OrderRepository commandPort;
 
-    @Mock
-    private OrderQueryPort queryPort;
-
     @InjectMocks
     private CancelOrderHandler handler;
 
@@ -43,7 +39,7 @@ class CancelOrderHandlerTest {
         String orderId = "order-001";
         Order order = createOrder(orderId, OrderStatus.PENDING);
 
-        when(queryPort.findById(orderId)).thenReturn(Mono.just(order));
+        when(commandPort.findById(orderId)).thenReturn(Mono.just(order));
         when(commandPort.save(any())).thenReturn(Mono.just(order));
 
         // When & Then
@@ -60,7 +56,7 @@ class CancelOrderHandlerTest {
         String orderId = "order-001";
         Order order = createOrder(orderId, OrderStatus.CONFIRMED);
 
-        when(queryPort.findById(orderId)).thenReturn(Mono.just(order));
+        when(commandPort.findById(orderId)).thenReturn(Mono.just(order));
         when(commandPort.save(any())).thenReturn(Mono.just(order));
 
         // When & Then
@@ -75,7 +71,7 @@ class CancelOrderHandlerTest {
     void shouldThrowExceptionWhenOrderNotFound() {
         // Given
         String orderId = "invalid-order";
-        when(queryPort.findById(orderId)).thenReturn(Mono.empty());
+        when(commandPort.findById(orderId)).thenReturn(Mono.empty());
 
         // When & Then
         StepVerifier.create(handler.handle(new CancelOrderCommand(orderId, "reason")))
@@ -91,7 +87,7 @@ class CancelOrderHandlerTest {
         String orderId = "order-001";
         Order order = createOrder(orderId, OrderStatus.SHIPPED);
 
-        when(queryPort.findById(orderId)).thenReturn(Mono.just(order));
+        when(commandPort.findById(orderId)).thenReturn(Mono.just(order));
 
         // When & Then
         StepVerifier.create(handler.handle(new CancelOrderCommand(orderId, "Too late")))
@@ -108,7 +104,7 @@ class CancelOrderHandlerTest {
         String orderId = "order-001";
         Order order = createOrder(orderId, OrderStatus.DELIVERED);
 
-        when(queryPort.findById(orderId)).thenReturn(Mono.just(order));
+        when(commandPort.findById(orderId)).thenReturn(Mono.just(order));
 
         // When & Then
         StepVerifier.create(handler.handle(new CancelOrderCommand(orderId, "Too late")))
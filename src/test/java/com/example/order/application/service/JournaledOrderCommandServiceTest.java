@@ -0,0 +1,145 @@
+package com.example.order.application.service;
+
+import com.example.common.domain.valueobject.Email;
+import com.example.common.domain.valueobject.Money;
+import com.example.order.application.dto.CommandStatusResult;
+import com.example.order.application.dto.CreateOrderCommand;
+import com.example.order.application.dto.JournaledCommand;
+import com.example.order.application.port.in.CreateOrderUseCase;
+import com.example.order.application.port.out.CommandJournal;
+import com.example.order.application.port.out.CommandStatusStore;
+import com.example.order.application.port.out.OrderRepository;
+import com.example.order.domain.exception.BusinessException;
+import com.example.order.domain.model.Order;
+import com.example.order.domain.model.OrderItem;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class JournaledOrderCommandServiceTest {
+
+    private static final String COMMAND_ID = "0190a5e4-7b2c-7d3e-8f40-123456789abc";
+
+    @Mock
+    private CommandJournal commandJournal;
+
+    @Mock
+    private CommandStatusStore commandStatusStore;
+
+    @Mock
+    private CreateOrderUseCase createOrderUseCase;
+
+    @Mock
+    private OrderRepository orderRepository;
+
+    private JournaledOrderCommandService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new JournaledOrderCommandService(commandJournal, commandStatusStore, createOrderUseCase,
+                orderRepository, 10, 100, Duration.ofHours(1));
+    }
+
+    @Test
+    void shouldCreateTheOrderUnderTheCommandIdAndRecordTheOutcome() {
+        JournaledCommand journaled = new JournaledCommand(COMMAND_ID, 1, command());
+        when(commandJournal.poll(10)).thenReturn(Flux.just(journaled));
+        when(orderRepository.findById(COMMAND_ID)).thenReturn(Mono.empty());
+        when(createOrderUseCase.handle(COMMAND_ID, journaled.command())).thenReturn(Mono.just(order()));
+        when(commandStatusStore.save(any())).thenReturn(Mono.empty());
+        when(commandJournal.acknowledge(1)).thenReturn(Mono.empty());
+
+        StepVerifier.create(service.drainBatch())
+            .expectNext(1L)
+            .verifyComplete();
+
+        verify(commandStatusStore).save(CommandStatusResult.applied(COMMAND_ID, COMMAND_ID));
+        StepVerifier.create(service.status(COMMAND_ID))
+            .expectNext(CommandStatusResult.applied(COMMAND_ID, COMMAND_ID))
+            .verifyComplete();
+    }
+
+    @Test
+    void shouldNotCreateAnotherOrderWhenReplayingAnAppliedCommand() {
+        JournaledCommand journaled = new JournaledCommand(COMMAND_ID, 1, command());
+        when(commandJournal.poll(10)).thenReturn(Flux.just(journaled));
+        when(orderRepository.findById(COMMAND_ID)).thenReturn(Mono.just(order()));
+        when(commandStatusStore.save(any())).thenReturn(Mono.empty());
+        when(commandJournal.acknowledge(1)).thenReturn(Mono.empty());
+
+        StepVerifier.create(service.drainBatch())
+            .expectNext(1L)
+            .verifyComplete();
+
+        verify(createOrderUseCase, never()).handle(any(), any());
+        verify(commandStatusStore).save(CommandStatusResult.applied(COMMAND_ID, COMMAND_ID));
+    }
+
+    @Test
+    void shouldRecordRejectedCommandsAsFailed() {
+        JournaledCommand journaled = new JournaledCommand(COMMAND_ID, 1, command());
+        when(commandJournal.poll(10)).thenReturn(Flux.just(journaled));
+        when(orderRepository.findById(COMMAND_ID)).thenReturn(Mono.empty());
+        when(createOrderUseCase.handle(COMMAND_ID, journaled.command()))
+            .thenReturn(Mono.error(new BusinessException("ORDER_002", "Price out of range")));
+        when(commandStatusStore.save(any())).thenReturn(Mono.empty());
+        when(commandJournal.acknowledge(1)).thenReturn(Mono.empty());
+
+        StepVerifier.create(service.drainBatch())
+            .expectNext(1L)
+            .verifyComplete();
+
+        verify(commandStatusStore).save(CommandStatusResult.failed(COMMAND_ID, "Price out of range"));
+    }
+
+    @Test
+    void shouldLeaveTheCommandJournaledWhenItsOutcomeCannotBeRecorded() {
+        JournaledCommand journaled = new JournaledCommand(COMMAND_ID, 1, command());
+        when(commandJournal.poll(10)).thenReturn(Flux.just(journaled));
+        when(orderRepository.findById(COMMAND_ID)).thenReturn(Mono.empty());
+        when(createOrderUseCase.handle(COMMAND_ID, journaled.command())).thenReturn(Mono.just(order()));
+        when(commandStatusStore.save(any())).thenReturn(Mono.error(new IllegalStateException("database down")));
+
+        StepVerifier.create(service.drainBatch())
+            .expectNext(0L)
+            .verifyComplete();
+
+        verify(commandJournal, never()).acknowledge(1);
+        verify(commandJournal).rewind();
+    }
+
+    @Test
+    void shouldServeStatusesRecordedBeforeARestart() {
+        when(commandStatusStore.find(COMMAND_ID))
+            .thenReturn(Mono.just(CommandStatusResult.applied(COMMAND_ID, COMMAND_ID)));
+
+        StepVerifier.create(service.status(COMMAND_ID))
+            .expectNext(CommandStatusResult.applied(COMMAND_ID, COMMAND_ID))
+            .verifyComplete();
+    }
+
+    private static CreateOrderCommand command() {
+        return new CreateOrderCommand("customer-1", "customer@example.com", List.of(
+            new CreateOrderCommand.OrderItemCommand("prod-001", "Product A", 1, new BigDecimal("10.00"), "USD")));
+    }
+
+    private static Order order() {
+        return Order.create(COMMAND_ID, "customer-1", Email.of("customer@example.com"),
+            List.of(OrderItem.of("prod-001", "Product A", 1, Money.of(10, "USD"))), (total, items) -> 0);
+    }
+}
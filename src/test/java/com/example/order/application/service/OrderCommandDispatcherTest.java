@@ -0,0 +1,87 @@
+package com.example.order.application.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class OrderCommandDispatcherTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private OrderCommandDispatcher dispatcher;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        dispatcher = new OrderCommandDispatcher(meterRegistry, 4);
+    }
+
+    @Test
+    void shouldRunCommandsForSameAggregateOneAtATime() {
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+
+        Flux<Integer> commands = Flux.range(0, 20)
+            .flatMap(i -> dispatcher.dispatch("order-001", () -> Mono.fromCallable(() -> {
+                    maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                    return i;
+                })
+                .delayElement(Duration.ofMillis(5))
+                .doOnNext(value -> running.decrementAndGet())));
+
+        StepVerifier.create(commands)
+            .expectNextCount(20)
+            .verifyComplete();
+
+        assertThat(maxRunning.get()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldRunDifferentAggregatesInParallel() {
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+
+        Flux<Integer> commands = Flux.range(0, 4)
+            .flatMap(i -> dispatcher.dispatch("order-" + i, () -> Mono.fromCallable(() -> {
+                    maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                    return i;
+                })
+                .delayElement(Duration.ofMillis(50))
+                .doOnNext(value -> running.decrementAndGet())));
+
+        StepVerifier.create(commands)
+            .expectNextCount(4)
+            .verifyComplete();
+
+        assertThat(maxRunning.get()).isGreaterThan(1);
+    }
+
+    @Test
+    void shouldPropagateErrorsAndKeepLaneUsable() {
+        StepVerifier.create(dispatcher.dispatch("order-001",
+                () -> Mono.error(new IllegalArgumentException("Order not found: order-001"))))
+            .expectError(IllegalArgumentException.class)
+            .verify();
+
+        StepVerifier.create(dispatcher.dispatch("order-001", () -> Mono.just("next")))
+            .expectNext("next")
+            .verifyComplete();
+    }
+
+    @Test
+    void shouldExposeLaneMetrics() {
+        StepVerifier.create(dispatcher.dispatch("order-001", () -> Mono.just("done")))
+            .expectNext("done")
+            .verifyComplete();
+
+        assertThat(meterRegistry.find("order.command.lane.depth").gauges()).hasSize(4);
+        assertThat(meterRegistry.get("order.command.lane.wait").timer().count()).isEqualTo(1);
+    }
+}
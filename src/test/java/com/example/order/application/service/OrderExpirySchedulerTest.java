@@ -0,0 +1,131 @@
+package com.example.order.application.service;
+
+import com.example.common.domain.valueobject.Email;
+import com.example.common.domain.valueobject.Money;
+import com.example.order.application.dto.PendingOrderRef;
+import com.example.order.application.port.out.OrderQueryPort;
+import com.example.order.application.port.out.OrderRepository;
+import com.example.order.domain.event.OrderCancelledEvent;
+import com.example.order.domain.model.Order;
+import com.example.order.domain.model.OrderItem;
+import com.example.order.domain.model.OrderStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class OrderExpirySchedulerTest {
+
+    @Mock
+    private OrderQueryPort queryPort;
+
+    @Mock
+    private OrderRepository orderRepository;
+
+    private OrderExpiryScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        scheduler = new OrderExpiryScheduler(queryPort, orderRepository, Duration.ofMinutes(30), 1000, 2, 2,
+                Duration.ofMinutes(1));
+    }
+
+    @Test
+    void shouldLoadPendingOrdersChunkByChunk() {
+        Instant created = Instant.parse("2026-01-01T00:00:00Z");
+        when(queryPort.findPendingAfter(isNull(), isNull(), eq(2))).thenReturn(Flux.just(
+            new PendingOrderRef("o-1", created), new PendingOrderRef("o-2", created)));
+        when(queryPort.findPendingAfter(created, "o-2", 2)).thenReturn(Flux.just(
+            new PendingOrderRef("o-3", created.plusSeconds(1))));
+
+        StepVerifier.create(scheduler.loadPending())
+            .expectNext(3L)
+            .verifyComplete();
+        assertThat(scheduler.scheduledCount()).isEqualTo(3);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldCancelOnlyOrdersStillPending() {
+        Order pending = order();
+        // The confirmed order's id is due too, but the query leaves it out
+        when(queryPort.findPendingByIds(List.of(pending.getId(), "confirmed-001"))).thenReturn(Flux.just(pending));
+        when(orderRepository.saveAllStatusChanges(anyList())).thenAnswer(invocation -> Mono.just(invocation.getArgument(0)));
+
+        StepVerifier.create(scheduler.expire(List.of(pending.getId(), "confirmed-001")))
+            .expectNext(1L)
+            .verifyComplete();
+
+        ArgumentCaptor<List<Order>> saved = ArgumentCaptor.forClass(List.class);
+        verify(orderRepository).saveAllStatusChanges(saved.capture());
+        assertThat(saved.getValue()).containsExactly(pending);
+        assertThat(pending.getStatus()).isEqualTo(OrderStatus.CANCELLED);
+        assertThat(pending.getRawEvents()).anyMatch(OrderCancelledEvent.class::isInstance);
+    }
+
+    @Test
+    void shouldLoadEachBatchOfDueOrdersWithOneQuery() {
+        Order first = order();
+        Order second = order();
+        Order third = order();
+        when(queryPort.findPendingByIds(List.of(first.getId(), second.getId()))).thenReturn(Flux.just(first, second));
+        when(queryPort.findPendingByIds(List.of(third.getId()))).thenReturn(Flux.just(third));
+        when(orderRepository.saveAllStatusChanges(anyList())).thenAnswer(invocation -> Mono.just(invocation.getArgument(0)));
+
+        StepVerifier.create(scheduler.expire(List.of(first.getId(), second.getId(), third.getId())))
+            .expectNext(3L)
+            .verifyComplete();
+
+        verify(queryPort, times(2)).findPendingByIds(anyList());
+        verify(orderRepository, never()).findById(any());
+    }
+
+    @Test
+    void shouldNotCountOrdersChangedBeforeTheWrite() {
+        Order pending = order();
+        when(queryPort.findPendingByIds(List.of(pending.getId()))).thenReturn(Flux.just(pending));
+        // Confirmed between the reload and the guarded update
+        when(orderRepository.saveAllStatusChanges(anyList())).thenReturn(Mono.just(List.of()));
+
+        StepVerifier.create(scheduler.expire(List.of(pending.getId())))
+            .expectNext(0L)
+            .verifyComplete();
+    }
+
+    @Test
+    void shouldRescheduleFailedBatch() {
+        Order pending = order();
+        when(queryPort.findPendingByIds(List.of(pending.getId()))).thenReturn(Flux.just(pending));
+        when(orderRepository.saveAllStatusChanges(any())).thenReturn(Mono.error(new IllegalStateException("db down")));
+
+        StepVerifier.create(scheduler.expire(List.of(pending.getId())))
+            .expectNext(0L)
+            .verifyComplete();
+        assertThat(scheduler.scheduledCount()).isEqualTo(1);
+    }
+
+    private static Order order() {
+        return Order.create("customer-001", Email.of("test@example.com"),
+            List.of(OrderItem.of("prod-001", "Product A", 1, Money.of(50, "USD"))));
+    }
+}
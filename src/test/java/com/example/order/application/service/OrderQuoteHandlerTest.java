@@ -0,0 +1,85 @@
+package com.example.order.application.service;
+
+import com.example.order.application.dto.CreateOrderCommand.OrderItemCommand;
+import com.example.order.application.dto.OrderQuoteResult;
+import com.example.order.application.dto.QuoteOrderCommand;
+import com.example.order.domain.discount.DiscountRule;
+import com.example.order.domain.discount.DiscountRuleEngine;
+import com.example.order.domain.exception.BusinessException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.test.StepVerifier;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class OrderQuoteHandlerTest {
+
+    private DiscountRuleEngine discountRules;
+    private OrderQuoteHandler handler;
+
+    @BeforeEach
+    void setUp() {
+        discountRules = new DiscountRuleEngine(List.of(
+            DiscountRule.parse("vip:min-total:1000.00:10"),
+            DiscountRule.parse("bulk:min-items:10:5")
+        ), new BigDecimal("15"));
+        handler = new OrderQuoteHandler(discountRules, 100, Duration.ofMinutes(10));
+    }
+
+    @Test
+    void shouldQuoteDiscountedTotal() {
+        QuoteOrderCommand command = new QuoteOrderCommand(List.of(
+            line("prod-001", 8, "100.00"),
+            line("prod-002", 2, "150.00")
+        ));
+
+        StepVerifier.create(handler.handle(command))
+            .assertNext(quote -> {
+                assertThat(quote.totalAmount()).isEqualByComparingTo("1100.00");
+                assertThat(quote.finalAmount()).isEqualByComparingTo("935.00");
+                assertThat(quote.currency()).isEqualTo("USD");
+                assertThat(quote.itemCount()).isEqualTo(10);
+            })
+            .verifyComplete();
+    }
+
+    @Test
+    void shouldShareCachedQuoteForEquivalentCarts() {
+        OrderQuoteResult first = handler.quote(new QuoteOrderCommand(List.of(
+            line("prod-001", 2, "10.00"),
+            line("prod-002", 1, "5.5")
+        )));
+        OrderQuoteResult reorderedAndSplit = handler.quote(new QuoteOrderCommand(List.of(
+            line("prod-002", 1, "5.50"),
+            line("prod-001", 1, "10"),
+            line("prod-001", 1, "10.0")
+        )));
+
+        assertThat(reorderedAndSplit).isSameAs(first);
+    }
+
+    @Test
+    void shouldRepriceAfterRuleChange() {
+        QuoteOrderCommand command = new QuoteOrderCommand(List.of(line("prod-001", 1, "100.00")));
+        assertThat(handler.quote(command).discountAmount()).isNull();
+
+        discountRules.replaceRules(List.of(DiscountRule.parse("all:min-items:1:10")), new BigDecimal("15"));
+
+        assertThat(handler.quote(command).finalAmount()).isEqualByComparingTo("90.00");
+    }
+
+    @Test
+    void shouldRejectEmptyCart() {
+        StepVerifier.create(handler.handle(new QuoteOrderCommand(List.of())))
+            .expectError(BusinessException.class)
+            .verify();
+    }
+
+    private static OrderItemCommand line(String productId, int quantity, String unitPrice) {
+        return new OrderItemCommand(productId, "Product " + productId, quantity, new BigDecimal(unitPrice), "USD");
+    }
+}
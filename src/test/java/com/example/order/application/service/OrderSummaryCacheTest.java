@@ -0,0 +1,81 @@
+package com.example.order.application.service;
+
+import com.example.order.application.dto.OrderSummaryResult;
+import com.example.order.application.port.out.OrderQueryPort;
+import com.example.order.domain.event.OrderConfirmedEvent;
+import com.example.order.domain.model.OrderStatus;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class OrderSummaryCacheTest {
+
+    @Mock
+    private OrderQueryPort queryPort;
+
+    private SimpleMeterRegistry meterRegistry;
+    private OrderSummaryCache cache;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new OrderSummaryCache(queryPort, meterRegistry, 1000, Duration.ofMinutes(10));
+    }
+
+    @Test
+    void shouldServeRepeatedReadsFromCache() {
+        when(queryPort.findCurrentOrderSummary("order-001")).thenReturn(Mono.just(summary("order-001", OrderStatus.PENDING)));
+
+        StepVerifier.create(cache.get("order-001")).expectNextCount(1).verifyComplete();
+        StepVerifier.create(cache.get("order-001")).expectNextCount(1).verifyComplete();
+
+        verify(queryPort, times(1)).findCurrentOrderSummary("order-001");
+        assertThat(meterRegistry.get("cache.gets").tag("result", "hit").functionCounter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void shouldReloadAfterCommittedEventForThatOrder() {
+        when(queryPort.findCurrentOrderSummary("order-001")).thenReturn(
+            Mono.just(summary("order-001", OrderStatus.PENDING)),
+            Mono.just(summary("order-001", OrderStatus.CONFIRMED)));
+
+        StepVerifier.create(cache.get("order-001")).expectNextCount(1).verifyComplete();
+        cache.onCommitted(new OrderConfirmedEvent("order-001", Instant.now()));
+
+        StepVerifier.create(cache.get("order-001"))
+            .assertNext(result -> assertThat(result.status()).isEqualTo(OrderStatus.CONFIRMED))
+            .verifyComplete();
+        verify(queryPort, times(2)).findCurrentOrderSummary("order-001");
+    }
+
+    @Test
+    void shouldNotCacheMissingOrders() {
+        when(queryPort.findCurrentOrderSummary("missing")).thenReturn(Mono.empty());
+
+        StepVerifier.create(cache.get("missing")).verifyComplete();
+
+        assertThat(cache.estimatedSize()).isZero();
+    }
+
+    private static OrderSummaryResult summary(String orderId, OrderStatus status) {
+        return new OrderSummaryResult(orderId, "customer-001", "test@example.com", status,
+            new BigDecimal("100.00"), "USD", null, new BigDecimal("100.00"), BigDecimal.ZERO, 1,
+            List.of(), Instant.now(), Instant.now());
+    }
+}
@@ -2,7 +2,6 @@ package com.example.order.application.service;
 
 import com.example.order.application.dto.PayOrderCommand;
 import com.example.order.application.port.out.OrderRepository;
-import com.example.order.application.port.out.OrderQueryPort;
 import com.example.order.domain.model.Order;
 import com.example.common.domain.valueobject.Email;
 import com.example.common.domain.valueobject.Money;
@@ -31,9 +30,6 @@ class PayOrderHandlerTest {
     @Mock
     private OrderRepository commandPort;
 
-    @Mock
-    private OrderQueryPort queryPort;
-
     @InjectMocks
     private PayOrderHandler handler;
 
@@ -43,7 +39,7 @@ class PayOrderHandlerTest {
         String orderId = "order-001";
         Order order = createOrder(orderId, OrderStatus.CONFIRMED);
 
-        when(queryPort.findById(orderId)).thenReturn(Mono.just(order));
+        when(commandPort.findById(orderId)).thenReturn(Mono.just(order));
         when(commandPort.save(any())).thenReturn(Mono.just(order));
 
         // When & Then
@@ -58,7 +54,7 @@ class PayOrderHandlerTest {
     void shouldThrowExceptionWhenOrderNotFound() {
         // Given
         String orderId = "invalid-order";
-        when(queryPort.findById(orderId)).thenReturn(Mono.empty());
+        when(commandPort.findById(orderId)).thenReturn(Mono.empty());
 
         // When & Then
         StepVerifier.create(handler.handle(new PayOrderCommand(orderId)))
@@ -74,7 +70,7 @@ class PayOrderHandlerTest {
         String orderId = "order-001";
         Order order = createOrder(orderId, OrderStatus.PENDING);
 
-        when(queryPort.findById(orderId)).thenReturn(Mono.just(order));
+        when(commandPort.findById(orderId)).thenReturn(Mono.just(order));
 
         // When & Then
         StepVerifier.create(handler.handle(new PayOrderCommand(orderId)))
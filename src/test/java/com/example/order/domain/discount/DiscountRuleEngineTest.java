@@ -0,0 +1,81 @@
+package com.example.order.domain.discount;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class DiscountRuleEngineTest {
+
+    @Test
+    void shouldApplyVipAndBulkRules() {
+        DiscountRuleEngine engine = vipAndBulk();
+
+        assertThat(engine.discountBasisPoints(99_999, 9)).isZero();
+        assertThat(engine.discountBasisPoints(100_000, 9)).isEqualTo(1000);
+        assertThat(engine.discountBasisPoints(5_000, 10)).isEqualTo(500);
+        assertThat(engine.discountBasisPoints(100_000, 10)).isEqualTo(1500);
+    }
+
+    @Test
+    void shouldStackEveryMatchingRuleUpToTheCap() {
+        DiscountRuleEngine engine = new DiscountRuleEngine(List.of(
+                DiscountRule.parse("silver:min-total:100:2"),
+                DiscountRule.parse("gold:min-total:500:3"),
+                DiscountRule.parse("platinum:min-total:900:4.5"),
+                DiscountRule.parse("bulk:min-items:50:10")
+        ), new BigDecimal("12"));
+
+        assertThat(engine.discountBasisPoints(10_000, 1)).isEqualTo(200);
+        assertThat(engine.discountBasisPoints(60_000, 1)).isEqualTo(500);
+        assertThat(engine.discountBasisPoints(95_000, 1)).isEqualTo(950);
+        assertThat(engine.discountBasisPoints(95_000, 50)).isEqualTo(1200);
+    }
+
+    @Test
+    void shouldSwapRulesAtomically() {
+        DiscountRuleEngine engine = vipAndBulk();
+
+        engine.replaceRules(List.of(DiscountRule.parse("all:min-items:1:1")), new BigDecimal("15"));
+
+        assertThat(engine.ruleCount()).isEqualTo(1);
+        assertThat(engine.discountBasisPoints(100_000, 10)).isEqualTo(100);
+    }
+
+    @Test
+    void shouldKeepCurrentRulesWhenReplacementIsInvalid() {
+        DiscountRuleEngine engine = vipAndBulk();
+
+        assertThatThrownBy(() -> engine.replaceRules(
+                List.of(DiscountRule.parse("odd:min-total:10.001:5")), new BigDecimal("15")))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThat(engine.discountBasisPoints(100_000, 0)).isEqualTo(1000);
+    }
+
+    @Test
+    void shouldGrantNothingWithoutRules() {
+        DiscountRuleEngine engine = new DiscountRuleEngine(List.of(), new BigDecimal("15"));
+
+        assertThat(engine.ruleCount()).isZero();
+        assertThat(engine.discountBasisPoints(100_000, 10)).isZero();
+    }
+
+    @Test
+    void shouldRejectMalformedRule() {
+        assertThatThrownBy(() -> DiscountRule.parse("vip:min-total:1000"))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> DiscountRule.parse("vip:first-order:0:3"))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("Unknown discount criterion");
+    }
+
+    private static DiscountRuleEngine vipAndBulk() {
+        return new DiscountRuleEngine(List.of(
+                DiscountRule.parse("vip:min-total:1000.00:10"),
+                DiscountRule.parse("bulk:min-items:10:5")
+        ), new BigDecimal("15"));
+    }
+}
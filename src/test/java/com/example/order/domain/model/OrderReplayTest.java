@@ -0,0 +1,91 @@
+package com.example.order.domain.model;
+
+import com.example.common.domain.event.DomainEvent;
+import com.example.common.domain.event.StoredEvent;
+import com.example.common.domain.valueobject.Email;
+import com.example.common.domain.valueobject.Money;
+import com.example.order.domain.discount.DiscountPolicy;
+import com.example.order.domain.event.OrderDeletedEvent;
+import com.example.order.domain.event.OrderDiscountAppliedEvent;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class OrderReplayTest {
+
+    private static final DiscountPolicy TEN_PERCENT = (totalHundredths, itemCount) -> 1000;
+
+    @Test
+    void shouldRebuildStateFromSnapshotAndLaterEvents() {
+        OrderItem item = OrderItem.of("prod-001", "Product A", 2, Money.of(50, "USD"));
+        Order original = Order.create("customer-001", Email.of("test@example.com"), List.of(item));
+        Order snapshot = Order.reconstitute(
+            original.getId(), original.getCustomerId(), original.getCustomerEmail(),
+            original.getStatus(), List.of(OrderItem.of("prod-001", "Product A", 2, Money.of(50, "USD"))),
+            original.getTotalAmount(), original.getDiscountAmount(), Instant.now(), Instant.now()
+        );
+        original.clearEvents();
+
+        original.applyDiscount(new BigDecimal("0.1"));
+        original.confirm();
+        original.pay();
+
+        long version = 1;
+        for (Object event : original.getRawEvents()) {
+            snapshot.replay(new StoredEvent(version, original.getId(), ++version, (DomainEvent) event));
+        }
+
+        assertThat(snapshot.getStatus()).isEqualTo(OrderStatus.PAID);
+        assertThat(snapshot.getFinalAmount().getAmount()).isEqualByComparingTo("90");
+        OrderTest.assertListedFinalAmountInSync(snapshot);
+        assertThat(snapshot.getStreamVersion()).isEqualTo(4);
+        assertThat(snapshot.getRawEvents()).isEmpty();
+    }
+
+    @Test
+    void shouldRebuildFromCreatedEventWithoutSnapshot() {
+        OrderItem item = OrderItem.of("prod-001", "Product A", 10, Money.of(150, "USD"));
+        Order original = Order.create("customer-001", Email.of("test@example.com"), List.of(item), TEN_PERCENT);
+        original.confirm();
+        List<Object> events = List.copyOf(original.getRawEvents());
+
+        Order rebuilt = Order.fromCreatedEvent(new StoredEvent(1, original.getId(), 1, (DomainEvent) events.get(0)));
+        rebuilt.replay(new StoredEvent(2, original.getId(), 2, (DomainEvent) events.get(1)));
+
+        assertThat(rebuilt.getId()).isEqualTo(original.getId());
+        assertThat(rebuilt.getItems()).singleElement()
+            .satisfies(line -> assertThat(line.getQuantity()).isEqualTo(10));
+        assertThat(rebuilt.getTotalAmount()).isEqualTo(original.getTotalAmount());
+        assertThat(rebuilt.getFinalAmount()).isEqualTo(original.getFinalAmount());
+        OrderTest.assertListedFinalAmountInSync(rebuilt);
+        assertThat(rebuilt.getStatus()).isEqualTo(OrderStatus.CONFIRMED);
+        assertThat(rebuilt.getStreamVersion()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldBeDeletedAfterTombstone() {
+        Order order = Order.create("customer-001", Email.of("test@example.com"),
+            List.of(OrderItem.of("prod-001", "Product A", 1, Money.of(50, "USD"))));
+
+        order.replay(new StoredEvent(2, order.getId(), 2, new OrderDeletedEvent(order.getId(), Instant.now())));
+
+        assertThat(order.isDeleted()).isTrue();
+    }
+
+    @Test
+    void shouldRegisterEventForExplicitDiscountOnly() {
+        OrderItem item = OrderItem.of("prod-001", "Product A", 10, Money.of(150, "USD"));
+        Order order = Order.create("customer-001", Email.of("test@example.com"), List.of(item), TEN_PERCENT);
+
+        assertThat(order.getDiscountAmount()).isNotNull();
+        assertThat(order.getRawEvents()).hasSize(1);
+
+        order.applyDiscount(new BigDecimal("0.05"));
+
+        assertThat(order.getRawEvents()).last().isInstanceOf(OrderDiscountAppliedEvent.class);
+    }
+}
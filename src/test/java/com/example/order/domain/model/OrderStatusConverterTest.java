@@ -0,0 +1,31 @@
+package com.example.order.domain.model;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class OrderStatusConverterTest {
+
+    private final OrderStatusConverter converter = new OrderStatusConverter();
+
+    @ParameterizedTest
+    @EnumSource(OrderStatus.class)
+    void shouldRoundTripEveryStatus(OrderStatus status) {
+        assertThat(converter.convertToEntityAttribute(converter.convertToDatabaseColumn(status))).isEqualTo(status);
+    }
+
+    @Test
+    void shouldKeepStoredCodesStable() {
+        assertThat(converter.convertToDatabaseColumn(OrderStatus.PENDING)).isEqualTo((short) 1);
+        assertThat(converter.convertToDatabaseColumn(OrderStatus.CANCELLED)).isEqualTo((short) 6);
+    }
+
+    @Test
+    void shouldRejectUnknownCode() {
+        assertThatThrownBy(() -> converter.convertToEntityAttribute((short) 99))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+}
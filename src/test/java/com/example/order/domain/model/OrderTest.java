@@ -4,8 +4,11 @@ import com.example.common.domain.valueobject.Email;
 import com.example.common.domain.valueobject.Money;
 import com.example.order.domain.model.OrderStatus;
 import com.example.order.domain.exception.BusinessException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.Test;
 
+import java.lang.reflect.Field;
 import java.math.BigDecimal;
 import java.util.List;
 
@@ -26,6 +29,19 @@ class OrderTest {
         assertThat(order.getItems()).hasSize(1);
     }
 
+    @Test
+    void shouldSerializeItemCountButNotListedFinalAmount() {
+        Order order = Order.create("customer-001", Email.of("test@example.com"), List.of(
+            OrderItem.of("prod-001", "Product A", 2, Money.of(50, "USD")),
+            OrderItem.of("prod-002", "Product B", 1, Money.of(30, "USD"))));
+
+        JsonNode json = new ObjectMapper().findAndRegisterModules().valueToTree(order);
+
+        assertThat(json.get("itemCount").asInt()).isEqualTo(3);
+        assertThat(json.has("listedFinalAmount")).isFalse();
+        assertThat(json.get("items")).hasSize(2);
+    }
+
     @Test
     void shouldThrowExceptionWhenCreatingOrderWithoutItems() {
         assertThatThrownBy(() -> Order.create("customer-001", Email.of("test@example.com"), List.of()))
@@ -202,6 +218,40 @@ class OrderTest {
         assertThat(order.getItemCount()).isEqualTo(5);
     }
 
+    @Test
+    void shouldMergeLinesForSameProductAndPrice() {
+        OrderItem first = OrderItem.of("prod-001", "Product A", 2, Money.of(50, "USD"));
+        OrderItem other = OrderItem.of("prod-002", "Product B", 1, Money.of(30, "USD"));
+        OrderItem again = OrderItem.of("prod-001", "Product A", 3, Money.of(50, "USD"));
+        Order order = Order.create("customer-001", Email.of("test@example.com"), List.of(first, other, again));
+
+        assertThat(order.getItems()).extracting(OrderItem::getProductId).containsExactly("prod-001", "prod-002");
+        assertThat(order.getItems().get(0).getQuantity()).isEqualTo(5);
+        assertThat(order.getItemCount()).isEqualTo(6);
+        assertThat(order.getTotalAmount()).isEqualTo(Money.of(280, "USD"));
+    }
+
+    @Test
+    void shouldKeepLinesForSameProductAtDifferentPrices() {
+        OrderItem regular = OrderItem.of("prod-001", "Product A", 1, Money.of(50, "USD"));
+        OrderItem promo = OrderItem.of("prod-001", "Product A", 1, Money.of(40, "USD"));
+        Order order = Order.create("customer-001", Email.of("test@example.com"), List.of(regular, promo));
+
+        assertThat(order.getItems()).hasSize(2);
+        assertThat(order.getTotalAmount()).isEqualTo(Money.of(90, "USD"));
+    }
+
+    @Test
+    void shouldPriceLargeCartsExactly() {
+        List<OrderItem> lines = java.util.stream.IntStream.range(0, 20_000)
+            .mapToObj(i -> OrderItem.of("prod-" + i, "Product " + i, 1 + i % 2, Money.ofMinor(1, "USD")))
+            .toList();
+        Order order = Order.create("customer-001", Email.of("test@example.com"), lines);
+
+        assertThat(order.getItemCount()).isEqualTo(30_000);
+        assertThat(order.getTotalAmount()).isEqualTo(Money.of(new BigDecimal("300.00"), "USD"));
+    }
+
     @Test
     void shouldReturnFinalAmountAsTotalWhenNoDiscount() {
         OrderItem item = OrderItem.of("prod-001", "Product A", 2, Money.of(50, "USD"));
@@ -210,6 +260,15 @@ class OrderTest {
         assertThat(order.getFinalAmount()).isEqualTo(order.getTotalAmount());
     }
 
+    @Test
+    void shouldNotDiscountAutomaticallyWithoutPolicy() {
+        OrderItem item = OrderItem.of("prod-001", "Product A", 10, Money.of(150, "USD"));
+        Order order = Order.create("customer-001", Email.of("test@example.com"), List.of(item));
+
+        assertThat(order.getDiscountAmount()).isNull();
+        assertThat(order.getFinalAmount()).isEqualTo(order.getTotalAmount());
+    }
+
     @Test
     void shouldReturnUnmodifiableItemsList() {
         OrderItem item = OrderItem.of("prod-001", "Product A", 1, Money.of(50, "USD"));
@@ -220,4 +279,47 @@ class OrderTest {
         assertThatThrownBy(() -> items.add(item))
             .isInstanceOf(UnsupportedOperationException.class);
     }
+
+    @Test
+    void shouldListFinalAmountOfNewOrders() {
+        Order plain = Order.create("customer-001", Email.of("test@example.com"),
+            List.of(OrderItem.of("prod-001", "Product A", 1, Money.of(50, "USD"))));
+        Order autoDiscounted = Order.create("customer-001", Email.of("test@example.com"),
+            List.of(OrderItem.of("prod-001", "Product A", 10, Money.of(150, "USD"))),
+            (totalHundredths, itemCount) -> 1500);
+        Order inYen = Order.create("customer-001", Email.of("test@example.com"),
+            List.of(OrderItem.of("prod-001", "Product A", 3, Money.of(500, "JPY"))));
+
+        assertThat(autoDiscounted.getDiscountAmount()).isNotNull();
+        assertListedFinalAmountInSync(plain);
+        assertListedFinalAmountInSync(autoDiscounted);
+        assertListedFinalAmountInSync(inYen);
+    }
+
+    @Test
+    void shouldKeepListedFinalAmountInSyncWithDiscounts() {
+        Order order = Order.create("customer-001", Email.of("test@example.com"),
+            List.of(OrderItem.of("prod-001", "Product A", 2, Money.of(50, "USD"))));
+
+        order.applyAutoDiscount((totalHundredths, itemCount) -> 500);
+        assertThat(order.getFinalAmount().getAmount()).isEqualByComparingTo("95");
+        assertListedFinalAmountInSync(order);
+
+        order.applyDiscount(new BigDecimal("0.1"));
+        assertThat(order.getFinalAmount().getAmount()).isEqualByComparingTo("90");
+        assertListedFinalAmountInSync(order);
+    }
+
+    /**
+     * Checks the private {@code listedFinalAmount} list column against {@link Order#getFinalAmount()}.
+     */
+    static void assertListedFinalAmountInSync(Order order) {
+        try {
+            Field listed = Order.class.getDeclaredField("listedFinalAmount");
+            listed.setAccessible(true);
+            assertThat(listed.get(order)).isEqualTo(order.getFinalAmount().toStorageUnits());
+        } catch (ReflectiveOperationException e) {
+            throw new AssertionError(e);
+        }
+    }
 }
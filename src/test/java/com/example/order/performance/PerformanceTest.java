@@ -22,10 +22,11 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
-@SpringBootTest
+@SpringBootTest(properties = "persistence.statement-inspector=com.example.order.performance.RecordingStatementInspector")
 @AutoConfigureWebTestClient
 class PerformanceTest {
 
@@ -295,4 +296,30 @@ class PerformanceTest {
             .as("System should recover with similar or better latency")
             .isLessThan(stressAvgLatency * 2);
     }
-}
\ No newline at end of file
+
+    @Test
+    void shouldInsertOrderLinesInOneBatchedStatement() {
+        // Latency across line counts is compared by OrderLineInsertBenchmark; here only the statements are counted
+        for (int lineCount : new int[]{1, 10, 50}) {
+            RecordingStatementInspector.clear();
+
+            webTestClient.post()
+                .uri("/api/orders")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(orderRequestWithLines(lineCount))
+                .exchange()
+                .expectStatus().is2xxSuccessful();
+
+            assertThat(RecordingStatementInspector.statementsStartingWith("insert into order_items"))
+                .as("Inserts into order_items for an order of %d lines", lineCount)
+                .hasSize(1);
+        }
+    }
+
+    private String orderRequestWithLines(int lineCount) {
+        String items = IntStream.range(0, lineCount)
+            .mapToObj(i -> String.format("{\"productId\":\"prod-%03d\",\"productName\":\"Product %d\",\"quantity\":1,\"unitPrice\":1.00,\"currency\":\"USD\"}", i, i))
+            .collect(Collectors.joining(","));
+        return "{\"customerId\":\"customer-lines\",\"customerEmail\":\"lines@example.com\",\"items\":[" + items + "]}";
+    }
+}
@@ -0,0 +1,34 @@
+package com.example.order.performance;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Remembers every statement Hibernate prepares, so tests can count the statements an operation issues rather
+ * than time it. Hibernate instantiates it by class name, hence the shared static log.
+ */
+public class RecordingStatementInspector implements StatementInspector {
+
+    private static final Queue<String> STATEMENTS = new ConcurrentLinkedQueue<>();
+
+    @Override
+    public String inspect(String sql) {
+        STATEMENTS.add(sql);
+        return sql;
+    }
+
+    static void clear() {
+        STATEMENTS.clear();
+    }
+
+    static List<String> statementsStartingWith(String prefix) {
+        String lowerPrefix = prefix.toLowerCase(Locale.ROOT);
+        return STATEMENTS.stream()
+            .filter(sql -> sql.stripLeading().toLowerCase(Locale.ROOT).startsWith(lowerPrefix))
+            .toList();
+    }
+}